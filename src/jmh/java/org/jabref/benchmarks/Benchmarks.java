@@ -1,22 +1,38 @@
 package org.jabref.benchmarks;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.Globals;
+import org.jabref.logic.bibtex.DuplicateCheck;
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
+import org.jabref.logic.bibtex.comparator.BibEntryDiff;
+import org.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
+import org.jabref.logic.bibtexkeypattern.BibtexKeyPatternPreferences;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.journals.Abbreviation;
+import org.jabref.logic.journals.JournalAbbreviationIndex;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
+import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.Defaults;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
@@ -34,6 +50,7 @@ import org.jabref.preferences.JabRefPreferences;
 
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -46,15 +63,53 @@ public class Benchmarks {
 
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
+    private BibDatabaseContext databaseContext;
+    private BibDatabaseContext changedDatabaseContext;
+    private JournalAbbreviationRepository journalAbbreviationRepository;
+    private List<String> journalNames;
     private String latexConversionString;
     private String htmlConversionString;
+    private BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
 
     @Setup
     public void init() throws Exception {
         Globals.prefs = JabRefPreferences.getInstance();
 
+        fillDatabase(database, 1000);
+        databaseContext = new BibDatabaseContext(database);
+        // Build the index up front, so that only the lookup is measured
+        databaseContext.getSearchIndex();
+
+        BibDatabase changedDatabase = new BibDatabase();
+        database.getEntries().forEach(entry -> changedDatabase.insertEntry((BibEntry) entry.clone()));
+        changedDatabase.getEntries().get(0).setField(StandardField.TITLE, "Changed title");
+        changedDatabase.removeEntry(changedDatabase.getEntries().get(1));
+        changedDatabaseContext = new BibDatabaseContext(changedDatabase);
+
+        journalAbbreviationRepository = new JournalAbbreviationRepository();
+        journalAbbreviationRepository.addEntries(JournalAbbreviationLoader.getBuiltInAbbreviations());
+        // Known full names, known abbreviations and unknown names, as found in a typical library
+        journalNames = journalAbbreviationRepository.getAbbreviations().stream()
+                                                    .limit(1000)
+                                                    .flatMap(abbreviation -> Stream.of(abbreviation.getName(), abbreviation.getIsoAbbreviation(), "Unknown " + abbreviation.getName()))
+                                                    .collect(Collectors.toList());
+        // Build the index up front, so that only the lookup is measured
+        journalAbbreviationRepository.isKnownName("");
+
+        bibtexString = getOutputWriter(database).toString();
+
+        latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
+
+        htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        GlobalBibtexKeyPattern keyPattern = new GlobalBibtexKeyPattern(Collections.emptyList());
+        keyPattern.setDefaultValue("[auth][year]_[shorttitle:lower]");
+        bibtexKeyPatternPreferences = new BibtexKeyPatternPreferences("", "", false, true, true, keyPattern, ',');
+    }
+
+    private static void fillDatabase(BibDatabase database, int numberOfEntries) {
         Random randomizer = new Random();
-        for (int i = 0; i < 1000; i++) {
+        for (int i = 0; i < numberOfEntries; i++) {
             BibEntry entry = new BibEntry();
             entry.setCiteKey("id" + i);
             entry.setField(StandardField.TITLE, "This is my title " + i);
@@ -65,15 +120,9 @@ public class Benchmarks {
             entry.setField(new UnknownField("rnd"), "2" + randomizer.nextInt());
             database.insertEntry(entry);
         }
-
-        bibtexString = getOutputWriter().toString();
-
-        latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
-
-        htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
     }
 
-    private StringWriter getOutputWriter() throws IOException {
+    private static StringWriter getOutputWriter(BibDatabase database) throws IOException {
         StringWriter outputWriter = new StringWriter();
         BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(outputWriter, mock(SavePreferences.class), new BibEntryTypesManager());
         databaseWriter.savePartOfDatabase(
@@ -87,9 +136,46 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    /**
+     * Run with <code>-prof gc</code> to compare the allocation rate of the parser
+     */
+    @Benchmark
+    public ParserResult parseLargeFile(LargeBibtexFile largeBibtexFile) throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(largeBibtexFile.bibtexString));
+    }
+
+    @Benchmark
+    public List<BibEntryDiff> compareDatabases() {
+        return BibDatabaseDiff.compare(databaseContext, changedDatabaseContext).getEntryDifferences();
+    }
+
+    @Benchmark
+    public long abbreviateJournalNames() {
+        return journalNames.stream()
+                           .map(journalAbbreviationRepository::getIsoAbbreviation)
+                           .filter(Optional::isPresent)
+                           .count();
+    }
+
+    /**
+     * Measures the startup cost of the built-in journal abbreviations, compare with {@link #parseJournalAbbreviationList()}
+     */
+    @Benchmark
+    public JournalAbbreviationIndex readJournalAbbreviationIndex() throws IOException {
+        try (InputStream stream = Objects.requireNonNull(JournalAbbreviationIndex.class.getResourceAsStream("/journals/journalList.idx"))) {
+            return JournalAbbreviationIndex.read(stream);
+        }
+    }
+
+    @Benchmark
+    public List<Abbreviation> parseJournalAbbreviationList() {
+        return JournalAbbreviationLoader.getBuiltInAbbreviations();
+    }
+
     @Benchmark
     public String write() throws Exception {
-        return getOutputWriter().toString();
+        return getOutputWriter(database).toString();
     }
 
     @Benchmark
@@ -106,6 +192,57 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> grammarBasedSearch() {
+        SearchQuery searchQuery = new SearchQuery("journal = \"Journal Title 500\" and not keywords = other", false, false);
+        return database.getEntries().stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> parallelGrammarBasedSearch() {
+        SearchQuery searchQuery = new SearchQuery("journal = \"Journal Title 500\" and not keywords = other", false, false);
+        return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> indexedSearch() {
+        SearchQuery searchQuery = new SearchQuery("Journal Title 500", false, false);
+        return new DatabaseSearcher(searchQuery, databaseContext).getMatches();
+    }
+
+    @Benchmark
+    public List<BibEntry> indexedSearchForPartOfWord() {
+        SearchQuery searchQuery = new SearchQuery("ourna itle 500", false, false);
+        return new DatabaseSearcher(searchQuery, databaseContext).getMatches();
+    }
+
+    @Benchmark
+    public int isDuplicate() {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        List<BibEntry> entries = database.getEntries();
+        int duplicates = 0;
+        for (int i = 0; i < 10; i++) {
+            for (BibEntry other : entries) {
+                if (duplicateCheck.isDuplicate(entries.get(i), other, BibDatabaseMode.BIBTEX)) {
+                    duplicates++;
+                }
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public double compareEntriesStrictly() {
+        List<BibEntry> entries = database.getEntries();
+        double score = 0;
+        for (int i = 0; i < 10; i++) {
+            for (BibEntry other : entries) {
+                score += DuplicateCheck.compareEntriesStrictly(entries.get(i), other);
+            }
+        }
+        return score;
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -129,12 +266,39 @@ public class Benchmarks {
         return f.format(htmlConversionString);
     }
 
+    /**
+     * Generates the keys of all entries, as done by the command line option <code>--regenerate</code>
+     */
+    @Benchmark
+    public List<String> generateKeys() {
+        BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(bibtexKeyPatternPreferences.getKeyPattern(), database, bibtexKeyPatternPreferences);
+        return database.getEntries().stream().map(keyGenerator::generateKey).collect(Collectors.toList());
+    }
+
     @Benchmark
     public boolean keywordGroupContains() {
         KeywordGroup group = new WordKeywordGroup("testGroup", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "testkeyword", false, ',', false);
         return group.containsAll(database.getEntries());
     }
 
+    @State(Scope.Benchmark)
+    public static class LargeBibtexFile {
+
+        @Param({"10000", "100000"})
+        public int numberOfEntries;
+
+        private String bibtexString;
+
+        @Setup
+        public void init() throws IOException {
+            Globals.prefs = JabRefPreferences.getInstance();
+
+            BibDatabase database = new BibDatabase();
+            fillDatabase(database, numberOfEntries);
+            bibtexString = getOutputWriter(database).toString();
+        }
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
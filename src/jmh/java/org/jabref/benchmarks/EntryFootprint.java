@@ -0,0 +1,51 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Measures the memory footprint of entries contained in a database using JOL.
+ * <p>
+ * The footprint is determined as the difference between the retained sizes of two databases of different size, so that
+ * objects shared by all entries (such as the database itself, field and type constants) are not taken into account.
+ * <p>
+ * Run with <code>java -cp build/libs/JabRef-5.0.0-jmh.jar org.jabref.benchmarks.EntryFootprint</code>
+ * after <code>./gradlew jmhJar</code>.
+ */
+public class EntryFootprint {
+
+    private static final int NUMBER_OF_ENTRIES = 10_000;
+
+    public static void main(String[] args) {
+        long smallDatabaseSize = GraphLayout.parseInstance(createDatabase(NUMBER_OF_ENTRIES)).totalSize();
+        long largeDatabaseSize = GraphLayout.parseInstance(createDatabase(2 * NUMBER_OF_ENTRIES)).totalSize();
+
+        long bytesPerEntry = (largeDatabaseSize - smallDatabaseSize) / NUMBER_OF_ENTRIES;
+        System.out.println("Bytes per entry: " + bytesPerEntry);
+    }
+
+    private static BibDatabase createDatabase(int numberOfEntries) {
+        List<BibEntry> entries = new ArrayList<>(numberOfEntries);
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry();
+            entry.setCiteKey("id" + i);
+            entry.setField(StandardField.TITLE, "This is my title " + i);
+            entry.setField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i);
+            entry.setField(StandardField.JOURNAL, "Journal Title " + i);
+            entry.setField(StandardField.KEYWORDS, "testkeyword");
+            entry.setField(StandardField.YEAR, "1" + i);
+            entry.setField(new UnknownField("rnd"), "2" + i);
+            // fill the caches as searching does
+            entry.getLatexFreeField(StandardField.TITLE);
+            entries.add(entry);
+        }
+        return new BibDatabase(entries);
+    }
+}
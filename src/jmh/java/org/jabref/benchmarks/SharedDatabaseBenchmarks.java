@@ -0,0 +1,90 @@
+package org.jabref.benchmarks;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.shared.DBMSConnection;
+import org.jabref.logic.shared.DBMSConnectionProperties;
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.model.database.shared.DBMSType;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the throughput of writing entries to a shared database.
+ * <p>
+ * Requires a local database server set up like the one used by the database tests (see <code>TestConnector</code>).
+ */
+@State(Scope.Thread)
+public class SharedDatabaseBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 1000;
+
+    @Param({"POSTGRESQL", "MYSQL"})
+    private DBMSType dbmsType;
+
+    private DBMSConnection dbmsConnection;
+    private DBMSProcessor dbmsProcessor;
+    private List<BibEntry> entries;
+
+    @Setup
+    public void connect() throws Exception {
+        DBMSConnectionProperties properties;
+        if (dbmsType == DBMSType.MYSQL) {
+            properties = new DBMSConnectionProperties(dbmsType, "localhost", dbmsType.getDefaultPort(), "jabref", "root", "", false, "");
+        } else {
+            properties = new DBMSConnectionProperties(dbmsType, "localhost", dbmsType.getDefaultPort(), "jabref", "postgres", "", false, "");
+        }
+        dbmsConnection = new DBMSConnection(properties);
+        dbmsProcessor = DBMSProcessor.getProcessorInstance(dbmsConnection);
+        dbmsProcessor.setupSharedDatabase();
+    }
+
+    @Setup(Level.Invocation)
+    public void createEntries() throws SQLException {
+        // Fields are removed by cascade
+        try (Statement statement = dbmsConnection.getConnection().createStatement()) {
+            statement.executeUpdate("DELETE FROM " + escape("ENTRY"));
+        }
+
+        entries = new ArrayList<>(NUMBER_OF_ENTRIES);
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + i)
+                    .withField(StandardField.KEYWORDS, "testkeyword")
+                    .withField(StandardField.YEAR, "1" + i)
+                    .withField(new UnknownField("rnd"), "2" + i));
+        }
+    }
+
+    @TearDown
+    public void disconnect() throws SQLException {
+        dbmsConnection.getConnection().close();
+    }
+
+    @Benchmark
+    public void insertEntries() {
+        dbmsProcessor.insertEntries(entries);
+    }
+
+    private String escape(String expression) {
+        if (dbmsType == DBMSType.MYSQL) {
+            return "`" + expression + "`";
+        }
+        return "\"" + expression + "\"";
+    }
+}
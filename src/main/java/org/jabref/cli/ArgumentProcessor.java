@@ -510,9 +510,7 @@ public class ArgumentProcessor {
             LOGGER.info(Localization.lang("Regenerating BibTeX keys according to metadata"));
 
             BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(parserResult.getDatabaseContext(), Globals.prefs.getBibtexKeyPatternPreferences());
-            for (BibEntry entry : database.getEntries()) {
-                keyGenerator.generateAndSetKey(entry);
-            }
+            keyGenerator.generateAndSetKeys(database.getEntries());
         }
     }
 
@@ -1,5 +1,6 @@
 package org.jabref.gui.autocompleter;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.entry.event.EntryChangedEvent;
 
@@ -25,4 +26,9 @@ public class AutoCompleteUpdater {
     public void listen(EntryChangedEvent entryChangedEvent) {
         suggestionProviders.indexEntry(entryChangedEvent.getBibEntry());
     }
+
+    @Subscribe
+    public void listen(EntriesChangedEvent entriesChangedEvent) {
+        entriesChangedEvent.getBibEntries().forEach(suggestionProviders::indexEntry);
+    }
 }
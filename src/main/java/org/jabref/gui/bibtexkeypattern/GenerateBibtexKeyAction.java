@@ -11,6 +11,7 @@ import org.jabref.gui.undo.UndoableKeyChange;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -76,9 +77,8 @@ public class GenerateBibtexKeyAction implements BaseAction {
         // generate the new cite keys for each entry
         final NamedCompound compound = new NamedCompound(Localization.lang("Autogenerate BibTeX keys"));
         BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(basePanel.getBibDatabaseContext(), Globals.prefs.getBibtexKeyPatternPreferences());
-        for (BibEntry entry : entries) {
-            keyGenerator.generateAndSetKey(entry)
-                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
+        for (FieldChange fieldChange : keyGenerator.generateAndSetKeys(entries)) {
+            compound.addEdit(new UndoableKeyChange(fieldChange));
         }
         compound.end();
 
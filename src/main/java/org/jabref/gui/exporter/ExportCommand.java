@@ -100,7 +100,8 @@ public class ExportCommand extends SimpleCommand {
         Globals.prefs.put(JabRefPreferences.LAST_USED_EXPORT, format.getName());
         Globals.prefs.put(JabRefPreferences.EXPORT_WORKING_DIRECTORY, file.getParent().toString());
 
-        final List<BibEntry> finEntries = entries;
+        // Export a snapshot, so that the entries can be edited while they are exported
+        final List<BibEntry> finEntries = frame.getCurrentBasePanel().getDatabase().createSnapshot(entries).getEntries();
         BackgroundTask
                 .wrap(() -> {
                     format.export(frame.getCurrentBasePanel().getBibDatabaseContext(),
@@ -26,6 +26,7 @@ import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SaveException;
 import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.exporter.SavedEntryPositions;
 import org.jabref.logic.l10n.Encodings;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
@@ -70,11 +71,15 @@ public class SaveDatabaseAction {
                                                .withSaveType(saveType);
 
             AtomicFileWriter fileWriter = new AtomicFileWriter(file, preferences.getEncoding(), preferences.makeBackup());
-            BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager);
 
+            BibtexDatabaseWriter databaseWriter;
             if (selectedOnly) {
+                databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager);
                 databaseWriter.savePartOfDatabase(panel.getBibDatabaseContext(), panel.getSelectedEntries());
             } else {
+                // Unchanged entries are copied from the file written by the last save
+                SavedEntryPositions savedEntryPositions = SavedEntryPositions.of(panel.getDatabase());
+                databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager, savedEntryPositions);
                 databaseWriter.saveDatabase(panel.getBibDatabaseContext());
             }
 
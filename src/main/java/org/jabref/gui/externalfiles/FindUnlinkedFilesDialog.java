@@ -230,6 +230,8 @@ public class FindUnlinkedFilesDialog extends BaseDialog<Void> {
         panelSearchProgress = new VBox(5, labelSearchingDirectoryInfo, progressBarSearching);
         panelSearchProgress.toFront();
         panelSearchProgress.setVisible(false);
+        // The files found so far can be browsed during the search
+        panelSearchProgress.setMouseTransparent(true);
 
 //        panelDirectory.setBorder(BorderFactory.createTitledBorder(BorderFactory.createEtchedBorder(),
 //                Localization.lang("Select directory")));
@@ -283,11 +285,14 @@ public class FindUnlinkedFilesDialog extends BaseDialog<Void> {
         Path directory = getSearchDirectory();
         FileFilter selectedFileFilter = FileFilterConverter.toFileFilter(comboBoxFileTypeSelection.getValue());
 
-        findUnlinkedFilesTask = new UnlinkedFilesCrawler(directory, selectedFileFilter, databaseContext)
+        UnlinkedFilesCrawler crawler = new UnlinkedFilesCrawler(directory, selectedFileFilter, databaseContext);
+        findUnlinkedFilesTask = crawler
                 .onRunning(() -> {
                     panelSearchProgress.setVisible(true);
                     buttonScan.setDisable(true);
-                    tree.setRoot(null);
+                    // The files are added to the tree while the search is running
+                    tree.setRoot(crawler.getRoot());
+                    crawler.getRoot().setExpanded(true);
                 })
                 .onFinished(() -> {
                     panelSearchProgress.setVisible(false);
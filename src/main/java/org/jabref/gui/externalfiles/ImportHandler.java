@@ -148,8 +148,6 @@ public class ImportHandler {
                 database.getDatabase(),
                 Globals.prefs.getBibtexKeyPatternPreferences());
 
-        for (BibEntry entry : entries) {
-            keyGenerator.generateAndSetKey(entry);
-        }
+        keyGenerator.generateAndSetKeys(entries);
     }
 }
@@ -1,107 +1,190 @@
 package org.jabref.gui.importer;
 
-import java.io.File;
 import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Arrays;
-import java.util.Collections;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import javafx.scene.control.CheckBoxTreeItem;
 
 import org.jabref.gui.externalfiles.FindUnlinkedFilesDialog.FileNodeWrapper;
 import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
  * Util class for searching files on the file system which are not linked to a provided {@link BibDatabase}.
+ * <p>
+ * The subdirectories are searched in parallel. The files found so far are added to the tree returned by
+ * {@link #getRoot()} periodically, so that the tree can be shown while the search is still running. Links to
+ * directories are not followed.
  */
 public class UnlinkedFilesCrawler extends BackgroundTask<CheckBoxTreeItem<FileNodeWrapper>> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(UnlinkedFilesCrawler.class);
+
+    private static final long PUBLISH_INTERVAL_MILLIS = 250;
+
     private final Path directory;
-    private final FileFilter fileFilter;
+    private final Supplier<FileFilter> unlinkedFileFilter;
+    private final Consumer<Runnable> treeUpdater;
+    private final ForkJoinPool pool;
     private int counter;
-    private final BibDatabaseContext databaseContext;
+    private final Queue<Path> foundFiles = new ConcurrentLinkedQueue<>();
+
+    private final UnlinkedFilesTree tree;
 
     public UnlinkedFilesCrawler(Path directory, FileFilter fileFilter, BibDatabaseContext databaseContext) {
-        this.directory = directory;
-        this.fileFilter = fileFilter;
-        this.databaseContext = databaseContext;
+        // Searching a network share blocks the threads for a long time, hence the common pool is not used
+        this(directory, () -> new UnlinkedPDFFileFilter(fileFilter, databaseContext), DefaultTaskExecutor::runInJavaFXThread, new ForkJoinPool());
     }
 
-    @Override
-    protected CheckBoxTreeItem<FileNodeWrapper> call() {
-        UnlinkedPDFFileFilter unlinkedPDFFileFilter = new UnlinkedPDFFileFilter(fileFilter, databaseContext);
-        return searchDirectory(directory.toFile(), unlinkedPDFFileFilter);
+    /**
+     * @param unlinkedFileFilter creates the filter accepting the unlinked files, called once the search is started
+     * @param treeUpdater        runs the changes of the tree, e.g., in the JavaFX thread
+     * @param pool               the pool searching the directories, it is shut down at the end of the search
+     */
+    UnlinkedFilesCrawler(Path directory, Supplier<FileFilter> unlinkedFileFilter, Consumer<Runnable> treeUpdater, ForkJoinPool pool) {
+        this.directory = directory;
+        this.unlinkedFileFilter = unlinkedFileFilter;
+        this.treeUpdater = treeUpdater;
+        this.pool = pool;
+        this.tree = new UnlinkedFilesTree(directory);
     }
 
     /**
-     * Searches recursively all files in the specified directory. <br>
-     * <br>
-     * All files matched by the given {@link UnlinkedPDFFileFilter} are taken into the resulting tree. <br>
-     * <br>
-     * The result will be a tree structure of nodes of the type
-     * {@link CheckBoxTreeItem}. <br>
-     * <br>
-     * The user objects that are attached to the nodes is the
-     * {@link FileNodeWrapper}, which wraps the {@link File}-Object. <br>
-     * <br>
-     * For ensuring the capability to cancel the work of this recursive method,
-     * the first position in the integer array 'state' must be set to 1, to keep
-     * the recursion running. When the states value changes, the method will
-     * resolve its recursion and return what it has saved so far.
+     * Returns the tree of the files found so far. All nodes are selected.
+     * <p>
+     * The user objects that are attached to the nodes is the {@link FileNodeWrapper}, which wraps the path of the
+     * file or directory.
      */
-    private CheckBoxTreeItem<FileNodeWrapper> searchDirectory(File directory, UnlinkedPDFFileFilter ff) {
-        // Return null if the directory is not valid.
-        if ((directory == null) || !directory.exists() || !directory.isDirectory()) {
-            return null;
+    public CheckBoxTreeItem<FileNodeWrapper> getRoot() {
+        return tree.getRoot();
+    }
+
+    @Override
+    protected CheckBoxTreeItem<FileNodeWrapper> call() throws Exception {
+        try {
+            if (!Files.isDirectory(directory) || isCanceled()) {
+                return getRoot();
+            }
+
+            ForkJoinTask<Void> search = pool.submit(new SearchDirectoryTask(directory, unlinkedFileFilter.get()));
+            while (!search.isDone()) {
+                if (isCanceled()) {
+                    // The files found after the cancellation are not shown anymore
+                    return getRoot();
+                }
+                try {
+                    search.get(PUBLISH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    publishFoundFiles();
+                }
+            }
+            search.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            pool.shutdownNow();
         }
 
-        File[] filesArray = directory.listFiles(ff);
-        List<File> files;
-        if (filesArray == null) {
-            files = Collections.emptyList();
-        } else {
-            files = Arrays.asList(filesArray);
+        if (!isCanceled()) {
+            // The tree is updated before the success of the task is reported
+            publishFoundFiles();
         }
-        CheckBoxTreeItem<FileNodeWrapper> root = new CheckBoxTreeItem<>(new FileNodeWrapper(directory.toPath(), 0));
+        return getRoot();
+    }
 
-        int filesCount = 0;
+    private void publishFoundFiles() {
+        List<Path> files = new ArrayList<>();
+        Path file;
+        while ((file = foundFiles.poll()) != null) {
+            files.add(file);
+        }
+        if (files.isEmpty()) {
+            return;
+        }
 
-        filesArray = directory.listFiles(pathname -> (pathname != null) && pathname.isDirectory());
-        List<File> subDirectories;
-        if (filesArray == null) {
-            subDirectories = Collections.emptyList();
+        treeUpdater.accept(() -> tree.addFiles(files));
+
+        counter += files.size();
+        if (counter == 1) {
+            updateMessage(Localization.lang("One file found"));
         } else {
-            subDirectories = Arrays.asList(filesArray);
+            updateMessage(Localization.lang("%0 files found", Integer.toString(counter)));
         }
-        for (File subDirectory : subDirectories) {
-            if (isCanceled()) {
-                return root;
-            }
+    }
 
-            CheckBoxTreeItem<FileNodeWrapper> subRoot = searchDirectory(subDirectory, ff);
-            if ((subRoot != null) && (!subRoot.getChildren().isEmpty())) {
-                filesCount += subRoot.getValue().fileCount;
-                root.getChildren().add(subRoot);
-            }
-        }
+    /**
+     * Searches the files of a directory and, in parallel, its subdirectories. All files matched by the given
+     * filter are added to the found files.
+     */
+    private class SearchDirectoryTask extends RecursiveAction {
 
-        root.setValue(new FileNodeWrapper(directory.toPath(), files.size() + filesCount));
+        private final Path directory;
+        private final FileFilter fileFilter;
+
+        SearchDirectoryTask(Path directory, FileFilter fileFilter) {
+            this.directory = directory;
+            this.fileFilter = fileFilter;
+        }
 
-        for (File file : files) {
-            root.getChildren().add(new CheckBoxTreeItem<>(new FileNodeWrapper(file.toPath())));
+        @Override
+        protected void compute() {
+            if (isCanceled()) {
+                return;
+            }
 
-            counter++;
-            if (counter == 1) {
-                updateMessage(Localization.lang("One file found"));
-            } else {
-                updateMessage(Localization.lang("%0 files found", Integer.toString(counter)));
+            List<SearchDirectoryTask> subtasks = new ArrayList<>();
+            try {
+                // Only the entries of this directory are visited, the subdirectories are searched by subtasks
+                Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 1, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                        if (attributes.isDirectory()) {
+                            subtasks.add(new SearchDirectoryTask(file, fileFilter));
+                        } else if ((!attributes.isSymbolicLink() || !Files.isDirectory(file)) && fileFilter.accept(file.toFile())) {
+                            foundFiles.add(file);
+                        }
+                        return isCanceled() ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exception) {
+                        LOGGER.debug("Could not search " + file, exception);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                LOGGER.warn("Could not search directory " + directory, e);
             }
-        }
 
-        return root;
+            invokeAll(subtasks);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package org.jabref.gui.importer;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.scene.control.CheckBoxTreeItem;
+import javafx.scene.control.TreeItem;
+
+import org.jabref.gui.externalfiles.FindUnlinkedFilesDialog.FileNodeWrapper;
+
+/**
+ * Tree of the files found by the {@link UnlinkedFilesCrawler}. The files can be added in any order, the nodes of
+ * their directories are created as needed. All nodes are selected.
+ * <p>
+ * The tree is not thread-safe. If it is shown, it must only be changed in the JavaFX thread.
+ */
+class UnlinkedFilesTree {
+
+    private final CheckBoxTreeItem<FileNodeWrapper> root;
+    private final Map<Path, CheckBoxTreeItem<FileNodeWrapper>> directoryItems = new HashMap<>();
+
+    /**
+     * @param directory the searched directory, all files have to be below it
+     */
+    UnlinkedFilesTree(Path directory) {
+        root = new CheckBoxTreeItem<>(new FileNodeWrapper(directory, 0), null, true);
+        directoryItems.put(directory, root);
+    }
+
+    /**
+     * Returns the root node, whose user object is the {@link FileNodeWrapper} of the searched directory
+     */
+    CheckBoxTreeItem<FileNodeWrapper> getRoot() {
+        return root;
+    }
+
+    /**
+     * Adds the given files to the tree and updates the number of files shown for the directories
+     */
+    void addFiles(List<Path> files) {
+        Map<TreeItem<FileNodeWrapper>, Integer> addedFiles = new IdentityHashMap<>();
+        for (Path file : files) {
+            CheckBoxTreeItem<FileNodeWrapper> directoryItem = getDirectoryItem(file.getParent());
+            directoryItem.getChildren().add(new CheckBoxTreeItem<>(new FileNodeWrapper(file), null, true));
+            for (TreeItem<FileNodeWrapper> item = directoryItem; item != null; item = item.getParent()) {
+                addedFiles.merge(item, 1, Integer::sum);
+            }
+        }
+
+        addedFiles.forEach((item, count) -> {
+            FileNodeWrapper node = item.getValue();
+            item.setValue(new FileNodeWrapper(node.path, node.fileCount + count));
+        });
+    }
+
+    private CheckBoxTreeItem<FileNodeWrapper> getDirectoryItem(Path directory) {
+        CheckBoxTreeItem<FileNodeWrapper> item = directoryItems.get(directory);
+        if (item == null) {
+            // All found files are below the searched directory, hence the recursion ends at the root
+            item = new CheckBoxTreeItem<>(new FileNodeWrapper(directory, 0), null, true);
+            getDirectoryItem(directory.getParent()).getChildren().add(item);
+            directoryItems.put(directory, item);
+        }
+        return item;
+    }
+}
@@ -5,8 +5,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javafx.beans.Observable;
+import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectBinding;
-import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ObservableValue;
 
 import org.jabref.gui.specialfields.SpecialFieldValueViewModel;
@@ -25,9 +26,15 @@ import org.fxmisc.easybind.EasyBind;
 
 public class BibEntryTableViewModel {
     private final BibEntry entry;
+    private final Observable groupTree;
+    private ObjectBinding<List<AbstractGroup>> matchedGroups;
 
-    public BibEntryTableViewModel(BibEntry entry) {
+    /**
+     * @param groupTree invalidated whenever the group tree of the database changes
+     */
+    public BibEntryTableViewModel(BibEntry entry, Observable groupTree) {
         this.entry = entry;
+        this.groupTree = groupTree;
     }
 
     public BibEntry getEntry() {
@@ -51,19 +58,27 @@ public class BibEntryTableViewModel {
     }
 
     public ObservableValue<List<AbstractGroup>> getMatchedGroups(BibDatabaseContext database) {
-        SimpleObjectProperty<List<AbstractGroup>> matchedGroups = new SimpleObjectProperty<>(Collections.emptyList());
+        if (matchedGroups == null) {
+            // The groups are determined again only if the group tree has changed. A change of the entry replaces
+            // this view model in the table.
+            matchedGroups = Bindings.createObjectBinding(() -> createMatchedGroups(database), groupTree);
+        }
+        return matchedGroups;
+    }
 
+    private List<AbstractGroup> createMatchedGroups(BibDatabaseContext database) {
         Optional<GroupTreeNode> root = database.getMetaData()
                                                .getGroups();
-        if (root.isPresent()) {
-            List<AbstractGroup> groups = root.get().getMatchingGroups(entry)
+        if (!root.isPresent()) {
+            return Collections.emptyList();
+        }
+
+        List<AbstractGroup> groups = database.getGroupMembershipIndex()
+                                             .getMatchingGroups(root.get(), entry)
                                              .stream()
                                              .map(GroupTreeNode::getGroup)
                                              .collect(Collectors.toList());
-            groups.remove(root.get().getGroup());
-            matchedGroups.setValue(groups);
-        }
-
-        return matchedGroups;
+        groups.remove(root.get().getGroup());
+        return groups;
     }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 
 import javafx.beans.binding.Bindings;
+import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.ObservableList;
@@ -13,25 +14,43 @@ import javafx.collections.transformation.SortedList;
 import org.jabref.Globals;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.eventbus.Subscribe;
 
 public class MainTableDataModel {
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final SortedList<BibEntryTableViewModel> entriesSorted;
+    // Counts the changes of the group tree, so that the groups of the entries are determined again
+    private final IntegerProperty groupTreeChanges = new SimpleIntegerProperty();
 
     public MainTableDataModel(BibDatabaseContext context) {
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
+        context.getMetaData().registerListener(this);
+
+        ObservableList<BibEntryTableViewModel> entriesViewModel = BindingsHelper.mapBacked(allEntries,
+                entry -> new BibEntryTableViewModel(entry, groupTreeChanges));
         
-        ObservableList<BibEntryTableViewModel> entriesViewModel = BindingsHelper.mapBacked(allEntries, BibEntryTableViewModel::new);
-        
+        // The matcher is recreated only if the query changes, so that it can reuse the candidates found using the index
+        ObjectBinding<Optional<SearchMatcher>> searchMatcher = Bindings.createObjectBinding(
+                () -> Globals.stateManager.activeSearchQueryProperty().getValue()
+                                          .map(query -> query.getMatcher(context.getSearchIndex())),
+                Globals.stateManager.activeSearchQueryProperty());
+
+        // The matcher is recreated only if the selected groups change, so that it can reuse the entries found using the index
+        ObjectBinding<Optional<SearchMatcher>> groupMatcher = Bindings.createObjectBinding(
+                () -> createGroupMatcher(Globals.stateManager.activeGroupProperty().getValue(), context),
+                Globals.stateManager.activeGroupProperty());
+
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
-                Bindings.createObjectBinding(() -> this::isMatched,
-                        Globals.stateManager.activeGroupProperty(), Globals.stateManager.activeSearchQueryProperty())
+                Bindings.createObjectBinding(() -> entry -> isMatched(entry, groupMatcher.get(), searchMatcher.get()),
+                        groupMatcher, searchMatcher)
 
         );
 
@@ -42,34 +61,29 @@ public class MainTableDataModel {
         entriesSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(BibEntryTableViewModel entry) {
-        return isMatchedByGroup(entry) && isMatchedBySearch(entry);
+    private boolean isMatched(BibEntryTableViewModel entry, Optional<SearchMatcher> groupMatcher, Optional<SearchMatcher> searchMatcher) {
+        return isMatchedBy(entry, groupMatcher) && isMatchedBy(entry, searchMatcher);
     }
 
-    private boolean isMatchedBySearch(BibEntryTableViewModel entry) {
-        return Globals.stateManager.activeSearchQueryProperty().getValue()
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
+    private boolean isMatchedBy(BibEntryTableViewModel entry, Optional<SearchMatcher> matcher) {
+        return matcher
+                .map(presentMatcher -> presentMatcher.isMatch(entry.getEntry()))
                 .orElse(true);
     }
 
-    private boolean isMatchedByGroup(BibEntryTableViewModel entry) {
-        return createGroupMatcher(Globals.stateManager.activeGroupProperty().getValue())
-                .map(matcher -> matcher.isMatch(entry.getEntry()))
-                .orElse(true);
-    }
-
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    private Optional<SearchMatcher> createGroupMatcher(List<GroupTreeNode> selectedGroups, BibDatabaseContext context) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(Globals.prefs.getGroupViewMode() == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
+        boolean requireAll = Globals.prefs.getGroupViewMode() == GroupViewMode.INTERSECTION;
+        return Optional.of(context.getGroupMembershipIndex().getMatcher(selectedGroups, requireAll));
+    }
 
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+    @Subscribe
+    public void listen(GroupUpdatedEvent groupUpdatedEvent) {
+        DefaultTaskExecutor.runInJavaFXThread(() -> groupTreeChanges.set(groupTreeChanges.get() + 1));
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
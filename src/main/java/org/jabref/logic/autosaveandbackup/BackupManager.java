@@ -1,39 +1,36 @@
 package org.jabref.logic.autosaveandbackup;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.bibtex.InvalidFieldValueException;
-import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SavePreferences;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
-import org.jabref.model.database.event.CoarseChangeFilter;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.preferences.JabRefPreferences;
 
-import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Backups the given bib database file from {@link BibDatabaseContext} on every {@link BibDatabaseContextChangedEvent}.
- * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
- * rejects all redundant backup tasks.
+ * Backups the given bib database file from {@link BibDatabaseContext} after {@link BibDatabaseContextChangedEvent}s.
+ * The backups are scheduled by the {@link PersistenceScheduler}, which coalesces bursts of changes and shares the
+ * serialization with the {@link AutosaveManager}.
  * This class does not manage the .bak file which is created when opening a database.
  */
 public class BackupManager {
@@ -41,25 +38,20 @@ public class BackupManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(BackupManager.class);
 
     private static final String BACKUP_EXTENSION = ".sav";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
 
     private static Set<BackupManager> runningInstances = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
     private final JabRefPreferences preferences;
-    private final ExecutorService executor;
-    private final Runnable backupTask = () -> determineBackupPath().ifPresent(this::performBackup);
-    private final CoarseChangeFilter changeFilter;
     private final BibEntryTypesManager entryTypesManager;
+    // Guarded by this
+    private boolean stopped;
 
     private BackupManager(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, JabRefPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
         this.preferences = preferences;
-        BlockingQueue<Runnable> workerQueue = new ArrayBlockingQueue<>(1);
-        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, workerQueue);
-
-        changeFilter = new CoarseChangeFilter(bibDatabaseContext);
-        changeFilter.registerListener(this);
     }
 
     static Path getBackupPath(Path originalPath) {
@@ -76,7 +68,7 @@ public class BackupManager {
      */
     public static BackupManager start(BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, JabRefPreferences preferences) {
         BackupManager backupManager = new BackupManager(bibDatabaseContext, entryTypesManager, preferences);
-        backupManager.startBackupTask();
+        PersistenceScheduler.getInstance().startBackup(bibDatabaseContext, backupManager);
         runningInstances.add(backupManager);
         return backupManager;
     }
@@ -120,15 +112,83 @@ public class BackupManager {
         return bibDatabaseContext.getDatabasePath().map(BackupManager::getBackupPath);
     }
 
-    private void performBackup(Path backupPath) {
+    /**
+     * Serializes the library for a backup
+     *
+     * @return the serialized library or {@link Optional#empty()} if the library has no file or cannot be serialized
+     */
+    Optional<byte[]> serialize() {
+        Optional<Path> backupPath = determineBackupPath();
+        if (backupPath.isEmpty()) {
+            return Optional.empty();
+        }
+
         try {
             Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
             SavePreferences savePreferences = preferences.loadForSaveFromPreferences().withEncoding
                     (charset).withMakeBackup(false);
-            new BibtexDatabaseWriter(new AtomicFileWriter(backupPath, savePreferences.getEncoding()), savePreferences, entryTypesManager)
+            StringWriter writer = new StringWriter();
+            new BibtexDatabaseWriter(writer, savePreferences, entryTypesManager)
                     .saveDatabase(bibDatabaseContext);
+            return Optional.of(writer.toString().getBytes(charset));
+        } catch (IOException e) {
+            logIfCritical(backupPath.get(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the library file, which has just been saved and thus can be used as backup
+     *
+     * @return the contents of the file or {@link Optional#empty()} if it cannot be read
+     */
+    Optional<byte[]> readSavedFile() {
+        Optional<Path> databasePath = bibDatabaseContext.getDatabasePath();
+        if (databasePath.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readAllBytes(databasePath.get()));
+        } catch (IOException e) {
+            LOGGER.debug("Could not read saved file " + databasePath.get(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the backup file by the given contents, which are forced to the storage device before
+     *
+     * @return the time needed to force the contents to the storage device
+     */
+    synchronized Duration writeBackup(byte[] contents) {
+        Optional<Path> backupPath = determineBackupPath();
+        if (stopped || backupPath.isEmpty()) {
+            return Duration.ZERO;
+        }
+
+        Path temporaryPath = FileUtil.addExtension(backupPath.get(), TEMPORARY_EXTENSION);
+        Duration fsyncTime;
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(contents);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                long start = System.nanoTime();
+                channel.force(false);
+                fsyncTime = Duration.ofNanos(System.nanoTime() - start);
+            }
+            try {
+                Files.move(temporaryPath, backupPath.get(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, backupPath.get(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return fsyncTime;
         } catch (IOException e) {
-            logIfCritical(backupPath, e);
+            LOGGER.error("Error while saving to file" + backupPath.get(), e);
+            return Duration.ZERO;
         }
     }
 
@@ -145,27 +205,13 @@ public class BackupManager {
         }
     }
 
-    @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
-        startBackupTask();
-    }
-
-    private void startBackupTask() {
-        try {
-            executor.submit(backupTask);
-        } catch (RejectedExecutionException e) {
-            LOGGER.debug("Rejecting while another backup process is already running.");
-        }
-    }
-
     /**
-     * Unregisters the BackupManager from the eventBus of {@link BibDatabaseContext} and deletes the backup file.
+     * Stops the backups of the {@link BibDatabaseContext} and deletes the backup file.
      * This method should only be used when closing a database/JabRef legally.
      */
-    private void shutdown() {
-        changeFilter.unregisterListener(this);
-        changeFilter.shutdown();
-        executor.shutdown();
+    private synchronized void shutdown() {
+        PersistenceScheduler.getInstance().stopBackup(bibDatabaseContext);
+        stopped = true;
         determineBackupPath().ifPresent(this::deleteBackupFile);
     }
 
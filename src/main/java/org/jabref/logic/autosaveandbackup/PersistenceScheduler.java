@@ -0,0 +1,233 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules the autosaves and backups of all libraries on a single thread.
+ * <p>
+ * Bursts of changes are coalesced: a library is persisted {@link #DEBOUNCE_DELAY} after its last change, but at the
+ * latest {@link #MAXIMUM_DELAY} after its first change that has not been persisted yet. Changes made while a library is
+ * persisted schedule another run, thus the last change is always persisted. All changes are taken into account, even
+ * small edits of the field changed last, as the delays already coalesce the changes. If the library has just been autosaved,
+ * the saved file is used as backup instead of serializing the library a second time.
+ */
+public class PersistenceScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistenceScheduler.class);
+
+    private static final Duration DEBOUNCE_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAXIMUM_DELAY = Duration.ofSeconds(10);
+    private static final PersistenceScheduler INSTANCE = new PersistenceScheduler(DEBOUNCE_DELAY, MAXIMUM_DELAY);
+
+    private final Duration debounceDelay;
+    private final Duration maximumDelay;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "JabRef persistence");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Guarded by this, as well as the state of the libraries
+    private final Map<BibDatabaseContext, ScheduledLibrary> libraries = new IdentityHashMap<>();
+
+    PersistenceScheduler(Duration debounceDelay, Duration maximumDelay) {
+        this.debounceDelay = debounceDelay;
+        this.maximumDelay = maximumDelay;
+    }
+
+    public static PersistenceScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the durations of the last autosave or backup of the given library
+     */
+    public synchronized Optional<PersistenceTimings> getLastTimings(BibDatabaseContext context) {
+        return Optional.ofNullable(libraries.get(context)).map(library -> library.lastTimings);
+    }
+
+    /**
+     * Runs the given autosave after changes of the given library
+     */
+    synchronized void startAutosave(BibDatabaseContext context, Runnable autosave) {
+        libraries.computeIfAbsent(context, ScheduledLibrary::new).autosave = autosave;
+    }
+
+    synchronized void stopAutosave(BibDatabaseContext context) {
+        ScheduledLibrary library = libraries.get(context);
+        if (library != null) {
+            library.autosave = null;
+            library.stopIfUnused();
+        }
+    }
+
+    /**
+     * Backups the given library now and after its changes
+     */
+    synchronized void startBackup(BibDatabaseContext context, BackupManager backupManager) {
+        ScheduledLibrary library = libraries.computeIfAbsent(context, ScheduledLibrary::new);
+        library.backupManager = backupManager;
+        library.scheduleRun(Duration.ZERO);
+    }
+
+    synchronized void stopBackup(BibDatabaseContext context) {
+        ScheduledLibrary library = libraries.get(context);
+        if (library != null) {
+            library.backupManager = null;
+            library.stopIfUnused();
+        }
+    }
+
+    private static Optional<FileTime> getLastModifiedTime(Optional<Path> file) {
+        try {
+            return file.isPresent() ? Optional.of(Files.getLastModifiedTime(file.get())) : Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private class ScheduledLibrary {
+
+        private final BibDatabaseContext context;
+        private Runnable autosave;
+        private BackupManager backupManager;
+        private long changes;
+        private long persistedChanges;
+        private Instant firstChange;
+        private Instant lastChange;
+        private ScheduledFuture<?> scheduledRun;
+        private PersistenceTimings lastTimings;
+
+        ScheduledLibrary(BibDatabaseContext context) {
+            this.context = context;
+            context.getDatabase().registerListener(this);
+            context.getMetaData().registerListener(this);
+        }
+
+        @Subscribe
+        public void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+            synchronized (PersistenceScheduler.this) {
+                Instant now = Instant.now();
+                if (changes == persistedChanges) {
+                    firstChange = now;
+                }
+                changes++;
+                lastChange = now;
+                if (scheduledRun == null) {
+                    scheduleRun(debounceDelay);
+                }
+            }
+        }
+
+        private void scheduleRun(Duration delay) {
+            if (scheduledRun != null) {
+                scheduledRun.cancel(false);
+            }
+            scheduledRun = executor.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private void stopIfUnused() {
+            if ((autosave == null) && (backupManager == null)) {
+                if (scheduledRun != null) {
+                    scheduledRun.cancel(false);
+                }
+                context.getDatabase().unregisterListener(this);
+                context.getMetaData().unregisterListener(this);
+                libraries.remove(context);
+            }
+        }
+
+        private void run() {
+            Runnable autosaveToRun;
+            BackupManager backupManagerToRun;
+            Duration queueDelay = Duration.ZERO;
+            long changesToPersist;
+            synchronized (PersistenceScheduler.this) {
+                if (libraries.get(context) != this) {
+                    return;
+                }
+                scheduledRun = null;
+                Instant now = Instant.now();
+                boolean hasChanges = changes != persistedChanges;
+                if (hasChanges) {
+                    Instant due = lastChange.plus(debounceDelay);
+                    Instant latest = firstChange.plus(maximumDelay);
+                    if (latest.isBefore(due)) {
+                        due = latest;
+                    }
+                    if (now.isBefore(due)) {
+                        scheduleRun(Duration.between(now, due));
+                        return;
+                    }
+                    queueDelay = Duration.between(firstChange, now);
+                }
+                autosaveToRun = hasChanges ? autosave : null;
+                backupManagerToRun = backupManager;
+                changesToPersist = changes;
+                persistedChanges = changes;
+            }
+
+            try {
+                PersistenceTimings timings = persist(autosaveToRun, backupManagerToRun, changesToPersist, queueDelay);
+                LOGGER.debug("Persisted " + context.getDatabasePath().orElse(null) + ": " + timings);
+                synchronized (PersistenceScheduler.this) {
+                    lastTimings = timings;
+                }
+            } catch (RuntimeException e) {
+                LOGGER.error("Problem occurred while persisting library", e);
+            }
+        }
+
+        private PersistenceTimings persist(Runnable autosaveToRun, BackupManager backupManagerToRun, long changesToPersist, Duration queueDelay) {
+            Duration autosaveTime = Duration.ZERO;
+            boolean isSavedFileUpToDate = false;
+            if (autosaveToRun != null) {
+                Optional<Path> file = context.getDatabasePath();
+                Optional<FileTime> lastModifiedTime = getLastModifiedTime(file);
+                long start = System.nanoTime();
+                autosaveToRun.run();
+                autosaveTime = Duration.ofNanos(System.nanoTime() - start);
+                synchronized (PersistenceScheduler.this) {
+                    // The library might have been changed while it has been saved
+                    isSavedFileUpToDate = (changes == changesToPersist) && file.equals(context.getDatabasePath());
+                }
+                Optional<FileTime> newLastModifiedTime = getLastModifiedTime(file);
+                isSavedFileUpToDate &= newLastModifiedTime.isPresent() && !Objects.equals(lastModifiedTime, newLastModifiedTime);
+            }
+
+            Duration serializationTime = Duration.ZERO;
+            Duration fsyncTime = Duration.ZERO;
+            if (backupManagerToRun != null) {
+                Optional<byte[]> backup = isSavedFileUpToDate ? backupManagerToRun.readSavedFile() : Optional.empty();
+                if (backup.isEmpty()) {
+                    long start = System.nanoTime();
+                    backup = backupManagerToRun.serialize();
+                    serializationTime = Duration.ofNanos(System.nanoTime() - start);
+                }
+                if (backup.isPresent()) {
+                    fsyncTime = backupManagerToRun.writeBackup(backup.get());
+                }
+            }
+            return new PersistenceTimings(queueDelay, autosaveTime, serializationTime, fsyncTime);
+        }
+    }
+}
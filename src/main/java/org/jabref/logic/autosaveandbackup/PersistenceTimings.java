@@ -0,0 +1,59 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.time.Duration;
+
+/**
+ * Durations of persisting a library once, see {@link PersistenceScheduler}.
+ */
+public class PersistenceTimings {
+
+    private final Duration queueDelay;
+    private final Duration autosaveTime;
+    private final Duration serializationTime;
+    private final Duration fsyncTime;
+
+    public PersistenceTimings(Duration queueDelay, Duration autosaveTime, Duration serializationTime, Duration fsyncTime) {
+        this.queueDelay = queueDelay;
+        this.autosaveTime = autosaveTime;
+        this.serializationTime = serializationTime;
+        this.fsyncTime = fsyncTime;
+    }
+
+    /**
+     * Returns the time between the first change that has been persisted and the start of persisting it
+     */
+    public Duration getQueueDelay() {
+        return queueDelay;
+    }
+
+    /**
+     * Returns the time needed to save the library file, zero if it has not been autosaved
+     */
+    public Duration getAutosaveTime() {
+        return autosaveTime;
+    }
+
+    /**
+     * Returns the time needed to serialize the library for the backup, zero if the autosaved file has been used
+     */
+    public Duration getSerializationTime() {
+        return serializationTime;
+    }
+
+    /**
+     * Returns the time needed to force the backup to the storage device
+     */
+    public Duration getFsyncTime() {
+        return fsyncTime;
+    }
+
+    @Override
+    public String toString() {
+        return "PersistenceTimings{" +
+                "queueDelay=" + queueDelay +
+                ", autosaveTime=" + autosaveTime +
+                ", serializationTime=" + serializationTime +
+                ", fsyncTime=" + fsyncTime +
+                '}';
+    }
+}
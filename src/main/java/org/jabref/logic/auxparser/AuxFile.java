@@ -0,0 +1,106 @@
+package org.jabref.logic.auxparser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Citations and nested AUX files found in a single AUX file.
+ * <p>
+ * The contents of the AUX files are shared by all parsers of the process. A file is read again only if its
+ * modification time or size has been changed. Hence, if a LaTeX run changes only some of the nested AUX files (e.g.,
+ * the ones of the chapters which have been edited), only these are read again.
+ */
+class AuxFile {
+
+    private static final Pattern CITE_PATTERN = Pattern.compile("\\\\(citation|abx@aux@cite)\\{(.+)\\}");
+    private static final Pattern INPUT_PATTERN = Pattern.compile("\\\\@input\\{(.+)\\}");
+
+    // The contents of a file are small, but the number of different AUX files read during a session is not bounded
+    private static final Cache<Path, AuxFile> AUX_FILES = CacheBuilder.newBuilder().maximumSize(1000).build();
+
+    private final FileTime lastModifiedTime;
+    private final long size;
+    private final List<String> citedKeys = new ArrayList<>();
+    private final List<String> inputs = new ArrayList<>();
+
+    private AuxFile(BasicFileAttributes attributes) {
+        this.lastModifiedTime = attributes.lastModifiedTime();
+        this.size = attributes.size();
+    }
+
+    /**
+     * Returns the contents of the given AUX file, which are read again only if the file has been changed since it has
+     * been read the last time.
+     */
+    static AuxFile read(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+
+        AuxFile auxFile = AUX_FILES.getIfPresent(key);
+        if ((auxFile == null) || !auxFile.lastModifiedTime.equals(attributes.lastModifiedTime())
+                || (auxFile.size != attributes.size())) {
+            auxFile = new AuxFile(attributes);
+            auxFile.parse(key);
+            AUX_FILES.put(key, auxFile);
+        }
+        return auxFile;
+    }
+
+    private void parse(Path file) throws IOException {
+        try (BufferedReader br = Files.newBufferedReader(file)) {
+            String line;
+
+            while ((line = br.readLine()) != null) {
+                matchCitation(line);
+                matchNestedAux(line);
+            }
+        }
+    }
+
+    private void matchCitation(String line) {
+        Matcher citeMatch = CITE_PATTERN.matcher(line);
+
+        while (citeMatch.find()) {
+            String keyString = citeMatch.group(2);
+            String[] keys = keyString.split(",");
+
+            for (String key : keys) {
+                citedKeys.add(key.trim());
+            }
+        }
+    }
+
+    private void matchNestedAux(String line) {
+        Matcher inputMatch = INPUT_PATTERN.matcher(line);
+
+        while (inputMatch.find()) {
+            inputs.add(inputMatch.group(1));
+        }
+    }
+
+    /**
+     * Returns the keys of all citations in this file
+     */
+    List<String> getCitedKeys() {
+        return Collections.unmodifiableList(citedKeys);
+    }
+
+    /**
+     * Returns the names of the nested AUX files as written in this file, i.e., relative to the main AUX file
+     */
+    List<String> getInputs() {
+        return Collections.unmodifiableList(inputs);
+    }
+}
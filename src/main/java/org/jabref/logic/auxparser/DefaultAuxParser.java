@@ -1,16 +1,13 @@
 package org.jabref.logic.auxparser;
 
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.jabref.model.auxparser.AuxParser;
 import org.jabref.model.auxparser.AuxParserResult;
@@ -31,13 +28,12 @@ import org.slf4j.LoggerFactory;
  * file consists of LaTeX macros and is read at the \begin{document} and again at the \end{document}.
  *
  * BibTeX citation: \citation{x,y,z} Biblatex citation: \abx@aux@cite{x,y,z} Nested AUX files: \@input{x}
+ *
+ * The contents of the AUX files are cached, see {@link AuxFile}.
  */
 public class DefaultAuxParser implements AuxParser {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAuxParser.class);
 
-    private static final Pattern CITE_PATTERN = Pattern.compile("\\\\(citation|abx@aux@cite)\\{(.+)\\}");
-    private static final Pattern INPUT_PATTERN = Pattern.compile("\\\\@input\\{(.+)\\}");
-
     private final BibDatabase masterDatabase;
 
     /**
@@ -66,14 +62,13 @@ public class DefaultAuxParser implements AuxParser {
         while (fileIndex < fileList.size()) {
             Path file = fileList.get(fileIndex);
 
-            try (BufferedReader br = Files.newBufferedReader(file)) {
-                String line;
-
-                while ((line = br.readLine()) != null) {
-                    matchCitation(result, line);
-                    matchNestedAux(auxFile, result, fileList, line);
+            try {
+                AuxFile content = AuxFile.read(file);
+                result.getUniqueKeys().addAll(content.getCitedKeys());
+                for (String input : content.getInputs()) {
+                    addNestedAux(auxFile, result, fileList, input);
                 }
-            } catch (FileNotFoundException e) {
+            } catch (FileNotFoundException | NoSuchFileException e) {
                 LOGGER.warn("Cannot locate input file", e);
             } catch (IOException e) {
                 LOGGER.warn("Problem opening file", e);
@@ -86,37 +81,18 @@ public class DefaultAuxParser implements AuxParser {
         return result;
     }
 
-    private void matchNestedAux(Path baseAuxFile, AuxParserResult result, List<Path> fileList, String line) {
-        Matcher inputMatch = INPUT_PATTERN.matcher(line);
-
-        while (inputMatch.find()) {
-            String inputString = inputMatch.group(1);
-
-            Path inputFile;
-            Path rootPath = baseAuxFile.getParent();
-            if (rootPath != null) {
-                inputFile = rootPath.resolve(inputString);
-            } else {
-                inputFile = Paths.get(inputString);
-            }
-
-            if (!fileList.contains(inputFile)) {
-                fileList.add(inputFile);
-                result.increaseNestedAuxFilesCounter();
-            }
+    private void addNestedAux(Path baseAuxFile, AuxParserResult result, List<Path> fileList, String inputString) {
+        Path inputFile;
+        Path rootPath = baseAuxFile.getParent();
+        if (rootPath != null) {
+            inputFile = rootPath.resolve(inputString);
+        } else {
+            inputFile = Paths.get(inputString);
         }
-    }
 
-    private void matchCitation(AuxParserResult result, String line) {
-        Matcher citeMatch = CITE_PATTERN.matcher(line);
-
-        while (citeMatch.find()) {
-            String keyString = citeMatch.group(2);
-            String[] keys = keyString.split(",");
-
-            for (String key : keys) {
-                result.getUniqueKeys().add(key.trim());
-            }
+        if (!fileList.contains(inputFile)) {
+            fileList.add(inputFile);
+            result.increaseNestedAuxFilesCounter();
         }
     }
 
@@ -2,30 +2,25 @@ package org.jabref.logic.bibtex;
 
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.bibtex.EntryFingerprint.NormalizedField;
 import org.jabref.logic.util.strings.StringSimilarity;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
-import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.collect.Sets;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * This class contains utility method for duplicate checking of entries.
@@ -33,7 +28,7 @@ import org.slf4j.LoggerFactory;
 public class DuplicateCheck {
     private static final double DUPLICATE_THRESHOLD = 0.75; // The overall threshold to signal a duplicate pair
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateCheck.class);
+    private static final StringSimilarity SIMILARITY = new StringSimilarity();
     /*
      * Integer values for indicating result of duplicate check (for entries):
      */
@@ -140,84 +135,31 @@ public class DuplicateCheck {
     }
 
     private static int compareSingleField(final Field field, final BibEntry one, final BibEntry two) {
-        final Optional<String> optionalStringOne = one.getField(field);
-        final Optional<String> optionalStringTwo = two.getField(field);
-        if (!optionalStringOne.isPresent()) {
-            if (!optionalStringTwo.isPresent()) {
+        final Optional<NormalizedField> optionalFieldOne = EntryFingerprint.getField(one, field);
+        final Optional<NormalizedField> optionalFieldTwo = EntryFingerprint.getField(two, field);
+        if (!optionalFieldOne.isPresent()) {
+            if (!optionalFieldTwo.isPresent()) {
                 return EMPTY_IN_BOTH;
             }
             return EMPTY_IN_ONE;
-        } else if (!optionalStringTwo.isPresent()) {
+        } else if (!optionalFieldTwo.isPresent()) {
             return EMPTY_IN_TWO;
         }
 
-        // Both strings present
-        final String stringOne = optionalStringOne.get();
-        final String stringTwo = optionalStringTwo.get();
-
-        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-            return compareAuthorField(stringOne, stringTwo);
-        } else if (StandardField.PAGES.equals(field)) {
-            return comparePagesField(stringOne, stringTwo);
-        } else if (StandardField.JOURNAL.equals(field)) {
-            return compareJournalField(stringOne, stringTwo);
-        } else if (StandardField.CHAPTER.equals(field)) {
-            return compareChapterField(stringOne, stringTwo);
-        }
-
-        return compareField(stringOne, stringTwo);
-    }
-
-    private static int compareAuthorField(final String stringOne, final String stringTwo) {
-        // Specific for name fields.
-        // Harmonise case:
-        final String authorOne = AuthorList.fixAuthorLastNameOnlyCommas(stringOne, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
-        final String authorTwo = AuthorList.fixAuthorLastNameOnlyCommas(stringTwo, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
-        final double similarity = DuplicateCheck.correlateByWords(authorOne, authorTwo);
-        if (similarity > 0.8) {
-            return EQUAL;
-        }
-        return NOT_EQUAL;
-    }
+        // Both fields present
+        final NormalizedField fieldOne = optionalFieldOne.get();
+        final NormalizedField fieldTwo = optionalFieldTwo.get();
 
-    /**
-     * Pages can be given with a variety of delimiters, "-", "--", " - ", " -- ".
-     * We do a replace to harmonize these to a simple "-"
-     * After this, a simple test for equality should be enough
-     */
-    private static int comparePagesField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.replaceAll("[- ]+", "-");
-        final String processedStringTwo = stringTwo.replaceAll("[- ]+", "-");
-        if (processedStringOne.equals(processedStringTwo)) {
-            return EQUAL;
-        }
-        return NOT_EQUAL;
-    }
-
-    /**
-     * We do not attempt to harmonize abbreviation state of the journal names,
-     * but we remove periods from the names in case they are abbreviated with and without dots:
-     */
-    private static int compareJournalField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.replace(".", "").toLowerCase(Locale.ROOT);
-        final String processedStringTwo = stringTwo.replace(".", "").toLowerCase(Locale.ROOT);
-        final double similarity = DuplicateCheck.correlateByWords(processedStringOne, processedStringTwo);
-        if (similarity > 0.8) {
-            return EQUAL;
+        if (StandardField.PAGES.equals(field)) {
+            // After harmonizing the delimiters, a simple test for equality should be enough
+            if (fieldOne.getNormalizedValue().equals(fieldTwo.getNormalizedValue())) {
+                return EQUAL;
+            }
+            return NOT_EQUAL;
         }
-        return NOT_EQUAL;
-    }
-
-    private static int compareChapterField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.replaceAll("(?i)chapter", "").trim();
-        final String processedStringTwo = stringTwo.replaceAll("(?i)chapter", "").trim();
-        return compareField(processedStringOne, processedStringTwo);
-    }
 
-    private static int compareField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.toLowerCase(Locale.ROOT).trim();
-        final String processedStringTwo = stringTwo.toLowerCase(Locale.ROOT).trim();
-        final double similarity = DuplicateCheck.correlateByWords(processedStringOne, processedStringTwo);
+        // The names of persons, journals, chapters and all other fields are compared word by word
+        final double similarity = DuplicateCheck.correlateByWords(fieldOne.getWords(), fieldTwo.getWords());
         if (similarity > 0.8) {
             return EQUAL;
         }
@@ -225,22 +167,26 @@ public class DuplicateCheck {
     }
 
     public static double compareEntriesStrictly(BibEntry one, BibEntry two) {
-        final Set<Field> allFields = new HashSet<>();
-        allFields.addAll(one.getFields());
-        allFields.addAll(two.getFields());
+        // Counts the union of the fields of both entries without creating it
+        final Set<Field> fieldsOne = one.getFields();
+        int numberOfFields = fieldsOne.size();
+        for (final Field field : two.getFields()) {
+            if (!fieldsOne.contains(field)) {
+                numberOfFields++;
+            }
+        }
 
+        // Fields only present in the second entry never have the same value
         int score = 0;
-        for (final Field field : allFields) {
-            final Optional<String> stringOne = one.getField(field);
-            final Optional<String> stringTwo = two.getField(field);
-            if (stringOne.equals(stringTwo)) {
+        for (final Field field : fieldsOne) {
+            if (one.getField(field).equals(two.getField(field))) {
                 score++;
             }
         }
-        if (score == allFields.size()) {
+        if (score == numberOfFields) {
             return 1.01; // Just to make sure we can use score > 1 without trouble.
         }
-        return (double) score / allFields.size();
+        return (double) score / numberOfFields;
     }
 
     /**
@@ -251,13 +197,14 @@ public class DuplicateCheck {
      * @return a value in the interval [0, 1] indicating the degree of match.
      */
     public static double correlateByWords(final String s1, final String s2) {
-        final String[] w1 = s1.split("\\s");
-        final String[] w2 = s2.split("\\s");
+        return correlateByWords(s1.split("\\s"), s2.split("\\s"));
+    }
+
+    private static double correlateByWords(final String[] w1, final String[] w2) {
         final int n = Math.min(w1.length, w2.length);
         int misses = 0;
         for (int i = 0; i < n; i++) {
-            double corr = similarity(w1[i], w2[i]);
-            if (corr < 0.75) {
+            if (!isSimilar(w1[i], w2[i])) {
                 misses++;
             }
         }
@@ -266,30 +213,14 @@ public class DuplicateCheck {
     }
 
     /**
-     * Calculates the similarity (a number within 0 and 1) between two strings.
+     * Checks whether the similarity of the two strings is at least 0.75. The similarity is based on the edit distance
+     * relative to the length of the longer string, see
      * http://stackoverflow.com/questions/955110/similarity-string-comparison-in-java
      */
-    private static double similarity(final String first, final String second) {
-        final String longer;
-        final String shorter;
-
-        if (first.length() < second.length()) {
-            longer = second;
-            shorter = first;
-        } else {
-            longer = first;
-            shorter = second;
-        }
-
-        final int longerLength = longer.length();
-        // both strings are zero length
-        if (longerLength == 0) {
-            return 1.0;
-        }
-        final double distanceIgnoredCase = new StringSimilarity().editDistanceIgnoreCase(longer, shorter);
-        final double similarity = (longerLength - distanceIgnoredCase) / longerLength;
-        LOGGER.debug("Longer string: " + longer + " Shorter string: " + shorter + " Similarity: " + similarity);
-        return similarity;
+    private static boolean isSimilar(final String first, final String second) {
+        final int longerLength = Math.max(first.length(), second.length());
+        // (longerLength - distance) / longerLength >= 0.75 if and only if distance <= longerLength / 4
+        return SIMILARITY.isEditDistanceIgnoreCaseAtMost(first, second, longerLength / 4);
     }
 
     /**
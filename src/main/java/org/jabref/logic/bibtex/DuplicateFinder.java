@@ -0,0 +1,170 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Finds all pairs of duplicates in a list of entries.
+ * <p>
+ * Comparing each pair of entries using {@link DuplicateCheck} does not scale to large libraries. Hence, each entry is
+ * assigned to blocks by keys which duplicates most likely have in common:
+ * <ul>
+ *     <li>the value of an identifier field (DOI, eprint, PMID or ISBN),</li>
+ *     <li>the last name of the first author (or editor) together with the year,</li>
+ *     <li>the bands of a MinHash signature of the character trigrams of the normalized title. Titles which share most
+ *     of their trigrams share at least one band with high probability (locality-sensitive hashing).</li>
+ * </ul>
+ * Only entries sharing at least one block are compared using
+ * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}. The comparisons run in parallel.
+ */
+public class DuplicateFinder {
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 8;
+    private static final int ROWS_PER_BAND = 4;
+    private static final long[] HASH_MULTIPLIERS = new long[BANDS * ROWS_PER_BAND];
+    private static final long[] HASH_OFFSETS = new long[BANDS * ROWS_PER_BAND];
+
+    static {
+        // Fixed seed, so that the blocks do not change between runs
+        Random random = new Random(42);
+        for (int i = 0; i < HASH_MULTIPLIERS.length; i++) {
+            HASH_MULTIPLIERS[i] = random.nextLong() | 1;
+            HASH_OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(DuplicateCheck duplicateCheck) {
+        this.duplicateCheck = Objects.requireNonNull(duplicateCheck);
+    }
+
+    /**
+     * Searches for duplicates and passes each pair of duplicates to the given consumer as soon as it is found. The
+     * first entry of a pair always precedes the second one in the given list.
+     * <p>
+     * The consumer is called from several threads concurrently. The search stops early if the calling thread is
+     * interrupted.
+     */
+    public void findDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode, BiConsumer<BibEntry, BibEntry> duplicateConsumer) {
+        List<BibEntry> entriesToCheck = new ArrayList<>(entries);
+        List<Set<String>> blockingKeys = IntStream.range(0, entriesToCheck.size())
+                                                  .parallel()
+                                                  .mapToObj(i -> getBlockingKeys(entriesToCheck.get(i)))
+                                                  .collect(Collectors.toList());
+
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < blockingKeys.size(); i++) {
+            for (String key : blockingKeys.get(i)) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        Thread callingThread = Thread.currentThread();
+        IntStream.range(0, entriesToCheck.size()).parallel().forEach(i -> {
+            // Later entries of the same blocks, in the order of the list
+            Set<Integer> candidates = new TreeSet<>();
+            for (String key : blockingKeys.get(i)) {
+                List<Integer> block = blocks.get(key);
+                int position = Collections.binarySearch(block, i);
+                candidates.addAll(block.subList(position + 1, block.size()));
+            }
+
+            for (int candidate : candidates) {
+                if (callingThread.isInterrupted()) {
+                    return;
+                }
+
+                BibEntry first = entriesToCheck.get(i);
+                BibEntry second = entriesToCheck.get(candidate);
+                if (duplicateCheck.isDuplicate(first, second, databaseMode)) {
+                    duplicateConsumer.accept(first, second);
+                }
+            }
+        });
+    }
+
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new TreeSet<>();
+
+        List<Field> identifierFields = new ArrayList<>(FieldFactory.getIdentifierFieldNames());
+        identifierFields.add(StandardField.ISBN);
+        for (Field field : identifierFields) {
+            entry.getField(field).ifPresent(value -> keys.add(field.getName() + ':' + value));
+        }
+
+        Optional<String> year = entry.getFieldOrAlias(StandardField.YEAR);
+        Optional<String> firstPerson = getFirstPersonLastName(entry, StandardField.AUTHOR)
+                .or(() -> getFirstPersonLastName(entry, StandardField.EDITOR));
+        if (firstPerson.isPresent() && year.isPresent()) {
+            keys.add("person:" + firstPerson.get() + ':' + year.get().trim());
+        }
+
+        entry.getField(StandardField.TITLE)
+             .map(DuplicateFinder::normalize)
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> keys.addAll(getTitleBands(title)));
+
+        return keys;
+    }
+
+    private static Optional<String> getFirstPersonLastName(BibEntry entry, Field field) {
+        return entry.getField(field)
+                    .map(AuthorList::parse)
+                    .filter(authors -> !authors.isEmpty())
+                    .flatMap(authors -> authors.getAuthor(0).getLast())
+                    .map(DuplicateFinder::normalize)
+                    .filter(lastName -> !lastName.isEmpty());
+    }
+
+    private static List<String> getTitleBands(String title) {
+        long[] signature = new long[HASH_MULTIPLIERS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int start = 0; start <= Math.max(0, title.length() - SHINGLE_LENGTH); start++) {
+            int shingleHash = title.substring(start, Math.min(title.length(), start + SHINGLE_LENGTH)).hashCode();
+            for (int i = 0; i < signature.length; i++) {
+                signature[i] = Math.min(signature[i], (HASH_MULTIPLIERS[i] * shingleHash) + HASH_OFFSETS[i]);
+            }
+        }
+
+        List<String> bands = new ArrayList<>(BANDS);
+        for (int band = 0; band < BANDS; band++) {
+            StringBuilder key = new StringBuilder("title").append(band);
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key.append(':').append(Long.toHexString(signature[(band * ROWS_PER_BAND) + row]));
+            }
+            bands.add(key.toString());
+        }
+        return bands;
+    }
+
+    /**
+     * Lower-cases the given text and reduces it to letters and digits separated by single spaces
+     */
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT)
+                   .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                   .trim();
+    }
+}
@@ -0,0 +1,95 @@
+package org.jabref.logic.bibtex;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Field contents of an entry normalized the way {@link DuplicateCheck} compares them.
+ * <p>
+ * The fingerprint of an entry is cached as long as the entry is alive. A normalized field is recomputed as soon as
+ * the field of the entry has been changed. This is detected by comparing the (interned) field value with the one
+ * used for normalization.
+ */
+class EntryFingerprint {
+
+    // Weak keys are compared by identity, so equal entries do not share their fingerprint
+    private static final Cache<BibEntry, EntryFingerprint> FINGERPRINTS = CacheBuilder.newBuilder().weakKeys().build();
+
+    // Must not reference the entry, as otherwise the entry would never be removed from the cache
+    private final Map<Field, NormalizedField> fields = new ConcurrentHashMap<>();
+
+    private EntryFingerprint() {
+    }
+
+    /**
+     * Returns the given field of the given entry in normalized form
+     */
+    static Optional<NormalizedField> getField(BibEntry entry, Field field) {
+        Optional<String> value = entry.getField(field);
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+
+        EntryFingerprint fingerprint = FINGERPRINTS.asMap().computeIfAbsent(entry, key -> new EntryFingerprint());
+        NormalizedField normalizedField = fingerprint.fields.get(field);
+        if ((normalizedField == null) || (normalizedField.value != value.get())) {
+            normalizedField = new NormalizedField(field, value.get());
+            fingerprint.fields.put(field, normalizedField);
+        }
+        return Optional.of(normalizedField);
+    }
+
+    static class NormalizedField {
+
+        private final String value;
+        private final String normalizedValue;
+        private final String[] words;
+
+        NormalizedField(Field field, String value) {
+            this.value = value;
+            this.normalizedValue = normalize(field, value);
+            this.words = normalizedValue.split("\\s");
+        }
+
+        /**
+         * Returns the normalized value, e.g., pages with a single "-" as delimiter
+         */
+        String getNormalizedValue() {
+            return normalizedValue;
+        }
+
+        /**
+         * Returns the words of the normalized value
+         */
+        String[] getWords() {
+            return words;
+        }
+
+        private static String normalize(Field field, String value) {
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                // Harmonise case:
+                return AuthorList.fixAuthorLastNameOnlyCommas(value, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
+            } else if (StandardField.PAGES.equals(field)) {
+                // Pages can be given with a variety of delimiters, "-", "--", " - ", " -- ".
+                return value.replaceAll("[- ]+", "-");
+            } else if (StandardField.JOURNAL.equals(field)) {
+                // Journals may be abbreviated with and without dots
+                return value.replace(".", "").toLowerCase(Locale.ROOT);
+            } else if (StandardField.CHAPTER.equals(field)) {
+                return value.replaceAll("(?i)chapter", "").trim().toLowerCase(Locale.ROOT).trim();
+            }
+            return value.toLowerCase(Locale.ROOT).trim();
+        }
+    }
+}
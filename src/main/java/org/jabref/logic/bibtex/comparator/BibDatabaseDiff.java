@@ -1,15 +1,24 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.jabref.logic.bibtex.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
 
 public class BibDatabaseDiff {
@@ -40,85 +49,159 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of both databases. Each original entry which has been changed or removed and each new entry
+     * which has been added results in a {@link BibEntryDiff}.
+     * <p>
+     * Entries are matched in several passes, where each pass only considers the entries not matched before:
+     * <ol>
+     *     <li>entries having exactly the same fields are unchanged,</li>
+     *     <li>entries having the same shared id or the same cite key (unique on both sides) are changed,</li>
+     *     <li>all remaining original entries are matched with the most similar remaining new entry, if the similarity
+     *     exceeds {@link #MATCH_THRESHOLD}.</li>
+     * </ol>
+     * The first two passes use hash maps, so that only the entries which have actually been changed are compared with
+     * each other.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
-        List<BibEntryDiff> differences = new ArrayList<>();
+        Set<BibEntry> unchangedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
 
-        // Create pointers that are incremented as the entries of each base are used in
-        // successive order from the beginning. Entries "further down" in the new database
-        // can also be matched.
-        int positionNew = 0;
+        // Entries with the same content are not reported. We must find all of them before looking for other matches,
+        // to avoid an exact match being "stolen" from another entry.
+        Map<Map<Field, String>, Deque<BibEntry>> newEntriesByContent = new HashMap<>();
+        for (BibEntry newEntry : newEntries) {
+            newEntriesByContent.computeIfAbsent(getContent(newEntry), content -> new ArrayDeque<>()).add(newEntry);
+        }
+        for (BibEntry originalEntry : originalEntries) {
+            Deque<BibEntry> entriesWithSameContent = newEntriesByContent.get(getContent(originalEntry));
+            if ((entriesWithSameContent != null) && !entriesWithSameContent.isEmpty()) {
+                unchangedEntries.add(originalEntry);
+                unchangedEntries.add(entriesWithSameContent.poll());
+            }
+        }
 
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        Map<BibEntry, BibEntry> matches = new IdentityHashMap<>();
+        matchByIdentifier(originalEntries, newEntries, unchangedEntries, matches, BibDatabaseDiff::getSharedId);
+        matchByIdentifier(originalEntries, newEntries, unchangedEntries, matches, BibEntry::getCiteKeyOptional);
+        matchBySimilarity(originalEntries, newEntries, unchangedEntries, matches);
 
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
+        List<BibEntryDiff> differences = new ArrayList<>();
         for (BibEntry originalEntry : originalEntries) {
-            // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
-            }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
+            if (!unchangedEntries.contains(originalEntry)) {
+                differences.add(new BibEntryDiff(originalEntry, matches.get(originalEntry)));
             }
+        }
 
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
+        // Finally, look if there are still untouched entries in the new database. These may have been added.
+        Set<BibEntry> matchedNewEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchedNewEntries.addAll(matches.values());
+        for (BibEntry newEntry : newEntries) {
+            if (!unchangedEntries.contains(newEntry) && !matchedNewEntries.contains(newEntry)) {
+                differences.add(new BibEntryDiff(null, newEntry));
+            }
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
+        return differences;
+    }
 
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = -1;
-            if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
-                        }
-                    }
-                }
-            }
+    private static Map<Field, String> getContent(BibEntry entry) {
+        return new HashMap<>(entry.getFieldMap());
+    }
 
-            if (bestMatch > MATCH_THRESHOLD) {
-                used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
+    private static Optional<Integer> getSharedId(BibEntry entry) {
+        int sharedId = entry.getSharedBibEntryData().getSharedID();
+        return sharedId == -1 ? Optional.empty() : Optional.of(sharedId);
+    }
 
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
-            } else {
-                differences.add(new BibEntryDiff(originalEntry, null));
+    /**
+     * Matches the remaining entries having the same identifier. Identifiers used by several remaining entries of the
+     * same database are ignored, as the match would be ambiguous.
+     */
+    private static void matchByIdentifier(List<BibEntry> originalEntries, List<BibEntry> newEntries, Set<BibEntry> unchangedEntries,
+                                          Map<BibEntry, BibEntry> matches, Function<BibEntry, Optional<?>> identifier) {
+        Map<Object, BibEntry> newEntriesByIdentifier = getUniqueIdentifiers(newEntries, unchangedEntries, matches.values(), identifier);
+        Map<Object, BibEntry> originalEntriesByIdentifier = getUniqueIdentifiers(originalEntries, unchangedEntries, matches.keySet(), identifier);
+        originalEntriesByIdentifier.forEach((id, originalEntry) -> {
+            BibEntry newEntry = newEntriesByIdentifier.get(id);
+            if (newEntry != null) {
+                matches.put(originalEntry, newEntry);
             }
+        });
+    }
+
+    private static Map<Object, BibEntry> getUniqueIdentifiers(List<BibEntry> entries, Set<BibEntry> unchangedEntries, Collection<BibEntry> matchedEntries,
+                                                              Function<BibEntry, Optional<?>> identifier) {
+        Set<BibEntry> excludedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        excludedEntries.addAll(unchangedEntries);
+        excludedEntries.addAll(matchedEntries);
+
+        Map<Object, BibEntry> entriesByIdentifier = new HashMap<>();
+        Set<Object> ambiguousIdentifiers = new HashSet<>();
+        for (BibEntry entry : entries) {
+            if (excludedEntries.contains(entry)) {
+                continue;
+            }
+            identifier.apply(entry).ifPresent(id -> {
+                if (entriesByIdentifier.putIfAbsent(id, entry) != null) {
+                    ambiguousIdentifiers.add(id);
+                }
+            });
         }
-        
-        // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!used.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
+        entriesByIdentifier.keySet().removeAll(ambiguousIdentifiers);
+        return entriesByIdentifier;
+    }
+
+    /**
+     * Matches each remaining original entry with the most similar remaining new entry. Only new entries sharing at
+     * least one field value with the original entry can have a score above zero, hence the candidates are looked up
+     * in an index of the field values.
+     */
+    private static void matchBySimilarity(List<BibEntry> originalEntries, List<BibEntry> newEntries, Set<BibEntry> unchangedEntries,
+                                          Map<BibEntry, BibEntry> matches) {
+        Set<BibEntry> matchedNewEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchedNewEntries.addAll(matches.values());
+
+        List<BibEntry> remainingNewEntries = new ArrayList<>();
+        Map<Map.Entry<Field, String>, List<Integer>> newEntriesByFieldValue = new HashMap<>();
+        for (BibEntry newEntry : newEntries) {
+            if (!unchangedEntries.contains(newEntry) && !matchedNewEntries.contains(newEntry)) {
+                for (Map.Entry<Field, String> field : newEntry.getFieldMap().entrySet()) {
+                    newEntriesByFieldValue.computeIfAbsent(Map.entry(field.getKey(), field.getValue()), key -> new ArrayList<>())
+                                          .add(remainingNewEntries.size());
+                }
+                remainingNewEntries.add(newEntry);
             }
         }
 
-        return differences;
+        BitSet used = new BitSet(remainingNewEntries.size());
+        for (BibEntry originalEntry : originalEntries) {
+            if (unchangedEntries.contains(originalEntry) || matches.containsKey(originalEntry)) {
+                continue;
+            }
+
+            BitSet candidates = new BitSet(remainingNewEntries.size());
+            for (Map.Entry<Field, String> field : originalEntry.getFieldMap().entrySet()) {
+                newEntriesByFieldValue.getOrDefault(Map.entry(field.getKey(), field.getValue()), Collections.emptyList())
+                                      .forEach(candidates::set);
+            }
+            candidates.andNot(used);
+
+            // Keep track of which entry most closely matches the one we're looking at.
+            double bestMatch = MATCH_THRESHOLD;
+            int bestMatchIndex = -1;
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, remainingNewEntries.get(i));
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchIndex = i;
+                }
+            }
+
+            if (bestMatchIndex >= 0) {
+                used.set(bestMatchIndex);
+                matches.put(originalEntry, remainingNewEntries.get(bestMatchIndex));
+            }
+        }
     }
 
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
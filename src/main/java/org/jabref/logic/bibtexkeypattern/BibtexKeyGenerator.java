@@ -2,9 +2,19 @@ package org.jabref.logic.bibtexkeypattern;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.bibtexkeypattern.AbstractBibtexKeyPattern;
@@ -29,9 +39,13 @@ public class BibtexKeyGenerator extends BracketedPattern {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexKeyGenerator.class);
     private static final String KEY_ILLEGAL_CHARACTERS = "{}(),\\\"-#~^:'`ʹ";
     private static final String KEY_UNWANTED_CHARACTERS = "{}(),\\\"-";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
     private final AbstractBibtexKeyPattern citeKeyPattern;
     private final BibDatabase database;
     private final BibtexKeyPatternPreferences bibtexKeyPatternPreferences;
+    // The key patterns are compiled once per entry type, so that the keys of many entries are generated quickly
+    private final Map<EntryType, CompiledKeyPattern> compiledKeyPatterns = new ConcurrentHashMap<>();
+    private volatile Pattern keyPatternRegex;
 
     public BibtexKeyGenerator(BibDatabaseContext bibDatabaseContext, BibtexKeyPatternPreferences bibtexKeyPatternPreferences) {
         this(bibDatabaseContext.getMetaData().getCiteKeyPattern(bibtexKeyPatternPreferences.getKeyPattern()),
@@ -102,59 +116,11 @@ public class BibtexKeyGenerator extends BracketedPattern {
     }
 
     public static String cleanKey(String key, boolean enforceLegalKey) {
-        return removeUnwantedCharacters(key, enforceLegalKey).replaceAll("\\s","");
+        return WHITESPACE.matcher(removeUnwantedCharacters(key, enforceLegalKey)).replaceAll("");
     }
 
     public String generateKey(BibEntry entry) {
-        String key;
-        StringBuilder stringBuilder = new StringBuilder();
-        try {
-            // get the type of entry
-            EntryType entryType = entry.getType();
-            // Get the arrayList corresponding to the type
-            List<String> typeList = new ArrayList<>(citeKeyPattern.getValue(entryType));
-            if (!typeList.isEmpty()) {
-                typeList.remove(0);
-            }
-            boolean field = false;
-            for (String typeListEntry : typeList) {
-                if ("[".equals(typeListEntry)) {
-                    field = true;
-                } else if ("]".equals(typeListEntry)) {
-                    field = false;
-                } else if (field) {
-                    // check whether there is a modifier on the end such as
-                    // ":lower"
-                    List<String> parts = parseFieldMarker(typeListEntry);
-                    Character delimiter = bibtexKeyPatternPreferences.getKeywordDelimiter();
-                    String pattern = "[" + parts.get(0) + "]";
-                    String label = expandBrackets(pattern, delimiter, entry, database, bibtexKeyPatternPreferences.isEnforceLegalKey());
-                    // apply modifier if present
-                    if (parts.size() > 1) {
-                        label = applyModifiers(label, parts, 1);
-                    }
-
-                    // Remove all illegal characters from the label.
-                    label = cleanKey(label, bibtexKeyPatternPreferences.isEnforceLegalKey());
-
-                    stringBuilder.append(label);
-
-                } else {
-                    stringBuilder.append(typeListEntry);
-                }
-            }
-        } catch (Exception e) {
-            LOGGER.warn("Cannot make label", e);
-        }
-
-        key = stringBuilder.toString();
-
-        // Remove Regular Expressions while generating Keys
-        String regex = bibtexKeyPatternPreferences.getKeyPatternRegex();
-        if ((regex != null) && !regex.trim().isEmpty()) {
-            String replacement = bibtexKeyPatternPreferences.getKeyPatternReplacement();
-            key = key.replaceAll(regex, replacement);
-        }
+        String key = generateBaseKey(entry);
 
         String oldKey = entry.getCiteKeyOptional().orElse(null);
         int occurrences = database.getDuplicationChecker().getNumberOfKeyOccurrences(key);
@@ -190,6 +156,113 @@ public class BibtexKeyGenerator extends BracketedPattern {
         return newKey;
     }
 
+    /**
+     * Generates the key of the given entry according to the key pattern, without making it unique
+     */
+    private String generateBaseKey(BibEntry entry) {
+        StringBuilder stringBuilder = new StringBuilder();
+        try {
+            for (KeyPatternPart part : getCompiledKeyPattern(entry.getType()).parts) {
+                stringBuilder.append(part.expand(entry));
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Cannot make label", e);
+        }
+
+        String key = stringBuilder.toString();
+
+        // Remove Regular Expressions while generating Keys
+        String regex = bibtexKeyPatternPreferences.getKeyPatternRegex();
+        if ((regex != null) && !regex.trim().isEmpty()) {
+            Pattern compiledRegex = keyPatternRegex;
+            if ((compiledRegex == null) || !compiledRegex.pattern().equals(regex)) {
+                compiledRegex = Pattern.compile(regex);
+                keyPatternRegex = compiledRegex;
+            }
+            String replacement = bibtexKeyPatternPreferences.getKeyPatternReplacement();
+            key = compiledRegex.matcher(key).replaceAll(replacement);
+        }
+
+        return key;
+    }
+
+    private CompiledKeyPattern getCompiledKeyPattern(EntryType entryType) {
+        List<String> keyPattern = citeKeyPattern.getValue(entryType);
+        CompiledKeyPattern compiledKeyPattern = compiledKeyPatterns.get(entryType);
+        // The key pattern of an entry type is replaced (and not changed) if the user edits it
+        if ((compiledKeyPattern == null) || (compiledKeyPattern.keyPattern != keyPattern)) {
+            compiledKeyPattern = new CompiledKeyPattern(keyPattern);
+            compiledKeyPatterns.put(entryType, compiledKeyPattern);
+        }
+        return compiledKeyPattern;
+    }
+
+    /**
+     * The key pattern of an entry type, whose field markers are parsed already
+     */
+    private class CompiledKeyPattern {
+
+        private final List<String> keyPattern;
+        private final List<KeyPatternPart> parts = new ArrayList<>();
+
+        CompiledKeyPattern(List<String> keyPattern) {
+            this.keyPattern = keyPattern;
+
+            // The first item is the string representation of the whole pattern
+            boolean field = false;
+            for (String typeListEntry : keyPattern.subList(Math.min(1, keyPattern.size()), keyPattern.size())) {
+                if ("[".equals(typeListEntry)) {
+                    field = true;
+                } else if ("]".equals(typeListEntry)) {
+                    field = false;
+                } else if (field) {
+                    // check whether there is a modifier on the end such as
+                    // ":lower"
+                    List<String> fieldParts = parseFieldMarker(typeListEntry);
+                    parts.add(new FieldMarker(fieldParts.get(0), new Modifiers(fieldParts, 1)));
+                } else {
+                    parts.add(entry -> typeListEntry);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface KeyPatternPart {
+        String expand(BibEntry entry);
+    }
+
+    private class FieldMarker implements KeyPatternPart {
+
+        private final String fieldName;
+        private final Modifiers modifiers;
+        // Escaped characters and nested markers are only handled by the expansion of a complete pattern
+        private final boolean isPattern;
+
+        FieldMarker(String fieldName, Modifiers modifiers) {
+            this.fieldName = fieldName;
+            this.modifiers = modifiers;
+            this.isPattern = fieldName.chars().anyMatch(c -> "\\[]:".indexOf(c) != -1);
+        }
+
+        @Override
+        public String expand(BibEntry entry) {
+            Character delimiter = bibtexKeyPatternPreferences.getKeywordDelimiter();
+            boolean enforceLegalKey = bibtexKeyPatternPreferences.isEnforceLegalKey();
+            String label;
+            if (isPattern) {
+                label = expandBrackets("[" + fieldName + "]", delimiter, entry, database, enforceLegalKey);
+            } else {
+                label = getFieldValue(entry, fieldName, delimiter, database, enforceLegalKey);
+            }
+            // apply modifier if present
+            label = modifiers.apply(label);
+
+            // Remove all illegal characters from the label.
+            return cleanKey(label, enforceLegalKey);
+        }
+    }
+
     /**
      * Generates a BibTeX key for the given entry, and sets the key.
      *
@@ -200,4 +273,97 @@ public class BibtexKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCiteKey(newKey);
     }
+
+    /**
+     * Generates the BibTeX keys of the given entries, and sets the keys.
+     * <p>
+     * In contrast to calling {@link #generateAndSetKey(BibEntry)} for each entry, the keys are generated in parallel
+     * and the letters making the keys unique are assigned to all entries with the same generated key at once. The old
+     * keys of the given entries are not taken into account, except that an entry keeps its key if the key is handed out
+     * to one of the entries with the same generated key anyway.
+     *
+     * @param entries the entries to generate the keys for
+     * @return the changes to the keys (keys which were not changed are not included)
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        List<String> generatedKeys = entries.parallelStream()
+                                            .map(this::generateBaseKey)
+                                            .collect(Collectors.toList());
+
+        // Entries with the same generated key, in the order of the given entries
+        Set<BibEntry> entrySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> distinctEntries = new ArrayList<>();
+        Map<String, List<BibEntry>> entriesByGeneratedKey = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (entrySet.add(entries.get(i))) {
+                distinctEntries.add(entries.get(i));
+                entriesByGeneratedKey.computeIfAbsent(generatedKeys.get(i), key -> new ArrayList<>()).add(entries.get(i));
+            }
+        }
+
+        // Keys of the entries whose keys are not generated
+        Set<String> usedKeys = new HashSet<>();
+        for (BibEntry entry : database.getEntries()) {
+            if (!entrySet.contains(entry)) {
+                entry.getCiteKeyOptional().filter(key -> !key.isEmpty()).ifPresent(usedKeys::add);
+            }
+        }
+
+        Map<BibEntry, String> newKeys = new IdentityHashMap<>();
+        entriesByGeneratedKey.forEach((generatedKey, entriesWithKey) -> assignUniqueKeys(generatedKey, entriesWithKey, usedKeys, newKeys));
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (BibEntry entry : distinctEntries) {
+            entry.setCiteKey(newKeys.get(entry)).ifPresent(changes::add);
+        }
+        return changes;
+    }
+
+    /**
+     * Assigns the given key, or the key followed by letters, to the given entries, so that each key is used only once.
+     * An entry whose old key is among the assigned keys gets its old key.
+     */
+    private void assignUniqueKeys(String generatedKey, List<BibEntry> entries, Set<String> usedKeys, Map<BibEntry, String> newKeys) {
+        boolean alwaysAddLetter = bibtexKeyPatternPreferences.isAlwaysAddLetter();
+        boolean firstLetterA = bibtexKeyPatternPreferences.isFirstLetterA();
+
+        // The first unused keys, in the order they would be tried by generateKey
+        List<String> keys = new ArrayList<>(entries.size());
+        // -1 denotes the generated key without any letter
+        int number = alwaysAddLetter ? 0 : -1;
+        while (keys.size() < entries.size()) {
+            String key = number < 0 ? generatedKey : generatedKey + getAppendix(number);
+            number = (number < 0) && !firstLetterA ? 1 : number + 1;
+
+            if (key.isEmpty()) {
+                // Empty keys are not counted as duplicates
+                entries.forEach(entry -> newKeys.put(entry, key));
+                return;
+            }
+            if (usedKeys.add(key)) {
+                keys.add(key);
+            }
+        }
+
+        Map<String, BibEntry> entriesByOldKey = new HashMap<>();
+        for (BibEntry entry : entries) {
+            entry.getCiteKeyOptional().ifPresent(oldKey -> entriesByOldKey.put(oldKey, entry));
+        }
+        List<String> remainingKeys = new ArrayList<>();
+        for (String key : keys) {
+            BibEntry entry = entriesByOldKey.get(key);
+            if (entry == null) {
+                remainingKeys.add(key);
+            } else {
+                newKeys.put(entry, key);
+            }
+        }
+
+        Iterator<String> remainingKey = remainingKeys.iterator();
+        for (BibEntry entry : entries) {
+            if (!newKeys.containsKey(entry)) {
+                newKeys.put(entry, remainingKey.next());
+            }
+        }
+    }
 }
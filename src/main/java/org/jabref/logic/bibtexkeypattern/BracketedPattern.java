@@ -10,6 +10,7 @@ import java.util.Optional;
 import java.util.Scanner;
 import java.util.StringJoiner;
 import java.util.StringTokenizer;
+import java.util.function.BinaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,6 +44,34 @@ public class BracketedPattern {
     private static final int CHARS_OF_FIRST = 5;
     private static final Pattern REGEX_PATTERN = Pattern.compile(".*\\(\\{([A-Z]+)\\}\\).*");
 
+    // The patterns below are used for every generated key, hence they are compiled only once
+    private static final Pattern AUTH_INI_N = Pattern.compile("authIni\\d+");
+    private static final Pattern AUTH_N_OF_M = Pattern.compile("auth\\d+_\\d+");
+    private static final Pattern AUTH_N = Pattern.compile("auth\\d+");
+    private static final Pattern AUTHORS_N = Pattern.compile("authors\\d+");
+    private static final Pattern EDTR_INI_N = Pattern.compile("edtrIni\\d+");
+    private static final Pattern EDTR_N_OF_M = Pattern.compile("edtr\\d+_\\d+");
+    private static final Pattern EDTR_N = Pattern.compile("edtr\\d+");
+    private static final Pattern KEYWORD_N = Pattern.compile("keyword\\d+");
+    private static final Pattern KEYWORDS_N = Pattern.compile("keywords\\d*");
+    private static final Pattern AND_WITH_SPACES = Pattern.compile("\\s+\\band\\b\\s+");
+    private static final Pattern AND_WITH_OPTIONAL_SPACES = Pattern.compile("\\s*\\band\\b\\s*");
+    private static final Pattern AND = Pattern.compile("\\band\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern FIRST_NAMES = Pattern.compile(",\\s+.*");
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+    private static final Pattern ABBREVIATION_REMOVED_CHARACTERS = Pattern.compile("[\\{\\}']");
+    private static final Pattern ABBREVIATION_WORD_SEPARATORS = Pattern.compile("[\\(\\) \r\n\"]");
+    private static final Pattern UMLAUT_IN_BRACES = Pattern.compile("\\{\\\\\"([a-zA-Z])\\}");
+    private static final Pattern UMLAUT_WITH_BRACES = Pattern.compile("\\\\\"\\{([a-zA-Z])\\}");
+    private static final Pattern UMLAUT = Pattern.compile("\\\\\"([a-zA-Z])");
+    private static final Pattern DIACRITIC_IN_BRACES = Pattern.compile("\\{\\\\.([a-zA-Z])\\}");
+    private static final Pattern DIACRITIC_WITH_BRACES = Pattern.compile("\\\\.\\{([a-zA-Z])\\}");
+    private static final Pattern DIACRITIC = Pattern.compile("\\\\.([a-zA-Z])");
+    private static final Pattern ALTERNATIVE_UMLAUT = Pattern.compile("\\$\\\\ddot\\{\\\\mathrm\\{([^\\}])\\}\\}\\$");
+    private static final Pattern DIACRITIC_WITH_OPTIONAL_BRACES = Pattern.compile("(\\\\[^\\-a-zA-Z])\\{?([a-zA-Z])\\}?");
+
     private final String pattern;
 
     public BracketedPattern() {
@@ -214,7 +243,7 @@ public class BracketedPattern {
                     return lastAuthorForenameInitials(authString);
                 } else if ("authorIni".equals(val)) {
                     return oneAuthorPlusIni(authString);
-                } else if (val.matches("authIni[\\d]+")) {
+                } else if (AUTH_INI_N.matcher(val).matches()) {
                     int num = Integer.parseInt(val.substring(7));
                     return authIniN(authString, num);
                 } else if ("auth.auth.ea".equals(val)) {
@@ -225,14 +254,14 @@ public class BracketedPattern {
                     return authEtal(authString, "", "EtAl");
                 } else if ("authshort".equals(val)) {
                     return authshort(authString);
-                } else if (val.matches("auth[\\d]+_[\\d]+")) {
+                } else if (AUTH_N_OF_M.matcher(val).matches()) {
                     String[] nums = val.substring(4).split("_");
                     return authNofMth(authString, Integer.parseInt(nums[0]),
                             Integer.parseInt(nums[1]));
-                } else if (val.matches("auth\\d+")) {
+                } else if (AUTH_N.matcher(val).matches()) {
                     int num = Integer.parseInt(val.substring(4));
                     return authN(authString, num, isEnforceLegalKey);
-                } else if (val.matches("authors\\d+")) {
+                } else if (AUTHORS_N.matcher(val).matches()) {
                     return nAuthors(authString, Integer.parseInt(val.substring(7)));
                 } else {
                     // This "auth" business was a dead end, so just
@@ -255,10 +284,10 @@ public class BracketedPattern {
                     return lastAuthorForenameInitials(entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse(""));
                 } else if ("editorIni".equals(val)) {
                     return oneAuthorPlusIni(entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse(""));
-                } else if (val.matches("edtrIni[\\d]+")) {
+                } else if (EDTR_INI_N.matcher(val).matches()) {
                     int num = Integer.parseInt(val.substring(7));
                     return authIniN(entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse(""), num);
-                } else if (val.matches("edtr[\\d]+_[\\d]+")) {
+                } else if (EDTR_N_OF_M.matcher(val).matches()) {
                     String[] nums = val.substring(4).split("_");
                     return authNofMth(entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse(""),
                             Integer.parseInt(nums[0]),
@@ -270,7 +299,7 @@ public class BracketedPattern {
                 }
                 // authN. First N chars of the first author's last
                 // name.
-                else if (val.matches("edtr\\d+")) {
+                else if (EDTR_N.matcher(val).matches()) {
                     String fa = firstAuthor(entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse(""));
                     int num = Integer.parseInt(val.substring(4));
                     if (num > fa.length()) {
@@ -318,7 +347,7 @@ public class BracketedPattern {
                 }
             } else if ("entrytype".equals(val)) {
                 return entry.getResolvedFieldOrAlias(InternalField.TYPE_HEADER, database).orElse("");
-            } else if (val.matches("keyword\\d+")) {
+            } else if (KEYWORD_N.matcher(val).matches()) {
                 // according to LabelPattern.php, it returns keyword number n
                 int num = Integer.parseInt(val.substring(7));
                 KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
@@ -329,7 +358,7 @@ public class BracketedPattern {
                     // num counts from 1 to n, but index in arrayList count from 0 to n-1
                     return separatedKeywords.get(num - 1).toString();
                 }
-            } else if (val.matches("keywords\\d*")) {
+            } else if (KEYWORDS_N.matcher(val).matches()) {
                 // return all keywords, not separated
                 int num;
                 if (val.length() > 8) {
@@ -342,7 +371,7 @@ public class BracketedPattern {
                 int i = 0;
                 for (Keyword keyword : separatedKeywords) {
                     // remove all spaces
-                    sb.append(keyword.toString().replaceAll("\\s+", ""));
+                    sb.append(WHITESPACE.matcher(keyword.toString()).replaceAll(""));
 
                     i++;
                     if (i >= num) {
@@ -369,37 +398,66 @@ public class BracketedPattern {
      * @return The modified label.
      */
     static String applyModifiers(final String label, final List<String> parts, final int offset) {
-        String resultingLabel = label;
-        for (int j = offset; j < parts.size(); j++) {
-            String modifier = parts.get(j);
-
-            if ("abbr".equals(modifier)) {
-                // Abbreviate - that is,
-                StringBuilder abbreviateSB = new StringBuilder();
-                String[] words = resultingLabel.replaceAll("[\\{\\}']", "")
-                                               .split("[\\(\\) \r\n\"]");
-                for (String word : words) {
-                    if (!word.isEmpty()) {
-                        abbreviateSB.append(word.charAt(0));
-                    }
-                }
-                resultingLabel = abbreviateSB.toString();
-            } else {
-                Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
-                if (formatter.isPresent()) {
-                    resultingLabel = formatter.get().format(resultingLabel);
-                } else if (!modifier.isEmpty() && (modifier.length() >= 2) && (modifier.charAt(0) == '(') && modifier.endsWith(")")) {
-                    // Alternate text modifier in parentheses. Should be inserted if the label is empty
-                    if (label.isEmpty() && (modifier.length() > 2)) {
-                        resultingLabel = modifier.substring(1, modifier.length() - 1);
-                    }
+        return new Modifiers(parts, offset).apply(label);
+    }
+
+    /**
+     * The modifiers of a field marker, e.g. ":lower:abbr" of "[title:lower:abbr]". The formatters of the modifiers are
+     * looked up only once, so that the modifiers can be applied to the labels of many entries.
+     */
+    static class Modifiers {
+
+        private final List<BinaryOperator<String>> modifiers = new ArrayList<>();
+
+        /**
+         * @param parts String array containing the modifiers.
+         * @param offset The number of initial items in the modifiers array to skip.
+         */
+        Modifiers(final List<String> parts, final int offset) {
+            for (int j = offset; j < parts.size(); j++) {
+                String modifier = parts.get(j);
+
+                if ("abbr".equals(modifier)) {
+                    modifiers.add((label, resultingLabel) -> abbreviate(resultingLabel));
                 } else {
-                    LOGGER.warn("Key generator warning: unknown modifier '" + modifier + "'.");
+                    Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
+                    if (formatter.isPresent()) {
+                        modifiers.add((label, resultingLabel) -> formatter.get().format(resultingLabel));
+                    } else if (!modifier.isEmpty() && (modifier.length() >= 2) && (modifier.charAt(0) == '(') && modifier.endsWith(")")) {
+                        // Alternate text modifier in parentheses. Should be inserted if the label is empty
+                        String alternateText = modifier.substring(1, modifier.length() - 1);
+                        modifiers.add((label, resultingLabel) -> label.isEmpty() && !alternateText.isEmpty() ? alternateText : resultingLabel);
+                    } else {
+                        LOGGER.warn("Key generator warning: unknown modifier '" + modifier + "'.");
+                    }
                 }
             }
         }
 
-        return resultingLabel;
+        /**
+         * Applies the modifiers to a label generated based on a field marker.
+         *
+         * @param label The generated label.
+         * @return The modified label.
+         */
+        String apply(final String label) {
+            String resultingLabel = label;
+            for (BinaryOperator<String> modifier : modifiers) {
+                resultingLabel = modifier.apply(label, resultingLabel);
+            }
+            return resultingLabel;
+        }
+
+        private static String abbreviate(String label) {
+            StringBuilder abbreviateSB = new StringBuilder();
+            String[] words = ABBREVIATION_WORD_SEPARATORS.split(ABBREVIATION_REMOVED_CHARACTERS.matcher(label).replaceAll(""));
+            for (String word : words) {
+                if (!word.isEmpty()) {
+                    abbreviateSB.append(word.charAt(0));
+                }
+            }
+            return abbreviateSB.toString();
+        }
     }
 
     /**
@@ -622,7 +680,7 @@ public class BracketedPattern {
      * @return the surname of an author/editor
      */
     public static String lastAuthor(String authorField) {
-        String[] tokens = AuthorList.fixAuthorForAlphabetization(authorField).split("\\s+\\band\\b\\s+");
+        String[] tokens = AND_WITH_SPACES.split(AuthorList.fixAuthorForAlphabetization(authorField));
         if (tokens.length > 0) {
             String[] lastAuthor = tokens[tokens.length - 1].split(",");
             return lastAuthor[0];
@@ -679,7 +737,7 @@ public class BracketedPattern {
         String[] tokens = fixedAuthors.split(",");
         int max = tokens.length > 4 ? 3 : tokens.length;
         if (max == 1) {
-            String[] firstAuthor = tokens[0].replaceAll("\\s+", " ").trim().split(" ");
+            String[] firstAuthor = WHITESPACE.matcher(tokens[0]).replaceAll(" ").trim().split(" ");
             // take first letter of any "prefixes" (e.g. van der Aalst -> vd)
             for (int j = 0; j < (firstAuthor.length - 1); j++) {
                 authors = authors.concat(firstAuthor[j].substring(0, 1));
@@ -691,7 +749,7 @@ public class BracketedPattern {
             for (int i = 0; i < max; i++) {
                 // replace all whitespaces by " "
                 // split the lastname at " "
-                String[] curAuthor = tokens[i].replaceAll("\\s+", " ").trim().split(" ");
+                String[] curAuthor = WHITESPACE.matcher(tokens[i]).replaceAll(" ").trim().split(" ");
                 for (String aCurAuthor : curAuthor) {
                     // use first character of each part of lastname
                     authors = authors.concat(aCurAuthor.substring(0, 1));
@@ -711,11 +769,11 @@ public class BracketedPattern {
      * @return Gets the surnames of the first N authors and appends EtAl if there are more than N authors
      */
     public static String nAuthors(String authorField, int n) {
-        String[] tokens = AuthorList.fixAuthorForAlphabetization(authorField).split("\\s+\\band\\b\\s+");
+        String[] tokens = AND_WITH_SPACES.split(AuthorList.fixAuthorForAlphabetization(authorField));
         int i = 0;
         StringBuilder authorSB = new StringBuilder();
         while ((tokens.length > i) && (i < n)) {
-            String lastName = tokens[i].replaceAll(",\\s+.*", "");
+            String lastName = FIRST_NAMES.matcher(tokens[i]).replaceAll("");
             authorSB.append(lastName);
             i++;
         }
@@ -735,7 +793,7 @@ public class BracketedPattern {
      */
     public static String oneAuthorPlusIni(String authorField) {
         String fixedAuthorField = AuthorList.fixAuthorForAlphabetization(authorField);
-        String[] tokens = fixedAuthorField.split("\\s+\\band\\b\\s+");
+        String[] tokens = AND_WITH_SPACES.split(fixedAuthorField);
         if (tokens.length == 0) {
             return "";
         }
@@ -763,7 +821,7 @@ public class BracketedPattern {
     public static String authAuthEa(String authorField) {
         String fixedAuthorField = AuthorList.fixAuthorForAlphabetization(authorField);
 
-        String[] tokens = fixedAuthorField.split("\\s+\\band\\b\\s+");
+        String[] tokens = AND_WITH_SPACES.split(fixedAuthorField);
         if (tokens.length == 0) {
             return "";
         }
@@ -802,7 +860,7 @@ public class BracketedPattern {
             String append) {
         String fixedAuthorField = AuthorList.fixAuthorForAlphabetization(authorField);
 
-        String[] tokens = fixedAuthorField.split("\\s*\\band\\b\\s*");
+        String[] tokens = AND_WITH_OPTIONAL_SPACES.split(fixedAuthorField);
         if (tokens.length == 0) {
             return "";
         }
@@ -827,7 +885,7 @@ public class BracketedPattern {
 
         String fixedAuthorField = AuthorList.fixAuthorForAlphabetization(authorField);
 
-        String[] tokens = fixedAuthorField.split("\\s+\\band\\b\\s+");
+        String[] tokens = AND_WITH_SPACES.split(fixedAuthorField);
         if ((tokens.length <= mminusone) || (n < 0) || (mminusone < 0)) {
             return "";
         }
@@ -878,7 +936,7 @@ public class BracketedPattern {
     public static String authshort(String authorField) {
         String fixedAuthorField = AuthorList.fixAuthorForAlphabetization(authorField);
         StringBuilder author = new StringBuilder();
-        String[] tokens = fixedAuthorField.split("\\band\\b");
+        String[] tokens = AND.split(fixedAuthorField);
         int i = 0;
 
         if (tokens.length == 1) {
@@ -934,7 +992,7 @@ public class BracketedPattern {
 
         String fixedAuthorField = AuthorList.fixAuthorForAlphabetization(authorField);
         StringBuilder author = new StringBuilder();
-        String[] tokens = fixedAuthorField.split("\\band\\b");
+        String[] tokens = AND.split(fixedAuthorField);
 
         if (tokens.length == 0) {
             return author.toString();
@@ -974,10 +1032,10 @@ public class BracketedPattern {
         // FIXME: incorrectly exracts the first page when pages are
         // specified with ellipse, e.g. "213-6", which should stand
         // for "213-216". S.G.
-        final String[] splitPages = pages.split("\\D+");
+        final String[] splitPages = NON_DIGITS.split(pages);
         int result = Integer.MAX_VALUE;
         for (String n : splitPages) {
-            if (n.matches("\\d+")) {
+            if (DIGITS.matcher(n).matches()) {
                 result = Math.min(Integer.parseInt(n), result);
             }
         }
@@ -1003,7 +1061,7 @@ public class BracketedPattern {
      */
     public static String pagePrefix(String pages) {
         if (pages.matches("^\\D+.*$")) {
-            return (pages.split("\\d+"))[0];
+            return DIGITS.split(pages)[0];
         } else {
             return "";
         }
@@ -1021,10 +1079,10 @@ public class BracketedPattern {
      *             if pages is null.
      */
     public static String lastPage(String pages) {
-        final String[] splitPages = pages.split("\\D+");
+        final String[] splitPages = NON_DIGITS.split(pages);
         int result = Integer.MIN_VALUE;
         for (String n : splitPages) {
-            if (n.matches("\\d+")) {
+            if (DIGITS.matcher(n).matches()) {
                 result = Math.max(Integer.parseInt(n), result);
             }
         }
@@ -1139,13 +1197,13 @@ public class BracketedPattern {
 
         String result = content;
         // Replace umlaut with '?e'
-        result = result.replaceAll("\\{\\\\\"([a-zA-Z])\\}", "$1e");
-        result = result.replaceAll("\\\\\"\\{([a-zA-Z])\\}", "$1e");
-        result = result.replaceAll("\\\\\"([a-zA-Z])", "$1e");
+        result = UMLAUT_IN_BRACES.matcher(result).replaceAll("$1e");
+        result = UMLAUT_WITH_BRACES.matcher(result).replaceAll("$1e");
+        result = UMLAUT.matcher(result).replaceAll("$1e");
         // Remove diacritics
-        result = result.replaceAll("\\{\\\\.([a-zA-Z])\\}", "$1");
-        result = result.replaceAll("\\\\.\\{([a-zA-Z])\\}", "$1");
-        result = result.replaceAll("\\\\.([a-zA-Z])", "$1");
+        result = DIACRITIC_IN_BRACES.matcher(result).replaceAll("$1");
+        result = DIACRITIC_WITH_BRACES.matcher(result).replaceAll("$1");
+        result = DIACRITIC.matcher(result).replaceAll("$1");
         return result;
     }
 
@@ -1159,11 +1217,8 @@ public class BracketedPattern {
      * @return The content with unified diacritics.
      */
     private static String unifyDiacritics(String content) {
-        return content.replaceAll(
-                "\\$\\\\ddot\\{\\\\mathrm\\{([^\\}])\\}\\}\\$",
-                "{\\\"$1}").replaceAll(
-                        "(\\\\[^\\-a-zA-Z])\\{?([a-zA-Z])\\}?",
-                        "{$1$2}");
+        String result = ALTERNATIVE_UMLAUT.matcher(content).replaceAll("{\\\"$1}");
+        return DIACRITIC_WITH_OPTIONAL_BRACES.matcher(result).replaceAll("{$1$2}");
     }
 
     /**
@@ -3,6 +3,7 @@ package org.jabref.logic.citationstyle;
 import java.util.Objects;
 
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
@@ -61,6 +62,14 @@ public class CitationStyleCache {
             citationStyleCache.invalidate(entryChangedEvent.getBibEntry());
         }
 
+        /**
+         * removes the outdated citations of the changed entries
+         */
+        @Subscribe
+        public void listen(EntriesChangedEvent entriesChangedEvent) {
+            entriesChangedEvent.getBibEntries().forEach(citationStyleCache::invalidate);
+        }
+
         /**
          * removes the citation of the removed entry as it's not needed anymore
          */
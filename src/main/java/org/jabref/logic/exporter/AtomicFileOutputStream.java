@@ -3,11 +3,15 @@ package org.jabref.logic.exporter;
 import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.util.EnumSet;
 import java.util.Set;
@@ -57,6 +61,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
      * The file to which writes are redirected to.
      */
     private final Path temporaryFile;
+    private final FileChannel temporaryFileChannel;
     private final FileLock temporaryFileLock;
     /**
      * A backup of the target file (if it exists), created when the stream is closed
@@ -71,10 +76,15 @@ public class AtomicFileOutputStream extends FilterOutputStream {
      * @param keepBackup whether to keep the backup file after a successful write process
      */
     public AtomicFileOutputStream(Path path, boolean keepBackup) throws IOException {
-        super(Files.newOutputStream(getPathOfTemporaryFile(path)));
+        this(path, FileChannel.open(getPathOfTemporaryFile(path), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), keepBackup);
+    }
+
+    private AtomicFileOutputStream(Path path, FileChannel temporaryFileChannel, boolean keepBackup) throws IOException {
+        super(Channels.newOutputStream(temporaryFileChannel));
 
         this.targetFile = path;
         this.temporaryFile = getPathOfTemporaryFile(path);
+        this.temporaryFileChannel = temporaryFileChannel;
         this.backupFile = getPathOfBackupFile(path);
         this.keepBackup = keepBackup;
 
@@ -115,6 +125,30 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         return backupFile;
     }
 
+    Path getTargetFile() {
+        return targetFile;
+    }
+
+    /**
+     * Appends the given part of the given file to the temporary file. If supported by the operating system, the bytes
+     * are copied without reading them into memory. All bytes written before must have been flushed.
+     */
+    void transferFrom(FileChannel source, long position, long count) throws IOException {
+        try {
+            long transferred = 0;
+            while (transferred < count) {
+                long bytes = source.transferTo(position + transferred, count - transferred, temporaryFileChannel);
+                if (bytes <= 0) {
+                    throw new IOException("Could not copy " + count + " bytes at position " + position + ", the file ends before");
+                }
+                transferred += bytes;
+            }
+        } catch (IOException exception) {
+            cleanup();
+            throw exception;
+        }
+    }
+
     /**
      * Override for performance reasons.
      */
@@ -182,7 +216,7 @@ public class AtomicFileOutputStream extends FilterOutputStream {
                     PosixFilePermission.GROUP_WRITE,
                     PosixFilePermission.OTHERS_READ);
             if (Files.exists(targetFile)) {
-                Files.copy(targetFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
+                createBackup();
                 if (FileUtil.IS_POSIX_COMPILANT) {
                     try {
                         oldFilePermissions = Files.getPosixFilePermissions(targetFile);
@@ -214,6 +248,20 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         }
     }
 
+    /**
+     * Creates the backup as a second link to the original file, so that large files are not copied. The link keeps
+     * the original contents, because the target file is replaced (and not changed) afterwards.
+     */
+    private void createBackup() throws IOException {
+        Files.deleteIfExists(backupFile);
+        try {
+            Files.createLink(backupFile, targetFile);
+        } catch (FileSystemException | UnsupportedOperationException exception) {
+            LOGGER.debug("Could not link backup file " + backupFile + ", copying it instead", exception);
+            Files.copy(targetFile, backupFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     @Override
     public void flush() throws IOException {
         try {
@@ -1,7 +1,9 @@
 package org.jabref.logic.exporter;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.file.Path;
@@ -20,14 +22,26 @@ public class AtomicFileWriter extends OutputStreamWriter {
 
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
+    private final AtomicFileOutputStream fileStream;
+    private final PositionOutputStream positionStream;
 
     public AtomicFileWriter(Path file, Charset encoding) throws IOException {
         this(file, encoding, false);
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
-        encoder = encoding.newEncoder();
+        this(new AtomicFileOutputStream(file, keepBackup), encoding);
+    }
+
+    private AtomicFileWriter(AtomicFileOutputStream fileStream, Charset encoding) {
+        this(new PositionOutputStream(fileStream), fileStream, encoding);
+    }
+
+    private AtomicFileWriter(PositionOutputStream positionStream, AtomicFileOutputStream fileStream, Charset encoding) {
+        super(positionStream, encoding);
+        this.encoder = encoding.newEncoder();
+        this.fileStream = fileStream;
+        this.positionStream = positionStream;
     }
 
     @Override
@@ -43,6 +57,37 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    @Override
+    public void flush() throws IOException {
+        super.flush();
+        positionStream.flushBuffer();
+    }
+
+    /**
+     * Returns the number of bytes written so far
+     */
+    long getPosition() throws IOException {
+        // Encodes the characters written so far, the bytes are kept in the buffer
+        super.flush();
+        return positionStream.position;
+    }
+
+    /**
+     * Returns the file that is replaced when this writer is closed
+     */
+    Path getFile() {
+        return fileStream.getTargetFile();
+    }
+
+    /**
+     * Appends the given part of the given file without decoding and encoding it again
+     */
+    void transferFrom(FileChannel source, long position, long count) throws IOException {
+        flush();
+        fileStream.transferFrom(source, position, count);
+        positionStream.position += count;
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
@@ -50,4 +95,44 @@ public class AtomicFileWriter extends OutputStreamWriter {
     public Set<Character> getEncodingProblems() {
         return Collections.unmodifiableSet(problemCharacters);
     }
+
+    /**
+     * Buffers and counts the written bytes. The buffer is only written when it is full, when the stream is closed, or
+     * when {@link #flushBuffer()} is called, so that the position can be determined without writing to the file.
+     */
+    private static class PositionOutputStream extends BufferedOutputStream {
+
+        private long position;
+
+        PositionOutputStream(AtomicFileOutputStream out) {
+            super(out, 1 << 16);
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            super.write(b);
+            position++;
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            position += len;
+        }
+
+        @Override
+        public void flush() {
+            // The encoder of the writer flushes the stream whenever the position is determined
+        }
+
+        void flushBuffer() throws IOException {
+            super.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushBuffer();
+            super.close();
+        }
+    }
 }
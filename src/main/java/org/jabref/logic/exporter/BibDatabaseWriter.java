@@ -30,6 +30,7 @@ import org.jabref.model.cleanup.FieldFormatterCleanups;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.BibDatabaseSnapshot;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -148,9 +149,33 @@ public abstract class BibDatabaseWriter {
 
     /**
      * Saves the database, including only the specified entries.
+     * <p>
+     * The save actions and the key generation are applied to the given entries. Afterwards, a snapshot of the database
+     * is written, thus the database can be edited while it is written.
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
-        Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
+        BibDatabase database = bibDatabaseContext.getDatabase();
+
+        // Sort a snapshot, because the values compared must not change while sorting
+        Map<String, BibEntry> entriesById = new HashMap<>();
+        for (BibEntry entry : entries) {
+            entriesById.putIfAbsent(entry.getId(), entry);
+        }
+        List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, database.createSnapshot(entries).getEntries(), preferences)
+                .stream()
+                .map(entry -> entriesById.get(entry.getId()))
+                .collect(Collectors.toList());
+
+        List<FieldChange> saveActionChanges = applySaveActions(getEntriesToClean(sortedEntries), bibDatabaseContext.getMetaData());
+        saveActionsFieldChanges.addAll(saveActionChanges);
+        if (preferences.generateBibtexKeysBeforeSaving()) {
+            List<FieldChange> keyChanges = generateBibtexKeys(bibDatabaseContext, sortedEntries);
+            saveActionsFieldChanges.addAll(keyChanges);
+        }
+
+        BibDatabaseSnapshot snapshot = createSnapshot(database, sortedEntries);
+
+        Optional<String> sharedDatabaseIDOptional = snapshot.getSharedDatabaseID();
 
         if (sharedDatabaseIDOptional.isPresent()) {
             writeDatabaseID(sharedDatabaseIDOptional.get());
@@ -165,21 +190,13 @@ public abstract class BibDatabaseWriter {
         }
 
         // Write preamble if there is one.
-        writePreamble(bibDatabaseContext.getDatabase().getPreamble().orElse(""));
+        writePreamble(snapshot.getPreamble().orElse(""));
 
         // Write strings if there are any.
-        writeStrings(bibDatabaseContext.getDatabase());
+        writeStrings(snapshot.getStrings());
 
         // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
-        saveActionsFieldChanges.addAll(saveActionChanges);
-        if (preferences.generateBibtexKeysBeforeSaving()) {
-            List<FieldChange> keyChanges = generateBibtexKeys(bibDatabaseContext, sortedEntries);
-            saveActionsFieldChanges.addAll(keyChanges);
-        }
-
-        for (BibEntry entry : sortedEntries) {
+        for (BibEntry entry : snapshot.getEntries()) {
             // Check if we must write the type definition for this
             // entry, as well. Our criterion is that all non-standard
             // types (*not* all customized standard types) must be written.
@@ -188,9 +205,8 @@ public abstract class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
+        writeEntries(snapshot.getEntries(), bibDatabaseContext.getMode());
 
         if (preferences.getSaveType() != SavePreferences.DatabaseSaveType.PLAIN_BIBTEX) {
             // Write meta data.
@@ -201,13 +217,36 @@ public abstract class BibDatabaseWriter {
         }
 
         //finally write whatever remains of the file, but at least a concluding newline
-        writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
+        writeEpilogue(snapshot.getEpilog());
 
         writer.close();
     }
 
+    /**
+     * Returns the snapshot of the database that is written, containing the given entries in the given order
+     */
+    protected BibDatabaseSnapshot createSnapshot(BibDatabase database, List<BibEntry> sortedEntries) {
+        return database.createSnapshot(sortedEntries);
+    }
+
     protected abstract void writePrelogue(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
 
+    /**
+     * Returns the entries to which the save actions are applied. By default, these are all entries to be saved.
+     */
+    protected List<BibEntry> getEntriesToClean(List<BibEntry> sortedEntries) {
+        return sortedEntries;
+    }
+
+    /**
+     * Writes the given entries, which are the snapshots of the entries to be saved
+     */
+    protected void writeEntries(List<BibEntry> sortedEntries, BibDatabaseMode mode) throws IOException {
+        for (BibEntry entry : sortedEntries) {
+            writeEntry(entry, mode);
+        }
+    }
+
     protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
@@ -236,14 +275,12 @@ public abstract class BibDatabaseWriter {
      * Write all strings in alphabetical order, modified to produce a safe (for BibTeX) order of the strings if they
      * reference each other.
      *
-     * @param database The database whose strings we should write.
+     * @param databaseStrings The strings of the database we should write.
      */
-    private void writeStrings(BibDatabase database) throws IOException {
-        List<BibtexString> strings = database.getStringKeySet()
-                                             .stream()
-                                             .map(database::getString)
-                                             .sorted(new BibtexStringComparator(true))
-                                             .collect(Collectors.toList());
+    private void writeStrings(List<BibtexString> databaseStrings) throws IOException {
+        List<BibtexString> strings = databaseStrings.stream()
+                                                    .sorted(new BibtexStringComparator(true))
+                                                    .collect(Collectors.toList());
         // First, make a Map of all entries:
         Map<String, BibtexString> remaining = new HashMap<>();
         int maxKeyLength = 0;
@@ -304,15 +341,10 @@ public abstract class BibDatabaseWriter {
      * Generate keys for all entries that are lacking keys.
      */
     protected List<FieldChange> generateBibtexKeys(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        List<FieldChange> changes = new ArrayList<>();
         BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(databaseContext, preferences.getBibtexKeyPatternPreferences());
-        for (BibEntry bes : entries) {
-            Optional<String> oldKey = bes.getCiteKeyOptional();
-            if (StringUtil.isBlank(oldKey)) {
-                Optional<FieldChange> change = keyGenerator.generateAndSetKey(bes);
-                change.ifPresent(changes::add);
-            }
-        }
-        return changes;
+        List<BibEntry> entriesWithoutKey = entries.stream()
+                                                  .filter(entry -> StringUtil.isBlank(entry.getCiteKeyOptional()))
+                                                  .collect(Collectors.toList());
+        return keyGenerator.generateAndSetKeys(entriesWithoutKey);
     }
 }
@@ -2,15 +2,27 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.bibtex.LatexFieldFormatter;
+import org.jabref.logic.bibtex.LatexFieldFormatterPreferences;
+import org.jabref.logic.exporter.SavedEntryPositions.Position;
 import org.jabref.logic.util.OS;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.BibDatabaseSnapshot;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -19,6 +31,12 @@ import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.strings.StringUtil;
 
+/**
+ * Writes a library in the BibTeX format.
+ * <p>
+ * If the {@link SavedEntryPositions} of the library are given, the entries that have not been changed since the last
+ * save are copied from the file written by the last save instead of serializing and encoding them again.
+ */
 public class BibtexDatabaseWriter extends BibDatabaseWriter {
 
     public static final String DATABASE_ID_PREFIX = "DBID:";
@@ -26,8 +44,131 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     private static final String COMMENT_PREFIX = "@Comment";
     private static final String PREAMBLE_PREFIX = "@Preamble";
 
+    private final SavedEntryPositions savedEntryPositions;
+    // The positions of the entries in the new file by the IDs of the entries
+    private final Map<String, Position> newPositions = new HashMap<>();
+
     public BibtexDatabaseWriter(Writer writer, SavePreferences preferences, BibEntryTypesManager entryTypesManager) {
         super(writer, preferences, entryTypesManager);
+        this.savedEntryPositions = null;
+    }
+
+    /**
+     * Creates a writer that copies the unchanged entries from the file written by the last save. The given positions
+     * are updated when the file has been written.
+     */
+    public BibtexDatabaseWriter(AtomicFileWriter writer, SavePreferences preferences, BibEntryTypesManager entryTypesManager,
+                                SavedEntryPositions savedEntryPositions) {
+        super(writer, preferences, entryTypesManager);
+        this.savedEntryPositions = savedEntryPositions;
+    }
+
+    @Override
+    public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        if (savedEntryPositions == null) {
+            super.savePartOfDatabase(bibDatabaseContext, entries);
+            return;
+        }
+
+        Path file = ((AtomicFileWriter) writer).getFile();
+        List<Object> settings = getSerializationSettings(bibDatabaseContext);
+        savedEntryPositions.startSave(file, settings);
+        try {
+            super.savePartOfDatabase(bibDatabaseContext, entries);
+        } catch (IOException | RuntimeException e) {
+            savedEntryPositions.abortSave();
+            throw e;
+        }
+        savedEntryPositions.finishSave(file, settings, newPositions);
+    }
+
+    /**
+     * Returns all settings influencing the serialization of the entries. The positions of the entries are only used if
+     * the file has been written with equal settings.
+     */
+    private List<Object> getSerializationSettings(BibDatabaseContext bibDatabaseContext) {
+        BibDatabaseMode mode = bibDatabaseContext.getMode();
+        LatexFieldFormatterPreferences formatterPreferences = preferences.getLatexFieldFormatterPreferences();
+        List<String> entryTypes = entryTypesManager.getAllTypes(mode).stream()
+                                                   .map(BibEntryTypesManager::serialize)
+                                                   .sorted()
+                                                   .collect(Collectors.toList());
+        return Arrays.asList(preferences.getEncoding(), mode, preferences.isReformatFile(),
+                formatterPreferences.isResolveStringsAllFields(), formatterPreferences.getDoNotResolveStringsFor(),
+                formatterPreferences.getFieldContentParserPreferences().getNonWrappableFields(),
+                bibDatabaseContext.getMetaData().getSaveActions(), entryTypes);
+    }
+
+    @Override
+    protected List<BibEntry> getEntriesToClean(List<BibEntry> sortedEntries) {
+        if (savedEntryPositions == null) {
+            return sortedEntries;
+        }
+        // The save actions have already been applied to the unchanged entries by the last save
+        return sortedEntries.stream()
+                            .filter(entry -> savedEntryPositions.getPositionOfUnchangedEntry(entry).isEmpty())
+                            .collect(Collectors.toList());
+    }
+
+    @Override
+    protected BibDatabaseSnapshot createSnapshot(BibDatabase database, List<BibEntry> sortedEntries) {
+        if (savedEntryPositions != null) {
+            // Entries changed after the snapshot has been taken are written again by the next save
+            savedEntryPositions.startWritingEntries();
+        }
+        return super.createSnapshot(database, sortedEntries);
+    }
+
+    @Override
+    protected void writeEntries(List<BibEntry> sortedEntries, BibDatabaseMode mode) throws IOException {
+        if (savedEntryPositions == null) {
+            super.writeEntries(sortedEntries, mode);
+            return;
+        }
+
+        AtomicFileWriter fileWriter = (AtomicFileWriter) writer;
+        FileChannel previousFile = null;
+        try {
+            // Entries following each other in the previous file are copied at once
+            long copyStart = 0;
+            long copyLength = 0;
+            long newCopyStart = 0;
+            for (BibEntry entry : sortedEntries) {
+                Optional<Position> unchangedPosition = savedEntryPositions.getPositionOfUnchangedEntry(entry);
+                if (unchangedPosition.isPresent()) {
+                    Position position = unchangedPosition.get();
+                    if ((copyLength > 0) && (position.getStart() != (copyStart + copyLength))) {
+                        fileWriter.transferFrom(previousFile, copyStart, copyLength);
+                        copyLength = 0;
+                    }
+                    if (copyLength == 0) {
+                        if (previousFile == null) {
+                            previousFile = FileChannel.open(fileWriter.getFile(), StandardOpenOption.READ);
+                        }
+                        copyStart = position.getStart();
+                        newCopyStart = fileWriter.getPosition();
+                    }
+                    long newStart = newCopyStart + (position.getStart() - copyStart);
+                    newPositions.put(entry.getId(), new Position(newStart, position.getLength(), entry));
+                    copyLength += position.getLength();
+                } else {
+                    if (copyLength > 0) {
+                        fileWriter.transferFrom(previousFile, copyStart, copyLength);
+                        copyLength = 0;
+                    }
+                    long start = fileWriter.getPosition();
+                    writeEntry(entry, mode);
+                    newPositions.put(entry.getId(), new Position(start, fileWriter.getPosition() - start, entry));
+                }
+            }
+            if (copyLength > 0) {
+                fileWriter.transferFrom(previousFile, copyStart, copyLength);
+            }
+        } finally {
+            if (previousFile != null) {
+                previousFile.close();
+            }
+        }
     }
 
     @Override
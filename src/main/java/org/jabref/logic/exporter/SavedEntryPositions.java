@@ -0,0 +1,180 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Positions of the entries in the file written by the last save of a library, and the entries changed since then.
+ * The next save copies the bytes of the unchanged entries from the file instead of serializing and encoding them
+ * again, see {@link BibtexDatabaseWriter}.
+ * <p>
+ * The positions are only known after the library has been saved once, because the parser does not keep the positions
+ * of the entries in the file read. They are not used if the file has been changed by someone else in the meantime or
+ * is written with different settings.
+ */
+public class SavedEntryPositions {
+
+    private static final Map<BibDatabase, SavedEntryPositions> POSITIONS = new MapMaker().weakKeys().makeMap();
+
+    // All fields are guarded by this. The entries are identified by their IDs, because snapshots of the entries are
+    // written.
+    private Map<String, Position> positions = new HashMap<>();
+    private Set<String> changedEntries = new HashSet<>();
+    // The entries changed before the save whose entries are currently written
+    private Set<String> changedEntriesOfSave = new HashSet<>();
+    private Path file;
+    private BasicFileAttributes fileAttributes;
+    private List<Object> settings;
+
+    private SavedEntryPositions() {
+    }
+
+    /**
+     * Returns the positions of the entries of the given database, which follow the changes of the entries from now on
+     */
+    public static SavedEntryPositions of(BibDatabase database) {
+        return POSITIONS.computeIfAbsent(database, key -> {
+            SavedEntryPositions positions = new SavedEntryPositions();
+            key.registerListener(positions);
+            return positions;
+        });
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent event) {
+        changedEntries.add(event.getBibEntry().getId());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent event) {
+        event.getBibEntries().forEach(entry -> changedEntries.add(entry.getId()));
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent event) {
+        positions.remove(event.getBibEntry().getId());
+    }
+
+    /**
+     * Starts writing the given file. The positions are discarded if they do not belong to the current contents of the
+     * file or if the file is written with other settings than before.
+     *
+     * @param settings all settings influencing the serialization of the entries, compared by {@link Object#equals(Object)}
+     */
+    synchronized void startSave(Path file, List<Object> settings) {
+        if (!isValid(file, settings)) {
+            positions = new HashMap<>();
+            this.file = null;
+        }
+    }
+
+    private boolean isValid(Path file, List<Object> settings) {
+        if (!file.equals(this.file) || !settings.equals(this.settings)) {
+            return false;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.lastModifiedTime().equals(fileAttributes.lastModifiedTime())
+                    && (attributes.size() == fileAttributes.size());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the position of the given entry in the file, if the entry has not been changed since it has been written.
+     * An entry that has not been changed since it has been read is written as it was read, thus its parsed
+     * serialization is compared as well.
+     */
+    synchronized Optional<Position> getPositionOfUnchangedEntry(BibEntry entry) {
+        Position position = positions.get(entry.getId());
+        if ((position == null) || changedEntries.contains(entry.getId()) || changedEntriesOfSave.contains(entry.getId())
+                || (position.changed != entry.hasChanged())
+                || (position.parsedSerialization != entry.getParsedSerialization())) {
+            return Optional.empty();
+        }
+        return Optional.of(position);
+    }
+
+    /**
+     * Starts writing the entries. Entries changed from now on are written again by the next save.
+     */
+    synchronized void startWritingEntries() {
+        changedEntriesOfSave.addAll(changedEntries);
+        changedEntries = new HashSet<>();
+    }
+
+    /**
+     * Finishes a successful save of the given file.
+     *
+     * @param newPositions the positions of the entries in the new file by the IDs of the entries
+     */
+    synchronized void finishSave(Path file, List<Object> settings, Map<String, Position> newPositions) {
+        try {
+            fileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+            positions = newPositions;
+            changedEntriesOfSave = new HashSet<>();
+            this.file = file;
+            this.settings = settings;
+        } catch (IOException e) {
+            positions = new HashMap<>();
+            this.file = null;
+        }
+    }
+
+    /**
+     * Finishes a failed save, the entries changed before the save are written again by the next save
+     */
+    synchronized void abortSave() {
+        changedEntries.addAll(changedEntriesOfSave);
+        changedEntriesOfSave = new HashSet<>();
+    }
+
+    /**
+     * The bytes of an entry in the file
+     */
+    static class Position {
+
+        private final long start;
+        private final long length;
+        // The state of the entry when it has been written
+        private final boolean changed;
+        private final String parsedSerialization;
+
+        Position(long start, long length, BibEntry entry) {
+            this.start = start;
+            this.length = length;
+            this.changed = entry.hasChanged();
+            this.parsedSerialization = entry.getParsedSerialization();
+        }
+
+        long getStart() {
+            return start;
+        }
+
+        long getLength() {
+            return length;
+        }
+
+        long getEnd() {
+            return start + length;
+        }
+    }
+}
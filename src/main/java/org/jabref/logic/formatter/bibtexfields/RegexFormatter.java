@@ -26,8 +26,8 @@ public class RegexFormatter extends Formatter {
     private static final int LENGTH_OF_QUOTE_AND_OPENING_BRACE = QUOTE_AND_OPENING_BRACE.length();
     private static final String CLOSING_BRACE_AND_QUOTE = ")\"";
     private static final int LENGTH_OF_CLOSING_BRACE_AND_QUOTE = CLOSING_BRACE_AND_QUOTE.length();
-    private static String regex;
-    private String replacement;
+    private final String regex;
+    private final String replacement;
 
     /**
      * Constructs a new regular expression-based formatter with the given RegEx.
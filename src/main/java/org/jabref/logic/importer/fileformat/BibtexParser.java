@@ -4,21 +4,24 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.bibtex.FieldContentParser;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -60,24 +63,49 @@ import org.slf4j.LoggerFactory;
  * ParserResult result = BibtexParser.parse(reader);
  * <p>
  * Can be used stand-alone.
+ * <p>
+ * Large inputs are split at top-level <code>@</code> characters and the resulting chunks are parsed in parallel. The
+ * result is the same as the one of a sequential parse. In case a chunk cannot be parsed cleanly, the complete input is
+ * parsed sequentially, so that warnings and error recovery are not affected.
  */
 public class BibtexParser implements Parser {
-    private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
+    static final int LOOKAHEAD = 64;
+
+    /**
+     * Number of characters from which on the input is parsed in parallel
+     */
+    static final int PARALLEL_PARSING_THRESHOLD = 1024 * 1024;
 
-    private static final Integer LOOKAHEAD = 64;
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
+    private static final int CHUNKS_PER_THREAD = 4;
     private final FieldContentParser fieldContentParser;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private BibtexParserBuffer input;
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
+    private final FileUpdateMonitor fileMonitor;
+
+    private List<BibEntry> parsedEntries;
+    private List<BibtexString> parsedStrings;
+    private String parsedPreamble;
+    private Map<String, String> meta;
+    private boolean unbracketedCommentFound;
+
+    /**
+     * Required to join the results of chunks parsed in parallel: Text read before the beginning of a chunk belongs to
+     * the text dumped first in that chunk. The prefixer puts it in front of it and is null if the text is dropped.
+     */
+    private boolean textDumped;
+    private Consumer<String> firstDumpedTextPrefixer;
+    private String remainingText;
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
+        this.fileMonitor = fileMonitor;
         fieldContentParser = new FieldContentParser(importFormatPreferences.getFieldContentParserPreferences());
         metaDataParser = new MetaDataParser(fileMonitor);
     }
@@ -131,7 +159,26 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[8192];
+        int charactersRead;
+        while ((content.length() < PARALLEL_PARSING_THRESHOLD) && ((charactersRead = in.read(buffer)) != -1)) {
+            content.append(buffer, 0, charactersRead);
+        }
+        if (content.length() < PARALLEL_PARSING_THRESHOLD) {
+            return parseSequentially(new StringReader(content.toString()));
+        }
+
+        while ((charactersRead = in.read(buffer)) != -1) {
+            content.append(buffer, 0, charactersRead);
+        }
+        return parseInParallel(content.toString(), ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD);
+    }
+
+    ParserResult parseSequentially(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        input = new BibtexParserBuffer(in);
 
         // Bibtex related contents.
         initializeParserResult();
@@ -147,10 +194,151 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Splits the given content into the given number of chunks and parses them in parallel.
+     * Falls back to a sequential parse if the content cannot be split or a chunk cannot be parsed cleanly.
+     */
+    ParserResult parseInParallel(String content, int numberOfChunks) throws IOException {
+        List<Integer> chunkStarts = findChunkStarts(content, numberOfChunks);
+        if ((chunkStarts.size() < 2) || (content.indexOf(65535) >= 0)) {
+            return parseSequentially(new StringReader(content));
+        }
+
+        List<Optional<BibtexParser>> parsedChunks = IntStream.range(0, chunkStarts.size())
+                                                             .parallel()
+                                                             .mapToObj(i -> parseChunk(content, chunkStarts, i))
+                                                             .collect(Collectors.toList());
+
+        if (parsedChunks.stream().anyMatch(Optional::isEmpty)
+                || !joinChunks(parsedChunks.stream().map(Optional::get).collect(Collectors.toList()))) {
+            LOGGER.debug("Could not parse file in parallel, falling back to sequential parsing");
+            return parseSequentially(new StringReader(content));
+        }
+        return parserResult;
+    }
+
+    /**
+     * Determines the positions at which the content can be split into chunks. A chunk starts with an <code>@</code>
+     * at the beginning of a line outside of any braces. The first chunk always starts at position 0.
+     */
+    static List<Integer> findChunkStarts(String content, int numberOfChunks) {
+        List<Integer> chunkStarts = new ArrayList<>();
+        chunkStarts.add(0);
+
+        int chunkSize = Math.max(1, content.length() / Math.max(1, numberOfChunks));
+        int nextChunkStart = chunkSize;
+        int brackets = 0;
+        char lastCharacter = '\0';
+        for (int i = 0; i < content.length(); i++) {
+            char character = content.charAt(i);
+            if ((character == '{') && !isEscapeSymbol(lastCharacter)) {
+                brackets++;
+            } else if ((character == '}') && !isEscapeSymbol(lastCharacter)) {
+                brackets--;
+                if (brackets < 0) {
+                    // Unbalanced text outside of entries, we cannot tell anymore where an entry starts
+                    break;
+                }
+            } else if ((character == '@') && (brackets == 0) && (i >= nextChunkStart)
+                    && ((lastCharacter == '\n') || (lastCharacter == '\r'))) {
+                chunkStarts.add(i);
+                nextChunkStart = i + chunkSize;
+            }
+            lastCharacter = character;
+        }
+        return chunkStarts;
+    }
+
+    /**
+     * Parses the chunk with the given index using a new parser.
+     * In contrast to {@link #parseSequentially(Reader)}, the entries are not added to the database and neither the meta
+     * data nor the remaining text are processed.
+     *
+     * @return the parser holding the parsed chunk or an empty optional if the chunk could not be parsed cleanly
+     */
+    private Optional<BibtexParser> parseChunk(String content, List<Integer> chunkStarts, int chunkIndex) {
+        int start = chunkStarts.get(chunkIndex);
+        int end = (chunkIndex + 1) < chunkStarts.size() ? chunkStarts.get(chunkIndex + 1) : content.length();
+        String chunk = content.substring(start, end);
+        // The file header is only expected in the first chunk
+        if ((chunkIndex > 0) && (chunk.contains(BibtexDatabaseWriter.DATABASE_ID_PREFIX) || chunk.contains(SavePreferences.ENCODING_PREFIX))) {
+            return Optional.empty();
+        }
+
+        BibtexParser chunkParser = new BibtexParser(importFormatPreferences, fileMonitor);
+        try {
+            chunkParser.input = new BibtexParserBuffer(new StringReader(chunk));
+            chunkParser.initializeParserResult();
+            chunkParser.parseDatabaseID();
+            chunkParser.skipWhitespace();
+            chunkParser.parseItems();
+            chunkParser.remainingText = chunkParser.getPureTextFromFile();
+        } catch (IOException | KeyCollisionException e) {
+            LOGGER.debug("Could not parse chunk", e);
+            return Optional.empty();
+        }
+
+        if (chunkParser.parserResult.hasWarnings() || chunkParser.unbracketedCommentFound) {
+            return Optional.empty();
+        }
+        return Optional.of(chunkParser);
+    }
+
+    /**
+     * Joins the results of the given chunk parsers in the order of the chunks, as if they were parsed sequentially.
+     *
+     * @return false if the chunks cannot be joined
+     */
+    private boolean joinChunks(List<BibtexParser> chunkParsers) {
+        initializeParserResult();
+
+        String textCarriedOver = "";
+        for (BibtexParser chunkParser : chunkParsers) {
+            if (!chunkParser.textDumped) {
+                textCarriedOver += chunkParser.remainingText;
+            } else {
+                if (!textCarriedOver.isEmpty() && (chunkParser.firstDumpedTextPrefixer != null)) {
+                    if (textCarriedOver.contains(BibtexDatabaseWriter.DATABASE_ID_PREFIX) || textCarriedOver.contains(SavePreferences.ENCODING_PREFIX)) {
+                        return false;
+                    }
+                    chunkParser.firstDumpedTextPrefixer.accept(textCarriedOver);
+                }
+                textCarriedOver = chunkParser.remainingText;
+            }
+
+            chunkParser.database.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+            if (chunkParser.parsedPreamble != null) {
+                database.setPreamble(chunkParser.parsedPreamble);
+                parsedPreamble = chunkParser.parsedPreamble;
+            }
+            chunkParser.parsedStrings.forEach(this::addString);
+            entryTypes.addAll(chunkParser.entryTypes);
+            meta.putAll(chunkParser.meta);
+            parsedEntries.addAll(chunkParser.parsedEntries);
+        }
+
+        try {
+            insertParsedEntries();
+        } catch (KeyCollisionException e) {
+            return false;
+        }
+        parseMetaData();
+        database.setEpilog(purgeTextReadSoFar(textCarriedOver).trim());
+        checkEpilog();
+        return true;
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        parsedEntries = new ArrayList<>();
+        parsedStrings = new ArrayList<>();
+        parsedPreamble = null;
+        meta = new HashMap<>();
+        unbracketedCommentFound = false;
+        textDumped = false;
+        firstDumpedTextPrefixer = null;
     }
 
     private void parseDatabaseID() throws IOException {
@@ -175,8 +363,20 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
+        parseItems();
+
+        insertParsedEntries();
+
+        parseMetaData();
+
+        parseRemainingContent();
+
+        checkEpilog();
+
+        return parserResult;
+    }
 
+    private void parseItems() throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -189,11 +389,13 @@ public class BibtexParser implements Parser {
             String entryType = parseTextToken().toLowerCase(Locale.ROOT).trim();
 
             if ("preamble".equals(entryType)) {
-                database.setPreamble(parsePreamble());
+                parsedPreamble = parsePreamble();
+                database.setPreamble(parsedPreamble);
                 // Consume new line which signals end of preamble
                 skipOneNewline();
                 // the preamble is saved verbatim anyways, so the text read so far can be dropped
                 dumpTextReadSoFarToString();
+                recordDroppedDump();
             } else if ("string".equals(entryType)) {
                 parseBibtexString();
             } else if ("comment".equals(entryType)) {
@@ -205,19 +407,24 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
+
+    private void insertParsedEntries() {
+        for (BibEntry entry : parsedEntries) {
+            boolean duplicateKey = database.insertEntry(entry);
+            if (duplicateKey) {
+                parserResult.addDuplicateKey(entry.getCiteKey());
+            }
+        }
+    }
 
+    private void parseMetaData() {
         // Instantiate meta data:
         try {
             parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
         } catch (ParseException exception) {
             parserResult.addException(exception);
         }
-
-        parseRemainingContent();
-
-        checkEpilog();
-
-        return parserResult;
     }
 
     private void checkEpilog() {
@@ -244,11 +451,12 @@ public class BibtexParser implements Parser {
                     commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
             // store complete parsed serialization (comments, type definition + type contents)
             entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
+            recordFirstDump(text -> {
+                entry.setCommentsBeforeEntry(text + entry.getUserComments());
+                entry.setParsedSerialization(text + entry.getParsedSerialization());
+            });
 
-            boolean duplicateKey = database.insertEntry(entry);
-            if (duplicateKey) {
-                parserResult.addDuplicateKey(entry.getCiteKey());
-            }
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // Trying to make the parser more robust.
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -269,6 +477,7 @@ public class BibtexParser implements Parser {
             *  by the parser
              */
             LOGGER.info("Found unbracketed comment");
+            unbracketedCommentFound = true;
             return;
         }
 
@@ -289,6 +498,7 @@ public class BibtexParser implements Parser {
 
                     // meta comments are always re-written by JabRef and not stored in the file
                     dumpTextReadSoFarToString();
+                    recordDroppedDump();
                 }
             }
         } else if (comment.substring(0, Math.min(comment.length(), BibEntryTypesManager.ENTRYTYPE_FLAG.length()))
@@ -304,6 +514,7 @@ public class BibtexParser implements Parser {
 
             // custom entry types are always re-written by JabRef and not stored in the file
             dumpTextReadSoFarToString();
+            recordDroppedDump();
         }
 
     }
@@ -311,13 +522,30 @@ public class BibtexParser implements Parser {
     private void parseBibtexString() throws IOException {
         BibtexString bibtexString = parseString();
         bibtexString.setParsedSerialization(dumpTextReadSoFarToString());
+        recordFirstDump(text -> bibtexString.setParsedSerialization(text + bibtexString.getParsedSerialization()));
+        addString(bibtexString);
+    }
+
+    private void addString(BibtexString bibtexString) {
         try {
             database.addString(bibtexString);
+            parsedStrings.add(bibtexString);
         } catch (KeyCollisionException ex) {
             parserResult.addWarning(Localization.lang("Duplicate string name") + ": " + bibtexString.getName());
         }
     }
 
+    private void recordFirstDump(Consumer<String> prefixer) {
+        if (!textDumped) {
+            textDumped = true;
+            firstDumpedTextPrefixer = prefixer;
+        }
+    }
+
+    private void recordDroppedDump() {
+        recordFirstDump(null);
+    }
+
     /**
      * Puts all text that has been read from the reader, including newlines, etc., since the last call of this method into a string.
      * Removes the JabRef file header, if it is found
@@ -325,7 +553,10 @@ public class BibtexParser implements Parser {
      * @return the text read so far
      */
     private String dumpTextReadSoFarToString() {
-        String result = getPureTextFromFile();
+        return purgeTextReadSoFar(getPureTextFromFile());
+    }
+
+    private String purgeTextReadSoFar(String result) {
         int indexOfAt = result.indexOf("@");
 
         // if there is no entry found, simply return the content (necessary to parse text remaining after the last entry)
@@ -359,12 +590,7 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        return input.dumpText();
     }
 
     /**
@@ -467,11 +693,8 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character = input.read();
 
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
-        }
         if (character == '\n') {
             line++;
         }
@@ -482,10 +705,7 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
-        }
+        input.unread(character);
     }
 
     private BibtexString parseString() throws IOException {
@@ -887,7 +1107,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private boolean isEscapeSymbol(char character) {
+    private static boolean isEscapeSymbol(char character) {
         return '\\' == character;
     }
 
@@ -0,0 +1,131 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Character source used by {@link BibtexParser}.
+ * <p>
+ * The underlying reader is read in bulk into a single <code>char[]</code> window. The text read since the last call of
+ * {@link #dumpText()} is not copied, but kept as an offset into that window. Hence, the window only holds the text
+ * which has not been dumped yet and is compacted (or grown) whenever it runs full.
+ * <p>
+ * Characters which are pushed back using {@link #unread(int)} and which do not match the preceding character of the
+ * window (e.g., the end-of-file marker or characters re-ordered while restoring a corrupted key) are kept on a separate
+ * stack. They are returned by {@link #read()} again, but do not belong to the text read so far.
+ */
+final class BibtexParserBuffer {
+
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private final Reader reader;
+    private char[] buffer = new char[INITIAL_CAPACITY];
+
+    /**
+     * Start of the text read so far
+     */
+    private int textStart;
+
+    /**
+     * Position of the next character to read
+     */
+    private int position;
+
+    /**
+     * End of the characters read from the reader
+     */
+    private int limit;
+    private boolean readerExhausted;
+
+    private int[] pushedBack = new int[BibtexParser.LOOKAHEAD];
+    private int pushedBackCount;
+
+    BibtexParserBuffer(Reader reader) {
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    /**
+     * Reads the next character.
+     *
+     * @return the character read or -1 if the end of the reader has been reached
+     */
+    int read() throws IOException {
+        if (pushedBackCount > 0) {
+            pushedBackCount--;
+            return pushedBack[pushedBackCount];
+        }
+        if ((position == limit) && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Pushes back the given character, so that it is returned by the next call of {@link #read()}.
+     * In contrast to {@link java.io.PushbackReader}, there is no limit on the number of characters pushed back.
+     */
+    void unread(int character) {
+        if ((pushedBackCount == 0) && (position > textStart) && (buffer[position - 1] == character)) {
+            position--;
+            return;
+        }
+
+        if (pushedBackCount == pushedBack.length) {
+            pushedBack = Arrays.copyOf(pushedBack, pushedBack.length * 2);
+        }
+        // Same as PushbackReader: the end-of-file marker -1 is stored as character 65535
+        pushedBack[pushedBackCount] = (char) character;
+        pushedBackCount++;
+    }
+
+    /**
+     * Returns the text which has been read since the last call of this method (including newlines, etc.)
+     */
+    String dumpText() {
+        String text = new String(buffer, textStart, position - textStart);
+        textStart = position;
+        return text;
+    }
+
+    /**
+     * Reads the next chunk of the reader into the window
+     *
+     * @return false if the reader is exhausted
+     */
+    private boolean fill() throws IOException {
+        if (readerExhausted) {
+            return false;
+        }
+
+        if (limit == buffer.length) {
+            makeRoom();
+        }
+
+        int charactersRead = reader.read(buffer, limit, buffer.length - limit);
+        if (charactersRead == -1) {
+            readerExhausted = true;
+            return false;
+        }
+        limit += charactersRead;
+        return true;
+    }
+
+    /**
+     * Drops the already dumped text from the window. The window is doubled if the text read so far occupies more than
+     * half of it.
+     */
+    private void makeRoom() {
+        int retained = limit - textStart;
+        char[] target = buffer;
+        if (retained > (buffer.length / 2)) {
+            target = new char[buffer.length * 2];
+        }
+        System.arraycopy(buffer, textStart, target, 0, retained);
+        buffer = target;
+        position -= textStart;
+        limit = retained;
+        textStart = 0;
+    }
+}
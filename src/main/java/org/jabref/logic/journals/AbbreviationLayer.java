@@ -0,0 +1,51 @@
+package org.jabref.logic.journals;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A list of journal abbreviations, which can be searched by their case-folded names.
+ * <p>
+ * A {@link JournalAbbreviationRepository} stacks several layers. An abbreviation overrides all abbreviations of lower
+ * layers having the same full name.
+ */
+interface AbbreviationLayer {
+
+    /**
+     * Returns the abbreviation added last, whose name of the given type equals the given case-folded name and which is
+     * accepted by the filter
+     */
+    Optional<Abbreviation> find(NameType nameType, String foldedName, Predicate<Abbreviation> filter);
+
+    /**
+     * Returns true if the layer contains an abbreviation with exactly the given full name
+     */
+    boolean containsName(String name);
+
+    /**
+     * Returns all abbreviations in the order they have been added
+     */
+    Stream<Abbreviation> stream();
+
+    enum NameType {
+        FULL_NAME(Abbreviation::getName),
+        ISO_ABBREVIATION(Abbreviation::getIsoAbbreviation),
+        MEDLINE_ABBREVIATION(Abbreviation::getMedlineAbbreviation);
+
+        private final Function<Abbreviation, String> nameGetter;
+
+        NameType(Function<Abbreviation, String> nameGetter) {
+            this.nameGetter = nameGetter;
+        }
+
+        String getName(Abbreviation abbreviation) {
+            return nameGetter.apply(abbreviation);
+        }
+
+        String getFoldedName(Abbreviation abbreviation) {
+            return JournalAbbreviationRepository.foldCase(getName(abbreviation));
+        }
+    }
+}
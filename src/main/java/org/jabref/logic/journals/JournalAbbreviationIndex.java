@@ -0,0 +1,244 @@
+package org.jabref.logic.journals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable list of journal abbreviations stored in a compact binary format.
+ * <p>
+ * The built-in journal lists are compiled into this format during the build (see the task
+ * <code>generateJournalAbbreviationIndex</code>), so that they are read in one bulk pass instead of being parsed line
+ * by line. The format consists of big-endian integers and UTF-8 encoded strings:
+ * <ol>
+ *     <li>a header consisting of a magic number and the version of the format,</li>
+ *     <li>a sorted table of all distinct names and abbreviations, given by their offsets into the encoded strings,</li>
+ *     <li>the abbreviations as pairs of indices into the string table, in the order they have been added,</li>
+ *     <li>for each {@link AbbreviationLayer.NameType}, a hash table (linear probing) from the case-folded name to the
+ *     abbreviations.</li>
+ * </ol>
+ * Abbreviations are only created on demand, so that the index needs far less memory than the abbreviations
+ * themselves.
+ */
+public final class JournalAbbreviationIndex implements AbbreviationLayer {
+
+    private static final int MAGIC = 0x4A414958; // "JAIX"
+    private static final int VERSION = 1;
+    private static final int EMPTY_SLOT = 0;
+
+    private final byte[] strings;
+    private final int[] stringOffsets;
+    // Pairs of string indices (name, abbreviation)
+    private final int[] entries;
+    // Contains entry index + 1 for each slot
+    private final int[][] hashTables;
+
+    private JournalAbbreviationIndex(byte[] strings, int[] stringOffsets, int[] entries, int[][] hashTables) {
+        this.strings = strings;
+        this.stringOffsets = stringOffsets;
+        this.entries = entries;
+        this.hashTables = hashTables;
+    }
+
+    /**
+     * Creates an index of the given abbreviations. Of several abbreviations having the same full name, the last one
+     * wins, as in {@link JournalAbbreviationRepository#addEntry(Abbreviation)}.
+     */
+    public static JournalAbbreviationIndex of(Collection<Abbreviation> abbreviations) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            write(abbreviations, outputStream);
+            return read(new ByteArrayInputStream(outputStream.toByteArray()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #write(Collection, OutputStream)}
+     *
+     * @throws IOException if the stream could not be read or does not contain an index of the current format
+     */
+    public static JournalAbbreviationIndex read(InputStream inputStream) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(inputStream.readAllBytes());
+        try {
+            if ((buffer.getInt() != MAGIC) || (buffer.getInt() != VERSION)) {
+                throw new IOException("Not a journal abbreviation index of version " + VERSION);
+            }
+
+            int[] stringOffsets = readInts(buffer, buffer.getInt() + 1);
+            byte[] strings = new byte[stringOffsets[stringOffsets.length - 1]];
+            buffer.get(strings);
+            int[] entries = readInts(buffer, 2 * buffer.getInt());
+            int[][] hashTables = new int[NameType.values().length][];
+            for (int i = 0; i < hashTables.length; i++) {
+                hashTables[i] = readInts(buffer, buffer.getInt());
+            }
+            return new JournalAbbreviationIndex(strings, stringOffsets, entries, hashTables);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Journal abbreviation index is truncated", e);
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        IntBuffer intBuffer = buffer.asIntBuffer();
+        intBuffer.get(values);
+        buffer.position(buffer.position() + (count * Integer.BYTES));
+        return values;
+    }
+
+    public static void write(Collection<Abbreviation> abbreviations, OutputStream outputStream) throws IOException {
+        // Abbreviation equality is tested on name only, so the last abbreviation of a name replaces the former ones
+        Map<String, Abbreviation> abbreviationsByName = new LinkedHashMap<>();
+        for (Abbreviation abbreviation : abbreviations) {
+            abbreviationsByName.remove(abbreviation.getName());
+            abbreviationsByName.put(abbreviation.getName(), abbreviation);
+        }
+        List<Abbreviation> entryList = new ArrayList<>(abbreviationsByName.values());
+
+        TreeSet<String> sortedStrings = new TreeSet<>();
+        for (Abbreviation abbreviation : entryList) {
+            sortedStrings.add(abbreviation.getName());
+            sortedStrings.add(abbreviation.getAbbreviation());
+        }
+        Map<String, Integer> stringIndices = new HashMap<>();
+        ByteArrayOutputStream encodedStrings = new ByteArrayOutputStream();
+        int[] stringOffsets = new int[sortedStrings.size() + 1];
+        for (String string : sortedStrings) {
+            stringIndices.put(string, stringIndices.size());
+            encodedStrings.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+            stringOffsets[stringIndices.size()] = encodedStrings.size();
+        }
+
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+
+        output.writeInt(sortedStrings.size());
+        for (int offset : stringOffsets) {
+            output.writeInt(offset);
+        }
+        encodedStrings.writeTo(output);
+
+        output.writeInt(entryList.size());
+        for (Abbreviation abbreviation : entryList) {
+            output.writeInt(stringIndices.get(abbreviation.getName()));
+            output.writeInt(stringIndices.get(abbreviation.getAbbreviation()));
+        }
+
+        for (NameType nameType : NameType.values()) {
+            int[] hashTable = createHashTable(entryList, nameType);
+            output.writeInt(hashTable.length);
+            for (int slot : hashTable) {
+                output.writeInt(slot);
+            }
+        }
+        output.flush();
+    }
+
+    private static int[] createHashTable(List<Abbreviation> entryList, NameType nameType) {
+        // At most half of the slots are used
+        int size = 2;
+        while (size < (2 * entryList.size())) {
+            size <<= 1;
+        }
+
+        int[] hashTable = new int[size];
+        for (int i = 0; i < entryList.size(); i++) {
+            int slot = getFirstSlot(nameType.getFoldedName(entryList.get(i)), size);
+            while (hashTable[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & (size - 1);
+            }
+            hashTable[slot] = i + 1;
+        }
+        return hashTable;
+    }
+
+    private static int getFirstSlot(String foldedName, int size) {
+        // String.hashCode is specified, hence it can be used in a persistent hash table
+        int hash = foldedName.hashCode();
+        return (hash ^ (hash >>> 16)) & (size - 1);
+    }
+
+    public int size() {
+        return entries.length / 2;
+    }
+
+    private String getString(int index) {
+        return new String(strings, stringOffsets[index], stringOffsets[index + 1] - stringOffsets[index], StandardCharsets.UTF_8);
+    }
+
+    private Abbreviation getAbbreviation(int entry) {
+        return new Abbreviation(getString(entries[2 * entry]), getString(entries[(2 * entry) + 1]));
+    }
+
+    @Override
+    public Optional<Abbreviation> find(NameType nameType, String foldedName, Predicate<Abbreviation> filter) {
+        int[] hashTable = hashTables[nameType.ordinal()];
+
+        // Abbreviations having the same name are found in the order they have been added
+        List<Abbreviation> matches = new ArrayList<>(1);
+        for (int slot = getFirstSlot(foldedName, hashTable.length); hashTable[slot] != EMPTY_SLOT; slot = (slot + 1) & (hashTable.length - 1)) {
+            Abbreviation abbreviation = getAbbreviation(hashTable[slot] - 1);
+            if (nameType.getFoldedName(abbreviation).equals(foldedName)) {
+                matches.add(abbreviation);
+            }
+        }
+
+        for (int i = matches.size() - 1; i >= 0; i--) {
+            if (filter.test(matches.get(i))) {
+                return Optional.of(matches.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean containsName(String name) {
+        return find(NameType.FULL_NAME, JournalAbbreviationRepository.foldCase(name), abbreviation -> abbreviation.getName().equals(name))
+                .isPresent();
+    }
+
+    @Override
+    public Stream<Abbreviation> stream() {
+        return IntStream.range(0, size()).mapToObj(this::getAbbreviation);
+    }
+
+    /**
+     * Compiles journal lists into indexes. Used by the build.
+     *
+     * @param args pairs of the journal list to read and the index file to write
+     */
+    public static void main(String[] args) throws IOException {
+        for (int i = 0; (i + 1) < args.length; i += 2) {
+            AbbreviationParser parser = new AbbreviationParser();
+            parser.readJournalListFromFile(new File(args[i]));
+            try (OutputStream outputStream = Files.newOutputStream(Path.of(args[i + 1]))) {
+                write(parser.getAbbreviations(), outputStream);
+            }
+        }
+    }
+}
@@ -2,10 +2,14 @@ package org.jabref.logic.journals;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +21,10 @@ public class JournalAbbreviationLoader {
     private static final String JOURNALS_FILE_BUILTIN = "/journals/journalList.txt";
     private static final String JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE = "/journals/IEEEJournalListCode.txt";
     private static final String JOURNALS_IEEE_ABBREVIATION_LIST_WITH_TEXT = "/journals/IEEEJournalListText.txt";
+
+    // The built-in lists do not change while JabRef is running
+    private static final Map<String, JournalAbbreviationIndex> BUILT_IN_INDEXES = new ConcurrentHashMap<>();
+
     private JournalAbbreviationRepository journalAbbrev;
 
     public static List<Abbreviation> getOfficialIEEEAbbreviations() {
@@ -51,6 +59,24 @@ public class JournalAbbreviationLoader {
         return parser.getAbbreviations();
     }
 
+    /**
+     * Returns the index of the given built-in journal list. The index is compiled during the build and stored next to
+     * the journal list. If it is missing (e.g., when running from an IDE), the journal list is parsed instead.
+     */
+    static JournalAbbreviationIndex getBuiltInIndex(String journalListResource) {
+        return BUILT_IN_INDEXES.computeIfAbsent(journalListResource, resource -> {
+            String indexResource = resource.replaceFirst("\\.txt$", ".idx");
+            try (InputStream stream = JournalAbbreviationLoader.class.getResourceAsStream(indexResource)) {
+                if (stream != null) {
+                    return JournalAbbreviationIndex.read(stream);
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read journal abbreviation index " + indexResource, e);
+            }
+            return JournalAbbreviationIndex.of(readJournalListFromResource(resource));
+        });
+    }
+
     public void update(JournalAbbreviationPreferences journalAbbreviationPreferences) {
         journalAbbrev = new JournalAbbreviationRepository();
 
@@ -59,13 +85,13 @@ public class JournalAbbreviationLoader {
         // for instance, in the personal list one can overwrite abbreviations in the built in list
 
         // Read builtin list
-        journalAbbrev.addEntries(readJournalListFromResource(JOURNALS_FILE_BUILTIN));
+        journalAbbrev.addIndex(getBuiltInIndex(JOURNALS_FILE_BUILTIN));
 
         // read IEEE list
         if (journalAbbreviationPreferences.useIEEEAbbreviations()) {
-            journalAbbrev.addEntries(getOfficialIEEEAbbreviations());
+            journalAbbrev.addIndex(getBuiltInIndex(JOURNALS_IEEE_ABBREVIATION_LIST_WITH_CODE));
         } else {
-            journalAbbrev.addEntries(getStandardIEEEAbbreviations());
+            journalAbbrev.addIndex(getBuiltInIndex(JOURNALS_IEEE_ABBREVIATION_LIST_WITH_TEXT));
         }
 
         // Read external lists
@@ -1,18 +1,36 @@
 package org.jabref.logic.journals;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jabref.logic.journals.AbbreviationLayer.NameType;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The abbreviations are organized in layers: prebuilt {@link JournalAbbreviationIndex indexes} of the built-in lists
+ * and the abbreviations added one by one (e.g., from the personal list). An abbreviation overrides all abbreviations
+ * added before having the same full name. Lookups are answered by hash tables from the case-folded full names, ISO
+ * abbreviations and Medline abbreviations. If several abbreviations share a name, the abbreviation added last wins.
  */
 public class JournalAbbreviationRepository {
 
-    private final Set<Abbreviation> abbreviations = new HashSet<>(16000); // We have over 15.000 abbreviations in the built-in lists
+    // Replaced as a whole when a layer is added, so that readers do not need to synchronize
+    private volatile List<AbbreviationLayer> layers = Collections.emptyList();
 
     public JournalAbbreviationRepository(Abbreviation... abbreviations) {
         for (Abbreviation abbreviation : abbreviations) {
@@ -20,21 +38,19 @@ public class JournalAbbreviationRepository {
         }
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
-    }
-
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isAbbreviated = name.equalsIgnoreCase(abbreviation.getIsoAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getMedlineAbbreviation());
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        return isAbbreviated && !isExpanded;
+    /**
+     * Folds the case of the given name the same way {@link String#equalsIgnoreCase(String)} compares characters
+     */
+    static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(name.charAt(i))));
+        }
+        return folded.toString();
     }
 
     public int size() {
-        return abbreviations.size();
+        return (int) getVisibleAbbreviations().count();
     }
 
     /**
@@ -42,7 +58,7 @@ public class JournalAbbreviationRepository {
      * Letters) or its abbreviated form (e.g. Phys. Rev. Lett.).
      */
     public boolean isKnownName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatched(journalName.trim(), abbreviation));
+        return getAbbreviation(journalName).isPresent();
     }
 
     /**
@@ -50,35 +66,98 @@ public class JournalAbbreviationRepository {
      * i.e. journals whose abbreviation is the same as the full name are not considered
      */
     public boolean isAbbreviatedName(String journalName) {
-        return abbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journalName.trim(), abbreviation));
+        String foldedName = foldCase(journalName.trim());
+        Predicate<Abbreviation> isNotFullName = abbreviation -> !NameType.FULL_NAME.getFoldedName(abbreviation).equals(foldedName);
+        return find(NameType.ISO_ABBREVIATION, foldedName, isNotFullName).isPresent()
+                || find(NameType.MEDLINE_ABBREVIATION, foldedName, isNotFullName).isPresent();
     }
 
     /**
      * Attempts to get the abbreviated name of the journal given. May contain dots.
+     * <p>
+     * If the given name is the full name of one abbreviation and the abbreviated name of another one, the abbreviation
+     * having the given full name is returned.
      *
      * @param journalName The journal name to abbreviate.
      * @return The abbreviated name
      */
     public Optional<Abbreviation> getAbbreviation(String journalName) {
-        return abbreviations.stream().filter(abbreviation -> isMatched(journalName.trim(), abbreviation)).findFirst();
+        String foldedName = foldCase(journalName.trim());
+        for (NameType nameType : NameType.values()) {
+            Optional<Abbreviation> abbreviation = find(nameType, foldedName, any -> true);
+            if (abbreviation.isPresent()) {
+                return abbreviation;
+            }
+        }
+        return Optional.empty();
     }
 
-    public void addEntry(Abbreviation abbreviation) {
-        Objects.requireNonNull(abbreviation);
+    /**
+     * Searches the layers from top to bottom, skipping abbreviations which are overridden by an upper layer
+     */
+    private Optional<Abbreviation> find(NameType nameType, String foldedName, Predicate<Abbreviation> filter) {
+        List<AbbreviationLayer> currentLayers = layers;
+        for (int i = currentLayers.size() - 1; i >= 0; i--) {
+            int layer = i;
+            Optional<Abbreviation> abbreviation = currentLayers.get(i).find(nameType, foldedName,
+                    filter.and(candidate -> !isOverridden(currentLayers, layer, candidate)));
+            if (abbreviation.isPresent()) {
+                return abbreviation;
+            }
+        }
+        return Optional.empty();
+    }
 
-        // Abbreviation equality is tested on name only, so we might have to remove an old abbreviation
-        if (abbreviations.contains(abbreviation)) {
-            abbreviations.remove(abbreviation);
+    private static boolean isOverridden(List<AbbreviationLayer> layers, int layer, Abbreviation abbreviation) {
+        for (int i = layer + 1; i < layers.size(); i++) {
+            if (layers.get(i).containsName(abbreviation.getName())) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private Stream<Abbreviation> getVisibleAbbreviations() {
+        List<AbbreviationLayer> currentLayers = layers;
+        return IntStream.range(0, currentLayers.size())
+                        .boxed()
+                        .flatMap(layer -> currentLayers.get(layer).stream()
+                                                       .filter(abbreviation -> !isOverridden(currentLayers, layer, abbreviation)));
+    }
 
-        abbreviations.add(abbreviation);
+    /**
+     * Adds all abbreviations of the given index. They override the abbreviations added before.
+     */
+    public synchronized void addIndex(JournalAbbreviationIndex index) {
+        addLayer(Objects.requireNonNull(index));
+    }
+
+    private void addLayer(AbbreviationLayer layer) {
+        List<AbbreviationLayer> newLayers = new ArrayList<>(layers);
+        newLayers.add(layer);
+        layers = Collections.unmodifiableList(newLayers);
+    }
+
+    public synchronized void addEntry(Abbreviation abbreviation) {
+        Objects.requireNonNull(abbreviation);
+
+        // Consecutively added abbreviations share a layer
+        List<AbbreviationLayer> currentLayers = layers;
+        if (currentLayers.isEmpty() || !(currentLayers.get(currentLayers.size() - 1) instanceof AddedAbbreviations)) {
+            addLayer(new AddedAbbreviations());
+        }
+        ((AddedAbbreviations) layers.get(layers.size() - 1)).add(abbreviation);
     }
 
     public void addEntries(Collection<Abbreviation> abbreviationsToAdd) {
         abbreviationsToAdd.forEach(this::addEntry);
     }
 
+    /**
+     * Returns all abbreviations which are not overridden by another one
+     */
     public Set<Abbreviation> getAbbreviations() {
+        Set<Abbreviation> abbreviations = getVisibleAbbreviations().collect(Collectors.toCollection(LinkedHashSet::new));
         return Collections.unmodifiableSet(abbreviations);
     }
 
@@ -93,4 +172,77 @@ public class JournalAbbreviationRepository {
     public Optional<String> getIsoAbbreviation(String text) {
         return getAbbreviation(text).map(Abbreviation::getIsoAbbreviation);
     }
+
+    /**
+     * Abbreviations added one by one. The hash tables are rebuilt on the first lookup after abbreviations have been
+     * added.
+     */
+    private static class AddedAbbreviations implements AbbreviationLayer {
+
+        // Keeps the order in which the abbreviations were added
+        private final Map<String, Abbreviation> abbreviationsByName = new LinkedHashMap<>();
+
+        private volatile Index index = new Index(Collections.emptyList());
+
+        synchronized void add(Abbreviation abbreviation) {
+            // Abbreviation equality is tested on name only, so we might have to remove an old abbreviation
+            abbreviationsByName.remove(abbreviation.getName());
+            abbreviationsByName.put(abbreviation.getName(), abbreviation);
+            index = null;
+        }
+
+        private Index getIndex() {
+            Index currentIndex = index;
+            if (currentIndex == null) {
+                synchronized (this) {
+                    if (index == null) {
+                        index = new Index(abbreviationsByName.values());
+                    }
+                    currentIndex = index;
+                }
+            }
+            return currentIndex;
+        }
+
+        @Override
+        public Optional<Abbreviation> find(NameType nameType, String foldedName, Predicate<Abbreviation> filter) {
+            List<Abbreviation> abbreviations = getIndex().byName.get(nameType).getOrDefault(foldedName, Collections.emptyList());
+            for (int i = abbreviations.size() - 1; i >= 0; i--) {
+                if (filter.test(abbreviations.get(i))) {
+                    return Optional.of(abbreviations.get(i));
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean containsName(String name) {
+            return getIndex().names.contains(name);
+        }
+
+        @Override
+        public Stream<Abbreviation> stream() {
+            return getIndex().abbreviations.stream();
+        }
+    }
+
+    private static class Index {
+
+        private final List<Abbreviation> abbreviations;
+        private final Set<String> names;
+        // Lists of abbreviations in the order they have been added
+        private final Map<NameType, Map<String, List<Abbreviation>>> byName = new EnumMap<>(NameType.class);
+
+        Index(Collection<Abbreviation> abbreviations) {
+            this.abbreviations = new ArrayList<>(abbreviations);
+            this.names = this.abbreviations.stream().map(Abbreviation::getName).collect(Collectors.toSet());
+            for (NameType nameType : NameType.values()) {
+                Map<String, List<Abbreviation>> abbreviationsByName = new HashMap<>();
+                for (Abbreviation abbreviation : this.abbreviations) {
+                    abbreviationsByName.computeIfAbsent(nameType.getFoldedName(abbreviation), name -> new ArrayList<>(1)).add(abbreviation);
+                }
+                byName.put(nameType, abbreviationsByName);
+            }
+        }
+    }
 }
@@ -3,11 +3,16 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabases;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.FullTextIndex;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,10 +23,21 @@ public class DatabaseSearcher {
     private final SearchQuery query;
 
     private final BibDatabase database;
+    private final Optional<FullTextIndex> searchIndex;
 
     public DatabaseSearcher(SearchQuery query, BibDatabase database) {
         this.query = Objects.requireNonNull(query);
         this.database = Objects.requireNonNull(database);
+        this.searchIndex = Optional.empty();
+    }
+
+    /**
+     * Creates a searcher which uses the full-text index of the given database context whenever the query allows it
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabaseContext databaseContext) {
+        this.query = Objects.requireNonNull(query);
+        this.database = databaseContext.getDatabase();
+        this.searchIndex = Optional.of(databaseContext.getSearchIndex());
     }
 
     public List<BibEntry> getMatches() {
@@ -32,7 +48,14 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+        Stream<BibEntry> entries = database.getEntries().stream();
+        Optional<Set<BibEntry>> candidates = searchIndex.flatMap(query::getCandidates);
+        if (candidates.isPresent()) {
+            // Filtering the entries of the database keeps their order
+            entries = entries.filter(candidates.get()::contains);
+        }
+
+        List<BibEntry> matchEntries = entries.filter(query::isMatch).collect(Collectors.toList());
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 
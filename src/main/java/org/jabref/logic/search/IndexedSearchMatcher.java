@@ -0,0 +1,46 @@
+package org.jabref.logic.search;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.FullTextIndex;
+import org.jabref.model.search.SearchMatcher;
+
+/**
+ * Matches entries against a {@link SearchQuery}, but only checks the entries which are candidates according to a
+ * {@link FullTextIndex}. The candidates are computed once and reused until the index changes.
+ * <p>
+ * Entries changed since the index processed their last change are always checked, because a filtered list tests an
+ * entry while it is changed, before the index is updated.
+ */
+class IndexedSearchMatcher implements SearchMatcher {
+
+    private final SearchQuery query;
+    private final FullTextIndex index;
+
+    private Optional<Set<BibEntry>> candidates = Optional.empty();
+    private long candidatesModificationCount = -1;
+
+    IndexedSearchMatcher(SearchQuery query, FullTextIndex index) {
+        this.query = Objects.requireNonNull(query);
+        this.index = Objects.requireNonNull(index);
+    }
+
+    @Override
+    public boolean isMatch(BibEntry entry) {
+        boolean isCandidate = getCandidates().map(entries -> entries.contains(entry)).orElse(true)
+                || !index.isUpToDate(entry);
+        return isCandidate && query.isMatch(entry);
+    }
+
+    private synchronized Optional<Set<BibEntry>> getCandidates() {
+        long modificationCount = index.getModificationCount();
+        if (modificationCount != candidatesModificationCount) {
+            candidates = query.getCandidates(index);
+            candidatesModificationCount = modificationCount;
+        }
+        return candidates;
+    }
+}
@@ -2,13 +2,16 @@ package org.jabref.logic.search;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.FullTextIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -40,6 +43,38 @@ public class SearchQuery implements SearchMatcher {
         return rule.applyRule(getQuery(), entry);
     }
 
+    /**
+     * Returns a matcher for this query which rules out entries using the given index, if the query allows it.
+     * Otherwise, this query itself is returned.
+     */
+    public SearchMatcher getMatcher(FullTextIndex index) {
+        if (isIndexable()) {
+            return new IndexedSearchMatcher(this, index);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the entries of the given index which might match this query.
+     *
+     * @return the candidates (compared by identity) or an empty Optional if the index cannot rule out any entry for
+     * this query. In the latter case, all entries have to be checked.
+     */
+    public Optional<Set<BibEntry>> getCandidates(FullTextIndex index) {
+        if (!isIndexable()) {
+            return Optional.empty();
+        }
+        // Split the query the same way as ContainBasedSearchRule does
+        return index.getCandidates(new SentenceAnalyzer(query.toLowerCase(Locale.ROOT)).getWords());
+    }
+
+    /**
+     * The index stores lower-cased tokens. Hence, it can only answer case-insensitive searches for plain words.
+     */
+    private boolean isIndexable() {
+        return isContainsBasedSearch() && !isCaseSensitive();
+    }
+
     public boolean isValid() {
         return rule.validateSearchStrings(getQuery());
     }
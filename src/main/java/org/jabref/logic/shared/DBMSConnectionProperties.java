@@ -139,6 +139,13 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
             props.setProperty("ssl", Boolean.toString(useSSL));
         }
 
+        // Let the driver send batched inserts as multi-row statements
+        if (type == DBMSType.POSTGRESQL) {
+            props.setProperty("reWriteBatchedInserts", "true");
+        } else if (type == DBMSType.MYSQL) {
+            props.setProperty("rewriteBatchedStatements", "true");
+        }
+
         return props;
     }
 
@@ -6,6 +6,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -17,7 +18,9 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.jabref.JabRefExecutorService;
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.listener.ChangeLogPollingListener;
 import org.jabref.model.database.shared.DBMSType;
 import org.jabref.model.database.shared.DatabaseConnection;
 import org.jabref.model.database.shared.DatabaseConnectionProperties;
@@ -27,6 +30,7 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.types.EntryTypeFactory;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +41,14 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    // Number of entries which are inserted within one transaction
+    private static final int ENTRIES_PER_TRANSACTION = 500;
+
+    // Oracle does not accept more than 1000 expressions in a list
+    private static final int IDS_PER_QUERY = 1000;
+
+    // Lists of IDs are padded to one of these lengths, so that only a few different queries have to be prepared
+    private static final int[] ID_LIST_LENGTHS = {1, 10, 100, IDS_PER_QUERY};
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
@@ -44,10 +56,17 @@ public abstract class DBMSProcessor {
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    private final PreparedStatementCache statementCache;
+
+    private final QueryMetrics queryMetrics = new QueryMetrics();
+
+    private ChangeLogPollingListener pollingListener;
+
 
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
+        this.statementCache = new PreparedStatementCache(connection);
     }
 
     /**
@@ -57,7 +76,7 @@ public abstract class DBMSProcessor {
      * @throws SQLException
      */
     public boolean checkBaseIntegrity() throws SQLException {
-        return checkTableAvailability("ENTRY", "FIELD", "METADATA");
+        return checkTableAvailability("ENTRY", "FIELD", "METADATA", "CHANGE_LOG", "CHANGE_SEQUENCE");
     }
 
     /**
@@ -82,7 +101,7 @@ public abstract class DBMSProcessor {
      * @param tableNames Table names to be checked
      * @return <code>true</code> if <b>all</b> given tables are present, else <code>false</code>.
      */
-    private boolean checkTableAvailability(String... tableNames) throws SQLException {
+    protected boolean checkTableAvailability(String... tableNames) throws SQLException {
         List<String> requiredTables = new ArrayList<>();
         for (String name : tableNames) {
             requiredTables.add(name.toUpperCase(Locale.ENGLISH));
@@ -105,8 +124,11 @@ public abstract class DBMSProcessor {
      *
      * @throws SQLException
      */
-    public void setupSharedDatabase() throws SQLException {
+    public synchronized void setupSharedDatabase() throws SQLException {
+        // the cached statements might refer to tables which have been replaced
+        statementCache.clear();
         setUp();
+        initializeChangeSequence();
 
         if (!checkBaseIntegrity()) {
             // can only happen with users direct intervention on shared database
@@ -116,11 +138,29 @@ public abstract class DBMSProcessor {
 
     /**
      * Creates and sets up the needed tables and columns according to the database type.
+     * Tables which already exist are kept.
      *
      * @throws SQLException
      */
     protected abstract void setUp() throws SQLException;
 
+    /**
+     * Inserts the row holding the current sequence number of the change log, if it does not exist yet.
+     */
+    private void initializeChangeSequence() throws SQLException {
+        String selectQuery = "SELECT * FROM " + escape("CHANGE_SEQUENCE");
+        try (ResultSet resultSet = executeQuery(selectQuery, getPreparedStatement(selectQuery))) {
+            if (resultSet.next()) {
+                return;
+            }
+        }
+
+        String insertQuery = "INSERT INTO " + escape("CHANGE_SEQUENCE") + "(" + escape("SEQUENCE_NUMBER") + ") VALUES(?)";
+        PreparedStatement preparedInsertStatement = getPreparedStatement(insertQuery);
+        preparedInsertStatement.setLong(1, 0);
+        executeUpdate(insertQuery, preparedInsertStatement);
+    }
+
     /**
      * Escapes parts of SQL expressions like table or field name to match the conventions
      * of the database system using the current dbmsType.
@@ -132,112 +172,235 @@ public abstract class DBMSProcessor {
      */
     abstract String escape(String expression);
 
+    /**
+     * Returns the cached prepared statement of the given query. The statement must not be closed.
+     */
+    protected PreparedStatement getPreparedStatement(String query) throws SQLException {
+        return statementCache.get(query);
+    }
+
+    /**
+     * Returns the cached prepared statement of the given query, which is created by the given preparer if the query
+     * has not been prepared yet. The statement must not be closed.
+     */
+    protected PreparedStatement getPreparedStatement(String query, PreparedStatementCache.StatementPreparer preparer) throws SQLException {
+        return statementCache.get(query, preparer);
+    }
+
+    protected ResultSet executeQuery(String query, PreparedStatement preparedStatement) throws SQLException {
+        return queryMetrics.measure(query, preparedStatement::executeQuery);
+    }
+
+    protected int executeUpdate(String query, PreparedStatement preparedStatement) throws SQLException {
+        return queryMetrics.measure(query, preparedStatement::executeUpdate);
+    }
+
+    protected int[] executeBatch(String query, PreparedStatement preparedStatement) throws SQLException {
+        return queryMetrics.measure(query, preparedStatement::executeBatch);
+    }
+
+    /**
+     * Returns the latencies of all queries sent to shared database by this processor
+     */
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
     /**
      * Inserts the given bibEntry into shared database.
      *
      * @param bibEntry {@link BibEntry} to be inserted
      */
     public void insertEntry(BibEntry bibEntry) {
-        if (!checkForBibEntryExistence(bibEntry)) {
-            insertIntoEntryTable(bibEntry);
-            insertIntoFieldTable(bibEntry);
+        insertEntries(Collections.singletonList(bibEntry));
+    }
+
+    /**
+     * Inserts the given entries into shared database. Entries which already exist on shared database are skipped.
+     * <p>
+     * The entries are written in chunks, each of them in its own transaction. The rows of a chunk are sent as JDBC
+     * batches, so that the number of round trips does not depend on the number of fields.
+     *
+     * @param bibEntries {@link BibEntry}s to be inserted
+     */
+    public synchronized void insertEntries(List<BibEntry> bibEntries) {
+        for (List<BibEntry> chunk : Lists.partition(getNotExistingEntries(bibEntries), ENTRIES_PER_TRANSACTION)) {
+            try {
+                connection.setAutoCommit(false); // disable auto commit due to transaction
+                try {
+                    insertIntoEntryTable(chunk);
+                    insertIntoFieldTable(chunk);
+                    logChanges(chunk.stream()
+                                    .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                                    .collect(Collectors.toList()));
+                    connection.commit(); // apply all changes in current transaction
+                } catch (SQLException e) {
+                    LOGGER.error("SQL Error: ", e);
+                    connection.rollback(); // undo changes made in current transaction
+                    // the generated IDs do not exist on shared database anymore
+                    chunk.forEach(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(-1));
+                } finally {
+                    connection.setAutoCommit(true); // enable auto commit mode again
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
         }
+    }
 
+    protected String getInsertIntoEntryQuery() {
+        return "INSERT INTO " +
+                escape("ENTRY") +
+                "(" +
+                escape("TYPE") +
+                ") VALUES(?)";
     }
 
     /**
-     * Inserts the given bibEntry into ENTRY table.
+     * Inserts the given entries into ENTRY table and sets the generated IDs locally.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry}s to be inserted
      */
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        String insertQuery = getInsertIntoEntryQuery();
         // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
-        String insertIntoEntryQuery =
-                "INSERT INTO " +
-                        escape("ENTRY") +
-                        "(" +
-                        escape("TYPE") +
-                        ") VALUES(?)";
-
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery,
-                new String[] {"SHARED_ID"})) {
+        PreparedStatement preparedEntryStatement = getPreparedStatement(insertQuery,
+                currentConnection -> currentConnection.prepareStatement(insertQuery, new String[] {"SHARED_ID"}));
+        insertIntoEntryTable(preparedEntryStatement, bibEntries);
+    }
 
+    /**
+     * Executes the given insert statement as one batch for the given entries and sets the generated IDs locally.
+     */
+    protected void insertIntoEntryTable(PreparedStatement preparedEntryStatement, List<BibEntry> bibEntries) throws SQLException {
+        for (BibEntry bibEntry : bibEntries) {
             preparedEntryStatement.setString(1, bibEntry.getType().getName());
-            preparedEntryStatement.executeUpdate();
+            preparedEntryStatement.addBatch();
+        }
+        executeBatch(getInsertIntoEntryQuery(), preparedEntryStatement);
 
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+        // the generated keys are returned in the order of the batch
+        try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+            for (BibEntry bibEntry : bibEntries) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Not all generated keys have been returned");
                 }
+                bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
     /**
-     * Checks whether the given bibEntry already exists on shared database.
-     * @param bibEntry {@link BibEntry} to be checked
-     * @return <code>true</code> if existent, else <code>false</code>
+     * Returns the given entries which do not exist on shared database.
+     *
+     * @param bibEntries {@link BibEntry}s to be checked
      */
-    private boolean checkForBibEntryExistence(BibEntry bibEntry) {
-        try {
-            // Check if already exists
-            int sharedID = bibEntry.getSharedBibEntryData().getSharedID();
-            if (sharedID != -1) {
-                String selectQuery =
-                        "SELECT * FROM " +
-                                escape("ENTRY") +
-                                " WHERE " +
-                                escape("SHARED_ID") +
-                                " = ?";
-
-                try (PreparedStatement preparedSelectStatement = connection.prepareStatement(selectQuery)) {
-                    preparedSelectStatement.setInt(1, sharedID);
-                    try (ResultSet resultSet = preparedSelectStatement.executeQuery()) {
-                        if (resultSet.next()) {
-                            return true;
-                        }
+    private List<BibEntry> getNotExistingEntries(List<BibEntry> bibEntries) {
+        List<Integer> sharedIDs = bibEntries.stream()
+                                            .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                                            .filter(sharedID -> sharedID != -1)
+                                            .distinct()
+                                            .collect(Collectors.toList());
+
+        Set<Integer> existingSharedIDs = new HashSet<>();
+        for (List<Integer> chunk : Lists.partition(sharedIDs, IDS_PER_QUERY)) {
+            String selectQuery =
+                    "SELECT " +
+                            escape("SHARED_ID") +
+                            " FROM " +
+                            escape("ENTRY") +
+                            " WHERE " +
+                            escape("SHARED_ID") +
+                            " IN (" +
+                            getIdListPlaceholders(chunk.size()) +
+                            ")";
+
+            try {
+                PreparedStatement preparedSelectStatement = getPreparedStatement(selectQuery);
+                setIdList(preparedSelectStatement, 1, chunk);
+                try (ResultSet resultSet = executeQuery(selectQuery, preparedSelectStatement)) {
+                    while (resultSet.next()) {
+                        existingSharedIDs.add(resultSet.getInt(1));
                     }
                 }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
-        return false;
+
+        return bibEntries.stream()
+                         .filter(bibEntry -> !existingSharedIDs.contains(bibEntry.getSharedBibEntryData().getSharedID()))
+                         .collect(Collectors.toList());
     }
 
     /**
-     * Inserts the given bibEntry into FIELD table.
+     * Inserts all fields of the given entries into FIELD table as one batch.
      *
-     * @param bibEntry {@link BibEntry} to be inserted
+     * @param bibEntries {@link BibEntry}s to be inserted
      */
-    private void insertIntoFieldTable(BibEntry bibEntry) {
-        try {
-            // Inserting into FIELD table
+    private void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        String insertQuery = getInsertIntoFieldQuery();
+        PreparedStatement preparedFieldStatement = getPreparedStatement(insertQuery);
+        for (BibEntry bibEntry : bibEntries) {
             for (Field field : bibEntry.getFields()) {
-                StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-
-                try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                    // columnIndex starts with 1
-                    preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-                    preparedFieldStatement.setString(2, field.getName());
-                    preparedFieldStatement.setString(3, bibEntry.getField(field).get());
-                    preparedFieldStatement.executeUpdate();
-                }
+                addInsertIntoFieldBatch(preparedFieldStatement, bibEntry, field);
+            }
+        }
+        executeBatch(insertQuery, preparedFieldStatement);
+    }
+
+    /**
+     * Returns the number of parameter markers of an IN list holding the given number of IDs
+     */
+    static int getIdListLength(int count) {
+        for (int length : ID_LIST_LENGTHS) {
+            if (count <= length) {
+                return length;
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
+        throw new IllegalArgumentException("More than " + IDS_PER_QUERY + " IDs in one list");
+    }
+
+    /**
+     * Returns the comma separated parameter markers of an IN list holding the given number of IDs
+     */
+    private static String getIdListPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(getIdListLength(count), "?"));
+    }
+
+    /**
+     * Binds the given IDs to the parameter markers of an IN list created by {@link #getIdListPlaceholders(int)}. The
+     * remaining markers are filled with the last ID, which does not change the result of the query.
+     *
+     * @param firstIndex index of the first parameter marker of the list
+     */
+    private static void setIdList(PreparedStatement preparedStatement, int firstIndex, List<Integer> sharedIDs) throws SQLException {
+        int length = getIdListLength(sharedIDs.size());
+        for (int i = 0; i < length; i++) {
+            preparedStatement.setInt(firstIndex + i, sharedIDs.get(Math.min(i, sharedIDs.size() - 1)));
+        }
+    }
+
+    private String getInsertIntoFieldQuery() {
+        return new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)")
+                .toString();
+    }
+
+    private static void addInsertIntoFieldBatch(PreparedStatement preparedFieldStatement, BibEntry bibEntry, Field field) throws SQLException {
+        // columnIndex starts with 1
+        preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+        preparedFieldStatement.setString(2, field.getName());
+        preparedFieldStatement.setString(3, bibEntry.getField(field).orElse(null));
+        preparedFieldStatement.addBatch();
     }
 
     /**
@@ -246,7 +409,7 @@ public abstract class DBMSProcessor {
      * @param localBibEntry {@link BibEntry} affected by changes
      * @throws SQLException
      */
-    public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+    public synchronized void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
@@ -258,14 +421,11 @@ public abstract class DBMSProcessor {
 
             BibEntry sharedBibEntry = sharedEntryOptional.get();
 
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                     .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                insertOrUpdateFields(localBibEntry);
+                updateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 StringBuilder updateEntryTypeQuery = new StringBuilder()
@@ -281,12 +441,12 @@ public abstract class DBMSProcessor {
                     .append(escape("SHARED_ID"))
                     .append(" = ?");
 
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery.toString())) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+                PreparedStatement preparedUpdateEntryTypeStatement = getPreparedStatement(updateEntryTypeQuery.toString());
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                executeUpdate(updateEntryTypeQuery.toString(), preparedUpdateEntryTypeStatement);
 
+                logChanges(Collections.singletonList(localBibEntry.getSharedBibEntryData().getSharedID()));
                 connection.commit(); // apply all changes in current transaction
 
             } else {
@@ -301,13 +461,14 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Helping method. Writes the difference between the local and the shared fields into FIELD table: shared fields
+     * which do not exist locally are deleted, changed fields are updated and new fields are inserted. Each kind of
+     * change is sent as one batch.
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            StringBuilder deleteFieldQuery = new StringBuilder()
+    private void updateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        int sharedID = localBibEntry.getSharedBibEntryData().getSharedID();
+
+        StringBuilder deleteFieldQuery = new StringBuilder()
                 .append("DELETE FROM ")
                 .append(escape("FIELD"))
                 .append(" WHERE ")
@@ -316,84 +477,47 @@ public abstract class DBMSProcessor {
                 .append(escape("ENTRY_SHARED_ID"))
                 .append(" = ?");
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+        StringBuilder updateFieldQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
+
+        PreparedStatement preparedDeleteFieldStatement = getPreparedStatement(deleteFieldQuery.toString());
+        PreparedStatement preparedUpdateFieldStatement = getPreparedStatement(updateFieldQuery.toString());
+        PreparedStatement preparedInsertFieldStatement = getPreparedStatement(getInsertIntoFieldQuery());
+
+        // remove shared fields which do not exist locally
+        for (Field sharedField : sharedBibEntry.getFields()) {
+            if (!localBibEntry.hasField(sharedField)) {
+                preparedDeleteFieldStatement.setString(1, sharedField.getName());
+                preparedDeleteFieldStatement.setInt(2, sharedID);
+                preparedDeleteFieldStatement.addBatch();
             }
         }
-    }
 
-    /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an update is performed.
-     */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
         for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+            // null values are accepted by PreparedStatement!
+            String value = localBibEntry.getField(field).orElse(null);
+            Optional<String> sharedValue = sharedBibEntry.getField(field);
+            if (!sharedValue.isPresent()) {
+                addInsertIntoFieldBatch(preparedInsertFieldStatement, localBibEntry, field);
+            } else if (!sharedValue.get().equals(value)) {
+                preparedUpdateFieldStatement.setString(1, value);
+                preparedUpdateFieldStatement.setString(2, field.getName());
+                preparedUpdateFieldStatement.setInt(3, sharedID);
+                preparedUpdateFieldStatement.addBatch();
             }
         }
+
+        executeBatch(deleteFieldQuery.toString(), preparedDeleteFieldStatement);
+        executeBatch(updateFieldQuery.toString(), preparedUpdateFieldStatement);
+        executeBatch(getInsertIntoFieldQuery(), preparedInsertFieldStatement);
     }
 
     /**
@@ -401,7 +525,7 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntry {@link BibEntry} to be deleted
      */
-    public void removeEntry(BibEntry bibEntry) {
+    public synchronized void removeEntry(BibEntry bibEntry) {
         StringBuilder query = new StringBuilder()
                 .append("DELETE FROM ")
                 .append(escape("ENTRY"))
@@ -409,13 +533,108 @@ public abstract class DBMSProcessor {
                 .append(escape("SHARED_ID"))
                 .append(" = ?");
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            preparedStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
-            preparedStatement.executeUpdate();
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                PreparedStatement preparedStatement = getPreparedStatement(query.toString());
+                preparedStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+                executeUpdate(query.toString(), preparedStatement);
+                logChanges(Collections.singletonList(bibEntry.getSharedBibEntryData().getSharedID()));
+                connection.commit(); // apply all changes in current transaction
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    /**
+     * Records within the current transaction that the given entries have been changed (inserted, updated or removed).
+     * <p>
+     * All changes of one transaction get the same sequence number. The sequence number is incremented in a single row,
+     * which stays locked until the transaction is finished. Hence, concurrent transactions get their sequence numbers in
+     * the order they are committed, and all changes up to the current sequence number are visible to other clients.
+     *
+     * @param sharedIDs IDs of the changed entries
+     */
+    private void logChanges(List<Integer> sharedIDs) throws SQLException {
+        String updateQuery = "UPDATE " + escape("CHANGE_SEQUENCE") +
+                " SET " + escape("SEQUENCE_NUMBER") + " = " + escape("SEQUENCE_NUMBER") + " + 1";
+        executeUpdate(updateQuery, getPreparedStatement(updateQuery));
+        long sequenceNumber = queryCurrentChangeSequence();
+
+        String insertQuery =
+                "INSERT INTO " +
+                        escape("CHANGE_LOG") +
+                        "(" +
+                        escape("SEQUENCE_NUMBER") +
+                        ", " +
+                        escape("ENTRY_SHARED_ID") +
+                        ") VALUES(?, ?)";
+
+        PreparedStatement preparedInsertStatement = getPreparedStatement(insertQuery);
+        for (int sharedID : sharedIDs) {
+            preparedInsertStatement.setLong(1, sequenceNumber);
+            preparedInsertStatement.setInt(2, sharedID);
+            preparedInsertStatement.addBatch();
+        }
+        executeBatch(insertQuery, preparedInsertStatement);
+    }
+
+    private long queryCurrentChangeSequence() throws SQLException {
+        String selectQuery = "SELECT " + escape("SEQUENCE_NUMBER") + " FROM " + escape("CHANGE_SEQUENCE");
+        try (ResultSet resultSet = executeQuery(selectQuery, getPreparedStatement(selectQuery))) {
+            if (!resultSet.next()) {
+                throw new SQLException("The change log of the shared database is not initialized");
+            }
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last change which has been committed to shared database.
+     *
+     * @return the sequence number, or -1 if it could not be determined
+     */
+    public synchronized long getCurrentChangeSequence() {
+        try {
+            return queryCurrentChangeSequence();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
+            return -1;
         }
+    }
 
+    /**
+     * Returns the IDs of all entries which have been changed after the first and up to (including) the second given
+     * sequence number. The IDs of removed entries are included.
+     */
+    public synchronized Set<Integer> getChangedSharedIDs(long afterSequenceNumber, long upToSequenceNumber) throws SQLException {
+        String selectQuery =
+                "SELECT DISTINCT " +
+                        escape("ENTRY_SHARED_ID") +
+                        " FROM " +
+                        escape("CHANGE_LOG") +
+                        " WHERE " +
+                        escape("SEQUENCE_NUMBER") +
+                        " > ? AND " +
+                        escape("SEQUENCE_NUMBER") +
+                        " <= ?";
+
+        Set<Integer> changedSharedIDs = new HashSet<>();
+        PreparedStatement preparedSelectStatement = getPreparedStatement(selectQuery);
+        preparedSelectStatement.setLong(1, afterSequenceNumber);
+        preparedSelectStatement.setLong(2, upToSequenceNumber);
+        try (ResultSet resultSet = executeQuery(selectQuery, preparedSelectStatement)) {
+            while (resultSet.next()) {
+                changedSharedIDs.add(resultSet.getInt(1));
+            }
+        }
+        return changedSharedIDs;
     }
 
     /**
@@ -430,7 +649,25 @@ public abstract class DBMSProcessor {
         return Optional.empty();
     }
 
-    public List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
+    /**
+     * Fetches the shared entries having the given IDs, ordered by their IDs.
+     *
+     * @param sharedIDs IDs of the entries to be fetched. If empty, all shared entries are fetched.
+     */
+    public synchronized List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return getSharedEntriesByIdChunk(Collections.emptyList());
+        }
+
+        List<BibEntry> sharedEntries = new ArrayList<>();
+        List<Integer> sortedSharedIDs = sharedIDs.stream().sorted().distinct().collect(Collectors.toList());
+        for (List<Integer> chunk : Lists.partition(sortedSharedIDs, IDS_PER_QUERY)) {
+            sharedEntries.addAll(getSharedEntriesByIdChunk(chunk));
+        }
+        return sharedEntries;
+    }
+
+    private List<BibEntry> getSharedEntriesByIdChunk(List<Integer> sharedIDs) {
         List<BibEntry> sharedEntries = new ArrayList<>();
 
         StringBuilder query = new StringBuilder();
@@ -450,30 +687,34 @@ public abstract class DBMSProcessor {
              .append(" = F.").append(escape("ENTRY_SHARED_ID"));
 
         if (!sharedIDs.isEmpty()) {
-            String idListAsString = sharedIDs.stream().map(String::valueOf).collect(Collectors.joining(", "));
             query.append(" where ")
                  .append(escape("SHARED_ID")).append(" in (")
-                 .append(idListAsString)
+                 .append(getIdListPlaceholders(sharedIDs.size()))
                  .append(")");
         }
         query.append(" order by ")
-             .append(escape("SHARED_ID"))
-             .append(";");
+             .append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(query.toString())) {
-            BibEntry bibEntry = null;
-            int lastId = -1;
-            while (selectEntryResultSet.next()) {
-                if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
-                    bibEntry = new BibEntry();
-                    bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
-                    bibEntry.setType(EntryTypeFactory.parse(selectEntryResultSet.getString("TYPE")));
-                    bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
-                    sharedEntries.add(bibEntry);
-                    lastId = selectEntryResultSet.getInt("SHARED_ID");
-                }
+        try {
+            PreparedStatement preparedSelectStatement = getPreparedStatement(query.toString());
+            if (!sharedIDs.isEmpty()) {
+                setIdList(preparedSelectStatement, 1, sharedIDs);
+            }
+            try (ResultSet selectEntryResultSet = executeQuery(query.toString(), preparedSelectStatement)) {
+                BibEntry bibEntry = null;
+                int lastId = -1;
+                while (selectEntryResultSet.next()) {
+                    if (selectEntryResultSet.getInt("SHARED_ID") > lastId) {
+                        bibEntry = new BibEntry();
+                        bibEntry.getSharedBibEntryData().setSharedID(selectEntryResultSet.getInt("SHARED_ID"));
+                        bibEntry.setType(EntryTypeFactory.parse(selectEntryResultSet.getString("TYPE")));
+                        bibEntry.getSharedBibEntryData().setVersion(selectEntryResultSet.getInt("VERSION"));
+                        sharedEntries.add(bibEntry);
+                        lastId = selectEntryResultSet.getInt("SHARED_ID");
+                    }
 
-                bibEntry.setField(FieldFactory.parseField(selectEntryResultSet.getString("NAME")), Optional.ofNullable(selectEntryResultSet.getString("VALUE")), EntryEventSource.SHARED);
+                    bibEntry.setField(FieldFactory.parseField(selectEntryResultSet.getString("NAME")), Optional.ofNullable(selectEntryResultSet.getString("VALUE")), EntryEventSource.SHARED);
+                }
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
@@ -489,7 +730,7 @@ public abstract class DBMSProcessor {
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
      */
-    public Map<Integer, Integer> getSharedIDVersionMapping() {
+    public synchronized Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
         StringBuilder selectEntryQuery = new StringBuilder()
             .append("SELECT * FROM ")
@@ -497,7 +738,7 @@ public abstract class DBMSProcessor {
             .append(" ORDER BY ")
             .append(escape("SHARED_ID"));
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery.toString())) {
+        try (ResultSet selectEntryResultSet = executeQuery(selectEntryQuery.toString(), getPreparedStatement(selectEntryQuery.toString()))) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
@@ -508,13 +749,45 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves a mapping between the columns SHARED_ID and VERSION for the given IDs. IDs of entries which do not
+     * exist on shared database are not contained.
+     */
+    public synchronized Map<Integer, Integer> getSharedIDVersionMapping(Collection<Integer> sharedIDs) throws SQLException {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        for (List<Integer> chunk : Lists.partition(new ArrayList<>(sharedIDs), IDS_PER_QUERY)) {
+            String selectQuery =
+                    "SELECT " +
+                            escape("SHARED_ID") +
+                            ", " +
+                            escape("VERSION") +
+                            " FROM " +
+                            escape("ENTRY") +
+                            " WHERE " +
+                            escape("SHARED_ID") +
+                            " IN (" +
+                            getIdListPlaceholders(chunk.size()) +
+                            ")";
+
+            PreparedStatement preparedSelectStatement = getPreparedStatement(selectQuery);
+            setIdList(preparedSelectStatement, 1, chunk);
+            try (ResultSet resultSet = executeQuery(selectQuery, preparedSelectStatement)) {
+                while (resultSet.next()) {
+                    sharedIDVersionMapping.put(resultSet.getInt("SHARED_ID"), resultSet.getInt("VERSION"));
+                }
+            }
+        }
+        return sharedIDVersionMapping;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
-    public Map<String, String> getSharedMetaData() {
+    public synchronized Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
 
-        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM " + escape("METADATA"))) {
+        String selectQuery = "SELECT * FROM " + escape("METADATA");
+        try (ResultSet resultSet = executeQuery(selectQuery, getPreparedStatement(selectQuery))) {
             while (resultSet.next()) {
                 data.put(resultSet.getString("KEY"), resultSet.getString("VALUE"));
             }
@@ -530,7 +803,7 @@ public abstract class DBMSProcessor {
      *
      * @param data JabRef meta data as map
      */
-    public void setSharedMetaData(Map<String, String> data) throws SQLException {
+    public synchronized void setSharedMetaData(Map<String, String> data) throws SQLException {
         StringBuilder updateQuery = new StringBuilder()
                     .append("UPDATE ")
                     .append(escape("METADATA"))
@@ -551,15 +824,17 @@ public abstract class DBMSProcessor {
                 .append(") VALUES(?, ?)");
 
         for (Map.Entry<String, String> metaEntry : data.entrySet()) {
-            try (PreparedStatement updateStatement = connection.prepareStatement(updateQuery.toString())) {
+            try {
+                PreparedStatement updateStatement = getPreparedStatement(updateQuery.toString());
                 updateStatement.setString(2, metaEntry.getKey());
                 updateStatement.setString(1, metaEntry.getValue());
-                if (updateStatement.executeUpdate() == 0) {
+                if (executeUpdate(updateQuery.toString(), updateStatement) == 0) {
                     // No rows updated -> insert data
-                    try (PreparedStatement insertStatement = connection.prepareStatement(insertQuery.toString())) {
+                    try {
+                        PreparedStatement insertStatement = getPreparedStatement(insertQuery.toString());
                         insertStatement.setString(1, metaEntry.getKey());
                         insertStatement.setString(2, metaEntry.getValue());
-                        insertStatement.executeUpdate();
+                        executeUpdate(insertQuery.toString(), insertStatement);
                     } catch (SQLException e) {
                         LOGGER.error("SQL Error: ", e);
                     }
@@ -568,6 +843,9 @@ public abstract class DBMSProcessor {
                 LOGGER.error("SQL Error: ", e);
             }
         }
+
+        // lets the other clients pull the meta data
+        logChanges(Collections.emptyList());
     }
 
     /**
@@ -591,12 +869,13 @@ public abstract class DBMSProcessor {
 
     /**
      * Listens for notifications from DBMS.
-     * Needs to be implemented if LiveUpdate is supported by the DBMS
+     * Needs to be implemented if LiveUpdate is supported by the DBMS. Otherwise, the change log is polled.
      *
      * @param dbmsSynchronizer {@link DBMSSynchronizer} which handles the notification.
      */
-    public void startNotificationListener(@SuppressWarnings("unused") DBMSSynchronizer dbmsSynchronizer) {
-        // nothing to do
+    public void startNotificationListener(DBMSSynchronizer dbmsSynchronizer) {
+        pollingListener = new ChangeLogPollingListener(dbmsSynchronizer, this);
+        JabRefExecutorService.INSTANCE.execute(pollingListener);
     }
 
     /**
@@ -604,7 +883,9 @@ public abstract class DBMSProcessor {
      * Needs to be implemented if LiveUpdate is supported by the DBMS
      */
     public void stopNotificationListener() {
-        // nothing to do
+        if (pollingListener != null) {
+            pollingListener.stop();
+        }
     }
 
     /**
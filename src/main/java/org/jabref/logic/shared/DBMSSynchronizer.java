@@ -3,11 +3,13 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.MetaDataSerializer;
@@ -20,6 +22,7 @@ import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.AllInsertsFinishedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.database.shared.DatabaseConnection;
@@ -30,7 +33,6 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryEvent;
 import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
-import org.jabref.model.entry.field.Field;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -43,6 +45,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Synchronizes the shared or local databases with their opposite side.
  * Local changes are pushed by {@link EntryEvent} using Google's Guava EventBus.
+ * <p>
+ * Changes of the shared database are pulled by the listeners of this class as well as by the notification listeners of
+ * the {@link DBMSProcessor}, which run on their own threads. All pulls are run using the local database executor, e.g.,
+ * on the JavaFX thread, and exclude each other.
  */
 public class DBMSSynchronizer implements DatabaseSynchronizer {
 
@@ -58,9 +64,28 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final Character keywordSeparator;
     private final GlobalBibtexKeyPattern globalCiteKeyPattern;
     private final FileUpdateMonitor fileMonitor;
+    // Entries added locally which are inserted into shared database when the insertion has been finished
+    private final List<BibEntry> entriesToInsert = new ArrayList<>();
+    // Runs the synchronizations which modify the local database
+    private final Executor localDatabaseExecutor;
+    private final Object synchronizationLock = new Object();
+    // Sequence number of the last change of the shared database which has been applied locally, -1 if unknown.
+    // Guarded by synchronizationLock, volatile for the check whether a pull is needed at all.
+    private volatile long lastChangeSequence = -1;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             GlobalBibtexKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor) {
+        this(bibDatabaseContext, keywordSeparator, globalCiteKeyPattern, fileMonitor, Runnable::run);
+    }
+
+    /**
+     * @param localDatabaseExecutor runs the synchronizations which modify the local database, e.g., on the thread
+     *                              the local database is displayed by
+     */
+    public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
+                            GlobalBibtexKeyPattern globalCiteKeyPattern, FileUpdateMonitor fileMonitor,
+                            Executor localDatabaseExecutor) {
+        this.localDatabaseExecutor = Objects.requireNonNull(localDatabaseExecutor);
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
         this.bibDatabase = bibDatabaseContext.getDatabase();
         this.metaData = bibDatabaseContext.getMetaData();
@@ -71,7 +96,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     /**
-     * Listening method. Inserts a new {@link BibEntry} into shared database.
+     * Listening method. Remembers a new {@link BibEntry} to be inserted into shared database as soon as all entries of
+     * the same insertion have been added (see {@link #listen(AllInsertsFinishedEvent)}).
      *
      * @param event {@link EntryAddedEvent} object
      */
@@ -79,10 +105,30 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     public void listen(EntryAddedEvent event) {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntryEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
+        if (isEventSourceAccepted(event)) {
+            entriesToInsert.add(event.getBibEntry());
+        }
+    }
+
+    /**
+     * Listening method. Inserts all new {@link BibEntry}s of one insertion into shared database at once.
+     *
+     * @param event {@link AllInsertsFinishedEvent} object
+     */
+    @Subscribe
+    public void listen(AllInsertsFinishedEvent event) {
+        if (entriesToInsert.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> insertedEntries = new ArrayList<>(entriesToInsert);
+        entriesToInsert.clear();
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
-            dbmsProcessor.insertEntry(event.getBibEntry());
+            // The entries have to be inserted before synchronizing, as they are already part of the local database
+            dbmsProcessor.insertEntries(insertedEntries);
+            runSynchronization(this::synchronizeChangedEntries); // Pull changes for the case that there were some
+            dbmsProcessor.notifyClients();
         }
     }
 
@@ -99,7 +145,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             BibEntry bibEntry = event.getBibEntry();
             synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            runSynchronization(this::synchronizeChangedEntries); // Pull changes for the case that there were some
+            dbmsProcessor.notifyClients();
         }
     }
 
@@ -115,7 +162,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             dbmsProcessor.removeEntry(event.getBibEntry());
             synchronizeLocalMetaData();
-            synchronizeLocalDatabase(); // Pull changes for the case that there where some
+            runSynchronization(this::synchronizeChangedEntries); // Pull changes for the case that there where some
+            dbmsProcessor.notifyClients();
         }
     }
 
@@ -128,8 +176,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     public void listen(MetaDataChangedEvent event) {
         if (checkCurrentConnection()) {
             synchronizeSharedMetaData(event.getMetaData(), globalCiteKeyPattern);
-            synchronizeLocalDatabase();
-            applyMetaData();
+            runSynchronization(() -> {
+                synchronizeChangedEntries();
+                applyMetaData();
+            });
             dbmsProcessor.notifyClients();
         }
     }
@@ -158,61 +208,126 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
 
         dbmsProcessor.startNotificationListener(this);
-        synchronizeLocalMetaData();
-        synchronizeLocalDatabase();
+        // The local database is not displayed yet, hence it is synchronized right away
+        synchronized (synchronizationLock) {
+            synchronizeLocalMetaData();
+            synchronizeAllEntries();
+        }
     }
 
     /**
      * Synchronizes the local database with shared one.
      * Possible update types are removal, update or insert of a {@link BibEntry}.
+     * <p>
+     * The local entries are matched to the shared ones by their shared IDs. Outdated and new entries are fetched using
+     * one query each, so that nothing but the versions is fetched if nothing has been changed.
      */
     @Override
     public void synchronizeLocalDatabase() {
+        runSynchronization(this::synchronizeAllEntries);
+    }
+
+    /**
+     * Runs the given synchronization of the local database using the local database executor. Synchronizations
+     * exclude each other, so that the same changes are not applied twice.
+     */
+    private void runSynchronization(Runnable synchronization) {
+        localDatabaseExecutor.execute(() -> {
+            synchronized (synchronizationLock) {
+                synchronization.run();
+            }
+        });
+    }
+
+    private void synchronizeAllEntries() {
         if (!checkCurrentConnection()) {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+        // Changes logged while synchronizing are pulled again by the next synchronization, which does not harm
+        long changeSequence = dbmsProcessor.getCurrentChangeSequence();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
+        removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+        synchronizeLocalEntries(idVersionMap);
+        lastChangeSequence = changeSequence;
+    }
+
+    /**
+     * Synchronizes the local database with the changes which have been logged on shared database since the last
+     * synchronization. Falls back to synchronizing all entries if the changes cannot be determined.
+     */
+    private void synchronizeChangedEntries() {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+
+        long changeSequence = dbmsProcessor.getCurrentChangeSequence();
+        if ((changeSequence < 0) || (lastChangeSequence < 0) || (changeSequence < lastChangeSequence)) {
+            // the change log could not be read or has been reset
+            synchronizeAllEntries();
+            return;
+        }
+        if (changeSequence == lastChangeSequence) {
+            return;
+        }
+
+        try {
+            Set<Integer> changedSharedIDs = dbmsProcessor.getChangedSharedIDs(lastChangeSequence, changeSequence);
+            Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping(changedSharedIDs);
+
+            // remove entries which have been removed from shared database
+            removeLocalEntries(bibDatabase.getEntries().stream()
+                                          .filter(localEntry -> changedSharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                          .filter(localEntry -> !idVersionMap.containsKey(localEntry.getSharedBibEntryData().getSharedID()))
+                                          .collect(Collectors.toList()));
+            synchronizeLocalEntries(idVersionMap);
+            lastChangeSequence = changeSequence;
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+            synchronizeAllEntries();
+        }
+    }
+
+    /**
+     * Updates the local entries which are outdated and inserts the entries which do not exist locally.
+     *
+     * @param idVersionMap shared IDs and versions of the shared entries to be synchronized
+     */
+    private void synchronizeLocalEntries(Map<Integer, Integer> idVersionMap) {
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+
+        List<Integer> entriesToUpdate = new ArrayList<>();
         List<Integer> entriesToDrag = new ArrayList<>();
         // compare versions and update local entry if needed
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean match = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey() == localEntry.getSharedBibEntryData().getSharedID()) {
-                    match = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntryEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            for (Field field : sharedEntry.get().getFields()) {
-                                localEntry.setField(field, sharedEntry.get().getField(field), EntryEventSource.SHARED);
-                            }
-
-                            Set<Field> redundantLocalEntryFields = localEntry.getFields();
-                            redundantLocalEntryFields.removeAll(sharedEntry.get().getFields());
-
-                            // remove not existing fields
-                            for (Field redundantField : redundantLocalEntryFields) {
-                                localEntry.clearField(redundantField, EntryEventSource.SHARED);
-                            }
-                        }
-                    }
-                }
-            }
-            if (!match) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToDrag.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdate.add(idVersionEntry.getKey());
+            }
+        }
+
+        // getSharedEntries returns all entries if no ID is given
+        if (!entriesToUpdate.isEmpty()) {
+            List<BibEntry> sharedEntries = dbmsProcessor.getSharedEntries(entriesToUpdate);
+            List<BibEntry> outdatedLocalEntries = new ArrayList<>(sharedEntries.size());
+            for (BibEntry sharedEntry : sharedEntries) {
+                BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+                localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+                outdatedLocalEntries.add(localEntry);
             }
+            // All changes are reported by one event
+            bibDatabase.updateEntries(outdatedLocalEntries, sharedEntries, EntryEventSource.SHARED);
         }
 
-        for (BibEntry bibEntry : dbmsProcessor.getSharedEntries(entriesToDrag)) {
-            bibDatabase.insertEntry(bibEntry, EntryEventSource.SHARED);
+        if (!entriesToDrag.isEmpty()) {
+            bibDatabase.insertEntries(dbmsProcessor.getSharedEntries(entriesToDrag), EntryEventSource.SHARED);
         }
     }
 
@@ -223,21 +338,20 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * @param sharedIDs Set of all IDs which are present on shared database
      */
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        for (int i = 0; i < localEntries.size(); i++) {
-            BibEntry localEntry = localEntries.get(i);
-            boolean match = false;
-            for (int sharedID : sharedIDs) {
-                if (localEntry.getSharedBibEntryData().getSharedID() == sharedID) {
-                    match = true;
-                    break;
-                }
-            }
-            if (!match) {
-                eventBus.post(new SharedEntryNotPresentEvent(localEntry));
-                bibDatabase.removeEntry(localEntry, EntryEventSource.SHARED); // Should not reach the listeners above.
-                i--; // due to index shift on localEntries
-            }
+        removeLocalEntries(localEntries.stream()
+                                       .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                       .collect(Collectors.toList()));
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
+        if (entriesToRemove.isEmpty()) {
+            return;
+        }
+
+        for (BibEntry entryToRemove : entriesToRemove) {
+            eventBus.post(new SharedEntryNotPresentEvent(entryToRemove));
         }
+        bibDatabase.removeEntries(entriesToRemove, EntryEventSource.SHARED); // Should not reach the listeners above.
     }
 
     /**
@@ -316,11 +430,31 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     @Override
     public void pullChanges() {
+        runSynchronization(this::synchronizeChanges);
+    }
+
+    /**
+     * Pulls the changes up to the given sequence number of the change log, unless they have been pulled already.
+     */
+    public void pullChanges(long changeSequence) {
+        if (changeSequence <= lastChangeSequence) {
+            return;
+        }
+
+        runSynchronization(() -> {
+            // The changes might have been pulled in the meantime
+            if (changeSequence > lastChangeSequence) {
+                synchronizeChanges();
+            }
+        });
+    }
+
+    private void synchronizeChanges() {
         if (!checkCurrentConnection()) {
             return;
         }
 
-        synchronizeLocalDatabase();
+        synchronizeChangedEntries();
         synchronizeLocalMetaData();
     }
 
@@ -365,6 +499,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     @Override
     public void closeSharedDatabase() {
+        LOGGER.debug("Latencies of the queries sent to shared database:\n{}", dbmsProcessor.getQueryMetrics());
         try {
             dbmsProcessor.stopNotificationListener();
             currentConnection.close();
@@ -37,6 +37,16 @@ public class MySQLProcessor extends DBMSProcessor {
                 "CREATE TABLE IF NOT EXISTS `METADATA` (" +
                 "`KEY` varchar(255) NOT NULL," +
                 "`VALUE` text NOT NULL)");
+
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `CHANGE_LOG` (" +
+                "`SEQUENCE_NUMBER` BIGINT NOT NULL, " +
+                "`ENTRY_SHARED_ID` INT(11) NOT NULL, " +
+                "INDEX (`SEQUENCE_NUMBER`))");
+
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `CHANGE_SEQUENCE` (" +
+                "`SEQUENCE_NUMBER` BIGINT NOT NULL)");
     }
 
     @Override
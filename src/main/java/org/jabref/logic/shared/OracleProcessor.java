@@ -1,11 +1,15 @@
 package org.jabref.logic.shared;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Properties;
 
 import org.jabref.logic.shared.listener.OracleNotificationListener;
 import org.jabref.model.database.shared.DatabaseConnection;
+import org.jabref.model.entry.BibEntry;
 
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStatement;
@@ -34,30 +38,72 @@ public class OracleProcessor extends DBMSProcessor {
      */
     @Override
     public void setUp() throws SQLException {
-        connection.createStatement().executeUpdate(
-                "CREATE TABLE \"ENTRY\" (" +
-                "\"SHARED_ID\" NUMBER NOT NULL, " +
-                "\"TYPE\" VARCHAR2(255) NULL, " +
-                "\"VERSION\" NUMBER DEFAULT 1, " +
-                "CONSTRAINT \"ENTRY_PK\" PRIMARY KEY (\"SHARED_ID\"))");
-
-        connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_SEQ\"");
-
-        connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_T\" BEFORE INSERT ON \"ENTRY\" " +
-                "FOR EACH ROW BEGIN SELECT \"ENTRY_SEQ\".NEXTVAL INTO :NEW.shared_id FROM DUAL; END;");
-
-        connection.createStatement().executeUpdate(
-                "CREATE TABLE \"FIELD\" (" +
-                "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
-                "\"NAME\" VARCHAR2(255) NOT NULL, " +
-                "\"VALUE\" CLOB NULL, " +
-                "CONSTRAINT \"ENTRY_SHARED_ID_FK\" FOREIGN KEY (\"ENTRY_SHARED_ID\") " +
-                "REFERENCES \"ENTRY\"(\"SHARED_ID\") ON DELETE CASCADE)");
-
-        connection.createStatement().executeUpdate(
-                "CREATE TABLE \"METADATA\" (" +
-                "\"KEY\"  VARCHAR2(255) NULL," +
-                "\"VALUE\"  CLOB NOT NULL)");
+        // Oracle does not support "CREATE TABLE IF NOT EXISTS"
+        if (!checkTableAvailability("ENTRY")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"ENTRY\" (" +
+                    "\"SHARED_ID\" NUMBER NOT NULL, " +
+                    "\"TYPE\" VARCHAR2(255) NULL, " +
+                    "\"VERSION\" NUMBER DEFAULT 1, " +
+                    "CONSTRAINT \"ENTRY_PK\" PRIMARY KEY (\"SHARED_ID\"))");
+
+            connection.createStatement().executeUpdate("CREATE SEQUENCE \"ENTRY_SEQ\"");
+
+            connection.createStatement().executeUpdate("CREATE TRIGGER \"ENTRY_T\" BEFORE INSERT ON \"ENTRY\" " +
+                    "FOR EACH ROW BEGIN SELECT \"ENTRY_SEQ\".NEXTVAL INTO :NEW.shared_id FROM DUAL; END;");
+        }
+
+        if (!checkTableAvailability("FIELD")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"FIELD\" (" +
+                    "\"ENTRY_SHARED_ID\" NUMBER NOT NULL, " +
+                    "\"NAME\" VARCHAR2(255) NOT NULL, " +
+                    "\"VALUE\" CLOB NULL, " +
+                    "CONSTRAINT \"ENTRY_SHARED_ID_FK\" FOREIGN KEY (\"ENTRY_SHARED_ID\") " +
+                    "REFERENCES \"ENTRY\"(\"SHARED_ID\") ON DELETE CASCADE)");
+        }
+
+        if (!checkTableAvailability("METADATA")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"METADATA\" (" +
+                    "\"KEY\"  VARCHAR2(255) NULL," +
+                    "\"VALUE\"  CLOB NOT NULL)");
+        }
+
+        if (!checkTableAvailability("CHANGE_LOG")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"CHANGE_LOG\" (" +
+                    "\"SEQUENCE_NUMBER\" NUMBER NOT NULL, " +
+                    "\"ENTRY_SHARED_ID\" NUMBER NOT NULL)");
+
+            connection.createStatement().executeUpdate(
+                    "CREATE INDEX \"CHANGE_LOG_SEQUENCE_NUMBER\" ON \"CHANGE_LOG\" (\"SEQUENCE_NUMBER\")");
+        }
+
+        if (!checkTableAvailability("CHANGE_SEQUENCE")) {
+            connection.createStatement().executeUpdate(
+                    "CREATE TABLE \"CHANGE_SEQUENCE\" (" +
+                    "\"SEQUENCE_NUMBER\" NUMBER NOT NULL)");
+        }
+    }
+
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        // Oracle does not return generated keys of batches, hence the entries are inserted one by one
+        String insertQuery = getInsertIntoEntryQuery();
+        PreparedStatement preparedEntryStatement = getPreparedStatement(insertQuery,
+                currentConnection -> currentConnection.prepareStatement(insertQuery, new String[] {"SHARED_ID"}));
+        for (BibEntry bibEntry : bibEntries) {
+            preparedEntryStatement.setString(1, bibEntry.getType().getName());
+            executeUpdate(insertQuery, preparedEntryStatement);
+
+            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("No generated key has been returned");
+                }
+                bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
+            }
+        }
     }
 
     @Override
@@ -86,21 +132,30 @@ public class OracleProcessor extends DBMSProcessor {
                         .append("SELECT 1 FROM ")
                         .append(escape("ENTRY"))
                         .append(", ")
-                        .append(escape("METADATA"));
+                        .append(escape("METADATA"))
+                        .append(", ")
+                        .append(escape("CHANGE_SEQUENCE"));
                 // this execution registers all tables mentioned in selectQuery
                 statement.executeQuery(selectQuery.toString());
             }
 
         } catch (SQLException e) {
+            // e.g., if the user is not allowed to register for change notifications
             LOGGER.error("SQL Error: ", e);
+            LOGGER.info("Polling the change log instead of listening for change notifications");
+            databaseChangeRegistration = null;
+            super.startNotificationListener(dbmsSynchronizer);
         }
 
     }
 
     @Override
     public void stopNotificationListener() {
+        super.stopNotificationListener();
         try {
-            oracleConnection.unregisterDatabaseChangeNotification(databaseChangeRegistration);
+            if (databaseChangeRegistration != null) {
+                oracleConnection.unregisterDatabaseChangeNotification(databaseChangeRegistration);
+            }
             oracleConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
@@ -1,9 +1,9 @@
 package org.jabref.logic.shared;
 
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 
 import org.jabref.JabRefExecutorService;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
@@ -46,33 +46,28 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                                                    "CREATE TABLE IF NOT EXISTS \"METADATA\" ("
                                                    + "\"KEY\" VARCHAR,"
                                                    + "\"VALUE\" TEXT)");
-    }
 
-    @Override
-    protected void insertIntoEntryTable(BibEntry bibEntry) {
-        // Inserting into ENTRY table
-        StringBuilder insertIntoEntryQuery = new StringBuilder()
-                                                                .append("INSERT INTO ")
-                                                                .append(escape("ENTRY"))
-                                                                .append("(")
-                                                                .append(escape("TYPE"))
-                                                                .append(") VALUES(?)");
+        connection.createStatement().executeUpdate(
+                                                   "CREATE TABLE IF NOT EXISTS \"CHANGE_LOG\" (" +
+                                                   "\"SEQUENCE_NUMBER\" BIGINT NOT NULL, " +
+                                                   "\"ENTRY_SHARED_ID\" INTEGER NOT NULL)");
 
-        // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
-        try (PreparedStatement preparedEntryStatement = connection.prepareStatement(insertIntoEntryQuery.toString(),
-                                                                                    Statement.RETURN_GENERATED_KEYS)) {
+        connection.createStatement().executeUpdate(
+                                                   "CREATE INDEX IF NOT EXISTS \"CHANGE_LOG_SEQUENCE_NUMBER\" " +
+                                                   "ON \"CHANGE_LOG\" (\"SEQUENCE_NUMBER\")");
 
-            preparedEntryStatement.setString(1, bibEntry.getType().getName());
-            preparedEntryStatement.executeUpdate();
+        connection.createStatement().executeUpdate(
+                                                   "CREATE TABLE IF NOT EXISTS \"CHANGE_SEQUENCE\" (" +
+                                                   "\"SEQUENCE_NUMBER\" BIGINT NOT NULL)");
+    }
 
-            try (ResultSet generatedKeys = preparedEntryStatement.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    bibEntry.getSharedBibEntryData().setSharedID(generatedKeys.getInt(1)); // set generated ID locally
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
-        }
+    @Override
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
+        String insertQuery = getInsertIntoEntryQuery();
+        // This is the only method to get generated keys which is accepted by MySQL, PostgreSQL and Oracle.
+        PreparedStatement preparedEntryStatement = getPreparedStatement(insertQuery,
+                currentConnection -> currentConnection.prepareStatement(insertQuery, Statement.RETURN_GENERATED_KEYS));
+        insertIntoEntryTable(preparedEntryStatement, bibEntries);
     }
 
     @Override
@@ -108,9 +103,14 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    public void notifyClients() {
+    public synchronized void notifyClients() {
+        String notifyQuery = "SELECT pg_notify('jabrefLiveUpdate', ?)";
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            PreparedStatement preparedNotifyStatement = getPreparedStatement(notifyQuery);
+            // The payload tells the other clients up to which change they have to pull
+            preparedNotifyStatement.setString(1, PROCESSOR_ID
+                    + PostgresSQLNotificationListener.PAYLOAD_DELIMITER + getCurrentChangeSequence());
+            executeQuery(notifyQuery, preparedNotifyStatement).close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
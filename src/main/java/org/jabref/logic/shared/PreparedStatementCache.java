@@ -0,0 +1,72 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the prepared statements of one connection, so that each query is prepared only once.
+ * <p>
+ * The cached statements stay open. Thus, the database system does not have to parse and plan a query again, and the
+ * drivers are able to switch to server side prepared statements. This class is not thread safe: a statement must not
+ * be used by several threads at the same time.
+ */
+class PreparedStatementCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    PreparedStatementCache(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Returns the prepared statement of the given query. The statement must not be closed by the caller.
+     */
+    PreparedStatement get(String query) throws SQLException {
+        return get(query, currentConnection -> currentConnection.prepareStatement(query));
+    }
+
+    /**
+     * Returns the prepared statement of the given query. If the query has not been prepared yet, the statement is
+     * created by the given preparer, e.g., to return generated keys. The statement must not be closed by the caller.
+     */
+    PreparedStatement get(String query, StatementPreparer preparer) throws SQLException {
+        PreparedStatement statement = statements.get(query);
+        if ((statement == null) || statement.isClosed()) {
+            statement = preparer.prepare(connection);
+            statements.put(query, statement);
+        } else {
+            // remove the leftovers of the last use, e.g., if a batch has failed
+            statement.clearParameters();
+            statement.clearBatch();
+        }
+        return statement;
+    }
+
+    /**
+     * Closes and removes all cached statements
+     */
+    void clear() {
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.warn("Could not close prepared statement", e);
+            }
+        }
+        statements.clear();
+    }
+
+    @FunctionalInterface
+    interface StatementPreparer {
+        PreparedStatement prepare(Connection connection) throws SQLException;
+    }
+}
@@ -0,0 +1,100 @@
+package org.jabref.logic.shared;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the number of executions and the latencies of the queries sent to a shared database, grouped by the SQL
+ * text of the query.
+ */
+public class QueryMetrics {
+
+    private final Map<String, QueryStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the given call and records its latency for the given query
+     */
+    <T> T measure(String query, SQLCall<T> call) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return call.execute();
+        } finally {
+            record(query, System.nanoTime() - start);
+        }
+    }
+
+    void record(String query, long nanos) {
+        statistics.merge(query, new QueryStatistics(1, nanos, nanos), QueryStatistics::add);
+    }
+
+    /**
+     * Returns a snapshot of the statistics of all queries executed so far
+     */
+    public Map<String, QueryStatistics> getStatistics() {
+        return Collections.unmodifiableMap(new HashMap<>(statistics));
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    @Override
+    public String toString() {
+        return statistics.entrySet().stream()
+                         .sorted(Map.Entry.comparingByValue((first, second) -> Long.compare(second.totalNanos, first.totalNanos)))
+                         .map(entry -> entry.getValue() + ": " + entry.getKey())
+                         .collect(Collectors.joining("\n"));
+    }
+
+    @FunctionalInterface
+    interface SQLCall<T> {
+        T execute() throws SQLException;
+    }
+
+    /**
+     * Immutable statistics of the executions of one query
+     */
+    public static class QueryStatistics {
+
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        QueryStatistics(long count, long totalNanos, long maxNanos) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        private QueryStatistics add(QueryStatistics other) {
+            return new QueryStatistics(count + other.count, totalNanos + other.totalNanos, Math.max(maxNanos, other.maxNanos));
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public Duration getTotalTime() {
+            return Duration.ofNanos(totalNanos);
+        }
+
+        public Duration getMeanTime() {
+            return Duration.ofNanos(totalNanos / count);
+        }
+
+        public Duration getMaxTime() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d executions, mean %.3f ms, max %.3f ms", count, (totalNanos / 1e6) / count, maxNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.jabref.logic.shared.listener;
+
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSSynchronizer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls the change log of a shared database. Used for database systems which do not notify about changes.
+ * <p>
+ * Only the sequence number of the last change is queried. Changes are pulled only if it has been increased.
+ */
+public class ChangeLogPollingListener implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangeLogPollingListener.class);
+
+    private static final long POLLING_INTERVAL_MILLISECONDS = 1000;
+
+    private final DBMSSynchronizer dbmsSynchronizer;
+    private final DBMSProcessor dbmsProcessor;
+    private volatile boolean stop;
+
+    public ChangeLogPollingListener(DBMSSynchronizer dbmsSynchronizer, DBMSProcessor dbmsProcessor) {
+        this.dbmsSynchronizer = dbmsSynchronizer;
+        this.dbmsProcessor = dbmsProcessor;
+    }
+
+    @Override
+    public void run() {
+        stop = false;
+        try {
+            while (!stop) {
+                long changeSequence = dbmsProcessor.getCurrentChangeSequence();
+                if (changeSequence >= 0) {
+                    dbmsSynchronizer.pullChanges(changeSequence);
+                }
+
+                // Wait a while before checking again for new changes
+                Thread.sleep(POLLING_INTERVAL_MILLISECONDS);
+            }
+        } catch (InterruptedException exception) {
+            LOGGER.error("Error while polling for updates of the shared database", exception);
+        }
+    }
+
+    public void stop() {
+        stop = true;
+    }
+}
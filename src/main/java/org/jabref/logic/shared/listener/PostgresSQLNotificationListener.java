@@ -15,6 +15,11 @@ import org.slf4j.LoggerFactory;
  */
 public class PostgresSQLNotificationListener implements Runnable {
 
+    /**
+     * Separates the ID of the notifying processor and the sequence number of its last change in the payload
+     */
+    public static final String PAYLOAD_DELIMITER = ":";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
     private final DBMSSynchronizer dbmsSynchronizer;
@@ -35,9 +40,7 @@ public class PostgresSQLNotificationListener implements Runnable {
 
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        handleNotification(notification.getParameter());
                     }
                 }
 
@@ -49,6 +52,21 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    private void handleNotification(String payload) {
+        String[] parts = payload.split(PAYLOAD_DELIMITER);
+        if (parts[0].equals(DBMSProcessor.PROCESSOR_ID)) {
+            // Own changes are pulled right after they have been written
+            return;
+        }
+
+        if ((parts.length > 1) && parts[1].matches("\\d+")) {
+            dbmsSynchronizer.pullChanges(Long.parseLong(parts[1]));
+        } else {
+            // Notification of a client not sending the sequence number, the changes cannot be determined
+            dbmsSynchronizer.synchronizeLocalDatabase();
+        }
+    }
+
     public void stop() {
         stop = true;
     }
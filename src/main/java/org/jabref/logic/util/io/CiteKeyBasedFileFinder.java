@@ -1,20 +1,14 @@
 package org.jabref.logic.util.io;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jabref.logic.bibtexkeypattern.BibtexKeyGenerator;
 import org.jabref.model.entry.BibEntry;
@@ -40,24 +34,27 @@ class CiteKeyBasedFileFinder implements FileFinder {
         }
         String citeKey = citeKeyOptional.get();
 
-        List<Path> result = new ArrayList<>();
-
-        // First scan directories
-        Set<Path> filesWithExtension = findFilesByExtension(directories, extensions);
-
-        // Now look for keys
-        for (Path file : filesWithExtension) {
-            String name = file.getFileName().toString();
-            String nameWithoutExtension = FileUtil.getBaseName(name);
+        Objects.requireNonNull(extensions, "Extensions must not be null!");
 
-            // First, look for exact matches
-            if (nameWithoutExtension.equals(citeKey)) {
-                result.add(file);
+        // Each file associated with the entry starts with the key, hence the file names are looked up in the index
+        Set<Path> result = new HashSet<>();
+        for (Path directory : directories) {
+            Optional<DirectoryIndex> index = DirectoryIndex.of(directory);
+            if (!index.isPresent()) {
                 continue;
             }
-            // If we get here, we did not find any exact matches. If non-exact matches are allowed, try to find one
-            if (!exactKeyOnly && matches(name, citeKey)) {
-                result.add(file);
+
+            for (Path file : index.get().findFilesStartingWith(citeKey)) {
+                String name = file.getFileName().toString();
+                if (!extensions.contains(FileHelper.getFileExtension(name).orElse(""))) {
+                    continue;
+                }
+
+                // First, look for exact matches. If non-exact matches are allowed, try to find one
+                String nameWithoutExtension = FileUtil.getBaseName(name);
+                if (nameWithoutExtension.equals(citeKey) || (!exactKeyOnly && matches(name, citeKey))) {
+                    result.add(directory.resolve(file));
+                }
             }
         }
 
@@ -74,26 +71,4 @@ class CiteKeyBasedFileFinder implements FileFinder {
         }
         return false;
     }
-
-    /**
-     * Returns a list of all files in the given directories which have one of the given extension.
-     */
-    private Set<Path> findFilesByExtension(List<Path> directories, List<String> extensions) throws IOException {
-        Objects.requireNonNull(extensions, "Extensions must not be null!");
-
-        BiPredicate<Path, BasicFileAttributes> isFileWithCorrectExtension = (path, attributes) -> !Files.isDirectory(path)
-                && extensions.contains(FileHelper.getFileExtension(path).orElse(""));
-
-        Set<Path> result = new HashSet<>();
-        for (Path directory : directories) {
-            if (Files.exists(directory)) {
-                try (Stream<Path> pathStream = Files.find(directory, Integer.MAX_VALUE, isFileWithCorrectExtension)) {
-                    result.addAll(pathStream.collect(Collectors.toSet()));
-                } catch (UncheckedIOException e) {
-                    throw new IOException("Problem in finding files", e);
-                }
-            }
-        }
-        return result;
-    }
 }
@@ -0,0 +1,365 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of all files and directories below a directory, so that files can be looked up by their name without walking
+ * the directory tree.
+ * <p>
+ * The index is built by walking the directory tree in parallel. Afterwards, all directories of the tree are watched by
+ * a {@link WatchService} and the reported changes are applied before each lookup. If the directories cannot be watched
+ * (e.g., because the limit of the operating system is reached), the index is built again if it is requested after
+ * {@link #UNWATCHED_VALIDITY}. Note that some file systems do not report changes made by other computers to network
+ * shares.
+ * <p>
+ * Links to directories are not followed. The indexes are shared by the whole application, see {@link #of(Path)}. They
+ * are built outside of the shared lock, thus building one index does not block the lookups in the others.
+ */
+public class DirectoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DirectoryIndex.class);
+
+    private static final Duration UNWATCHED_VALIDITY = Duration.ofMinutes(1);
+    private static final int MAXIMUM_NUMBER_OF_INDEXES = 16;
+    private static final Path ROOT = Paths.get("");
+
+    // Walking a network share blocks the threads for a long time, hence the common pool is not used
+    private static final ForkJoinPool INDEXING_POOL = new ForkJoinPool();
+
+    // Ordered by last access, the least recently used index is closed first. The indexes are completed by the thread
+    // which has requested them first.
+    private static final Map<Path, CompletableFuture<DirectoryIndex>> INDEXES = new LinkedHashMap<>(MAXIMUM_NUMBER_OF_INDEXES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, CompletableFuture<DirectoryIndex>> eldest) {
+            if (size() > MAXIMUM_NUMBER_OF_INDEXES) {
+                eldest.getValue().thenAccept(DirectoryIndex::close);
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final Path root;
+    private final Instant creationTime = Instant.now();
+    // All paths below are relative to the root
+    private final Map<Path, Listing> directories = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+    private final NavigableMap<String, Set<Path>> filesByName = new ConcurrentSkipListMap<>();
+    private WatchService watchService;
+    private volatile boolean watched;
+
+    private DirectoryIndex(Path root) {
+        this.root = root;
+        try {
+            watchService = root.getFileSystem().newWatchService();
+            watched = true;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOGGER.warn("Could not watch directory " + root, e);
+        }
+        INDEXING_POOL.invoke(new IndexDirectoryTask(ROOT));
+    }
+
+    /**
+     * Returns the index of the given directory, which is created if the directory has not been indexed yet.
+     *
+     * @return the index or {@link Optional#empty()} if the given path is not a directory
+     */
+    public static Optional<DirectoryIndex> of(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+
+        Path root = directory.toAbsolutePath().normalize();
+        CompletableFuture<DirectoryIndex> index;
+        boolean isIndexToBuild = false;
+        synchronized (INDEXES) {
+            index = INDEXES.get(root);
+            // An index which is still being built is valid
+            if ((index == null) || (index.isDone() && !index.join().isValid())) {
+                if (index != null) {
+                    index.join().close();
+                }
+                index = new CompletableFuture<>();
+                INDEXES.put(root, index);
+                isIndexToBuild = true;
+            }
+        }
+
+        if (isIndexToBuild) {
+            try {
+                index.complete(new DirectoryIndex(root));
+            } catch (RuntimeException e) {
+                synchronized (INDEXES) {
+                    INDEXES.remove(root, index);
+                }
+                index.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return Optional.of(index.join());
+    }
+
+    /**
+     * Returns all files whose name starts with the given prefix. The returned paths are relative to the indexed
+     * directory.
+     */
+    public synchronized List<Path> findFilesStartingWith(String prefix) {
+        applyChanges();
+        List<Path> files = new ArrayList<>();
+        for (Map.Entry<String, Set<Path>> filesWithName : filesByName.tailMap(prefix).entrySet()) {
+            if (!filesWithName.getKey().startsWith(prefix)) {
+                break;
+            }
+            files.addAll(filesWithName.getValue());
+        }
+        return files;
+    }
+
+    /**
+     * Returns the files directly contained in the given directory, resolved against the given directory.
+     *
+     * @return the files or {@link Optional#empty()} if the directory is not part of the index
+     */
+    public synchronized Optional<List<Path>> getFiles(Path directory) {
+        applyChanges();
+        return getListing(directory).map(listing -> resolve(directory, listing.files));
+    }
+
+    /**
+     * Returns the directories directly contained in the given directory, resolved against the given directory.
+     *
+     * @return the directories or {@link Optional#empty()} if the directory is not part of the index
+     */
+    public synchronized Optional<List<Path>> getSubdirectories(Path directory) {
+        applyChanges();
+        return getListing(directory).map(listing -> resolve(directory, listing.subdirectories));
+    }
+
+    private Optional<Listing> getListing(Path directory) {
+        Path absoluteDirectory = directory.toAbsolutePath().normalize();
+        if (!absoluteDirectory.startsWith(root)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(directories.get(root.relativize(absoluteDirectory)));
+    }
+
+    private static List<Path> resolve(Path directory, Set<Path> paths) {
+        return paths.stream()
+                    .map(path -> directory.resolve(path.getFileName().toString()))
+                    .sorted()
+                    .collect(Collectors.toList());
+    }
+
+    /**
+     * Does not lock the index, as it is called while holding the lock of the shared indexes
+     */
+    private boolean isValid() {
+        if (watched) {
+            // The root directory might have been deleted
+            Listing rootListing = directories.get(ROOT);
+            return (rootListing != null) && (rootListing.watchKey != null) && rootListing.watchKey.isValid();
+        }
+        return Duration.between(creationTime, Instant.now()).compareTo(UNWATCHED_VALIDITY) < 0;
+    }
+
+    private void close() {
+        if (watchService != null) {
+            watched = false;
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not stop watching directory " + root, e);
+            }
+        }
+    }
+
+    /**
+     * Applies the changes reported by the watch service since the last lookup
+     */
+    private void applyChanges() {
+        if (!watched) {
+            return;
+        }
+
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                Path directory = watchedDirectories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (directory == null) {
+                        // The directory has been removed from the index in the meantime
+                        break;
+                    }
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events have been lost, hence the whole directory is indexed again
+                        remove(directory);
+                        add(directory);
+                        break;
+                    }
+                    Path path = directory.resolve(((Path) event.context()).toString());
+                    remove(path);
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                        add(path);
+                    }
+                }
+                // Keys of deleted directories become invalid, the directories are removed by the event of their parent
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // The index has been closed in the meantime, thus it is not valid anymore
+        }
+    }
+
+    private void add(Path path) {
+        if (path.equals(ROOT)) {
+            INDEXING_POOL.invoke(new IndexDirectoryTask(ROOT));
+            return;
+        }
+
+        Listing parent = directories.get(getParent(path));
+        if (parent == null) {
+            return;
+        }
+        Path absolutePath = root.resolve(path);
+        if (Files.isDirectory(absolutePath, LinkOption.NOFOLLOW_LINKS)) {
+            parent.subdirectories.add(path);
+            INDEXING_POOL.invoke(new IndexDirectoryTask(path));
+        } else if (Files.exists(absolutePath, LinkOption.NOFOLLOW_LINKS) && !Files.isDirectory(absolutePath)) {
+            parent.files.add(path);
+            addName(path);
+        }
+    }
+
+    private void remove(Path path) {
+        Listing parent = directories.get(getParent(path));
+        if (parent != null) {
+            parent.files.remove(path);
+            parent.subdirectories.remove(path);
+        }
+        removeName(path);
+
+        Listing listing = directories.remove(path);
+        if (listing != null) {
+            if (listing.watchKey != null) {
+                listing.watchKey.cancel();
+                watchedDirectories.remove(listing.watchKey);
+            }
+            listing.files.forEach(this::removeName);
+            listing.subdirectories.forEach(this::remove);
+        }
+    }
+
+    private void addName(Path file) {
+        filesByName.computeIfAbsent(file.getFileName().toString(), name -> ConcurrentHashMap.newKeySet()).add(file);
+    }
+
+    private void removeName(Path file) {
+        filesByName.computeIfPresent(file.getFileName().toString(), (name, files) -> {
+            files.remove(file);
+            return files.isEmpty() ? null : files;
+        });
+    }
+
+    private static Path getParent(Path path) {
+        Path parent = path.getParent();
+        return parent == null ? ROOT : parent;
+    }
+
+    private void watch(Path directory, Listing listing) {
+        if (!watched) {
+            return;
+        }
+
+        try {
+            listing.watchKey = root.resolve(directory).register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+            watchedDirectories.put(listing.watchKey, directory);
+        } catch (IOException | ClosedWatchServiceException e) {
+            if (watched) {
+                LOGGER.warn("Could not watch directory " + root.resolve(directory) + ", the index is built again after " + UNWATCHED_VALIDITY, e);
+                close();
+            }
+        }
+    }
+
+    private static class Listing {
+        private final Set<Path> files = ConcurrentHashMap.newKeySet();
+        private final Set<Path> subdirectories = ConcurrentHashMap.newKeySet();
+        private volatile WatchKey watchKey;
+    }
+
+    /**
+     * Indexes a directory and, in parallel, its subdirectories
+     */
+    private class IndexDirectoryTask extends RecursiveAction {
+
+        private final Path directory;
+
+        IndexDirectoryTask(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        protected void compute() {
+            Listing listing = new Listing();
+            // Watch before listing the directory, so that no change is missed
+            watch(directory, listing);
+
+            List<IndexDirectoryTask> subtasks = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(root.resolve(directory))) {
+                for (Path child : stream) {
+                    Path path = directory.resolve(child.getFileName().toString());
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException e) {
+                        LOGGER.debug("Could not read attributes of " + child, e);
+                        continue;
+                    }
+
+                    if (attributes.isDirectory()) {
+                        listing.subdirectories.add(path);
+                        subtasks.add(new IndexDirectoryTask(path));
+                    } else if (!attributes.isSymbolicLink() || !Files.isDirectory(child)) {
+                        listing.files.add(path);
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not index directory " + root.resolve(directory), e);
+            }
+
+            directories.put(directory, listing);
+            listing.files.forEach(DirectoryIndex.this::addName);
+            invokeAll(subtasks);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -106,7 +107,7 @@ class RegExpBasedFileFinder implements FileFinder {
     private List<Path> findFile(BibEntry entry, List<Path> dirs, String extensionRegExp) throws IOException {
         List<Path> res = new ArrayList<>();
         for (Path directory : dirs) {
-            res.addAll(findFile(entry, directory, regExp, extensionRegExp));
+            res.addAll(findFile(entry, DirectoryIndex.of(directory), directory, regExp, extensionRegExp));
         }
         return res;
     }
@@ -114,8 +115,9 @@ class RegExpBasedFileFinder implements FileFinder {
     /**
      * The actual work-horse. Will find absolute filepaths starting from the
      * given directory using the given regular expression string for search.
+     * The directories are listed using the given index, as long as the search stays inside the indexed directory.
      */
-    private List<Path> findFile(final BibEntry entry, final Path directory, final String file, final String extensionRegExp) throws IOException {
+    private List<Path> findFile(final BibEntry entry, final Optional<DirectoryIndex> directoryIndex, final Path directory, final String file, final String extensionRegExp) throws IOException {
         List<Path> resultFiles = new ArrayList<>();
 
         String fileName = file;
@@ -158,28 +160,18 @@ class RegExpBasedFileFinder implements FileFinder {
                 continue;
             }
             if ("*".equals(dirToProcess)) { // Do for all direct subdirs
-                File[] subDirs = actualDirectory.toFile().listFiles();
-                if (subDirs != null) {
-                    String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
-                    for (File subDir : subDirs) {
-                        if (subDir.isDirectory()) {
-                            resultFiles.addAll(findFile(entry, subDir.toPath(), restOfFileString, extensionRegExp));
-                        }
-                    }
+                String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
+                for (Path subDir : getSubdirectories(directoryIndex, actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, directoryIndex, subDir, restOfFileString, extensionRegExp));
                 }
             }
             // Do for all direct and indirect subdirs
             if ("**".equals(dirToProcess)) {
                 String restOfFileString = StringUtil.join(fileParts, "/", index + 1, fileParts.length);
 
-                final Path rootDirectory = actualDirectory;
-                try (Stream<Path> pathStream = Files.walk(actualDirectory)) {
-                    // We only want to transverse directory (and not the current one; this is already done below)
-                    for (Path path : pathStream.filter(element -> isSubDirectory(rootDirectory, element)).collect(Collectors.toList())) {
-                        resultFiles.addAll(findFile(entry, path, restOfFileString, extensionRegExp));
-                    }
-                } catch (UncheckedIOException ioe) {
-                    throw new IOException(ioe);
+                // We only want to transverse directory (and not the current one; this is already done below)
+                for (Path path : getAllSubdirectories(directoryIndex, actualDirectory)) {
+                    resultFiles.addAll(findFile(entry, directoryIndex, path, restOfFileString, extensionRegExp));
                 }
             } // End process directory information
         }
@@ -192,7 +184,15 @@ class RegExpBasedFileFinder implements FileFinder {
             final Pattern toMatch = Pattern.compile('^' + filenameToLookFor.replaceAll("\\\\\\\\", "\\\\") + '$',
                     Pattern.CASE_INSENSITIVE);
             BiPredicate<Path, BasicFileAttributes> matcher = (path, attributes) -> toMatch.matcher(path.getFileName().toString()).matches();
-            resultFiles.addAll(collectFilesWithMatcher(actualDirectory, matcher));
+            Path searchDirectory = actualDirectory;
+            Optional<List<Path>> indexedFiles = directoryIndex.flatMap(dirIndex -> dirIndex.getFiles(searchDirectory));
+            if (indexedFiles.isPresent()) {
+                indexedFiles.get().stream()
+                            .filter(path -> matcher.test(path, null))
+                            .forEach(resultFiles::add);
+            } else {
+                resultFiles.addAll(collectFilesWithMatcher(actualDirectory, matcher));
+            }
         } catch (UncheckedIOException | PatternSyntaxException e) {
             throw new IOException("Could not look for " + filenameToLookFor, e);
         }
@@ -208,6 +208,48 @@ class RegExpBasedFileFinder implements FileFinder {
         }
     }
 
+    /**
+     * Returns the direct subdirectories of the given directory
+     */
+    private List<Path> getSubdirectories(Optional<DirectoryIndex> directoryIndex, Path directory) {
+        Optional<List<Path>> indexedSubdirectories = directoryIndex.flatMap(dirIndex -> dirIndex.getSubdirectories(directory));
+        if (indexedSubdirectories.isPresent()) {
+            return indexedSubdirectories.get();
+        }
+
+        List<Path> subdirectories = new ArrayList<>();
+        File[] subDirs = directory.toFile().listFiles();
+        if (subDirs != null) {
+            for (File subDir : subDirs) {
+                if (subDir.isDirectory()) {
+                    subdirectories.add(subDir.toPath());
+                }
+            }
+        }
+        return subdirectories;
+    }
+
+    /**
+     * Returns the direct and indirect subdirectories of the given directory
+     */
+    private List<Path> getAllSubdirectories(Optional<DirectoryIndex> directoryIndex, Path directory) throws IOException {
+        Optional<List<Path>> indexedSubdirectories = directoryIndex.flatMap(dirIndex -> dirIndex.getSubdirectories(directory));
+        if (indexedSubdirectories.isPresent()) {
+            List<Path> subdirectories = new ArrayList<>();
+            for (Path subDir : indexedSubdirectories.get()) {
+                subdirectories.add(subDir);
+                subdirectories.addAll(getAllSubdirectories(directoryIndex, subDir));
+            }
+            return subdirectories;
+        }
+
+        try (Stream<Path> pathStream = Files.walk(directory)) {
+            return pathStream.filter(element -> isSubDirectory(directory, element)).collect(Collectors.toList());
+        } catch (UncheckedIOException ioe) {
+            throw new IOException(ioe);
+        }
+    }
+
     private boolean isSubDirectory(Path rootDirectory, Path path) {
         return !rootDirectory.equals(path) && Files.isDirectory(path);
     }
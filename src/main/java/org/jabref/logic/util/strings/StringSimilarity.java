@@ -24,4 +24,57 @@ public class StringSimilarity {
         // TODO: Locale is dependent on the language of the strings. English is a good denominator.
         return METRIC_DISTANCE.distance(a.toLowerCase(Locale.ENGLISH), b.toLowerCase(Locale.ENGLISH));
     }
+
+    /**
+     * Checks whether the Levenshtein distance (ignoring case) of the given strings is at most the given maximum.
+     * <p>
+     * In contrast to {@link #editDistanceIgnoreCase(String, String)}, only the diagonal band of the distance matrix
+     * which can stay within the maximum is computed. The computation stops as soon as a row exceeds the maximum.
+     */
+    public boolean isEditDistanceIgnoreCaseAtMost(String a, String b, int maxDistance) {
+        return isEditDistanceAtMost(a.toLowerCase(Locale.ENGLISH), b.toLowerCase(Locale.ENGLISH), maxDistance);
+    }
+
+    private static boolean isEditDistanceAtMost(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return false;
+        }
+        if (a.equals(b)) {
+            return true;
+        }
+
+        // Any value exceeding the maximum is stored as maxDistance + 1
+        final int exceeded = maxDistance + 1;
+        int[] previousRow = new int[b.length() + 1];
+        int[] currentRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previousRow[j] = Math.min(j, exceeded);
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+
+            currentRow[from - 1] = (from == 1) ? Math.min(i, exceeded) : exceeded;
+            int rowMinimum = currentRow[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitutionCost = (a.charAt(i - 1) == b.charAt(j - 1)) ? 0 : 1;
+                int distance = Math.min(Math.min(currentRow[j - 1], previousRow[j]) + 1, previousRow[j - 1] + substitutionCost);
+                currentRow[j] = Math.min(distance, exceeded);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < b.length()) {
+                currentRow[to + 1] = exceeded;
+            }
+
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[b.length()] <= maxDistance;
+    }
 }
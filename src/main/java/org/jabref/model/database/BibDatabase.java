@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,13 +16,19 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import org.jabref.model.FieldChange;
 import org.jabref.model.database.event.AllInsertsFinishedEvent;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -47,6 +54,8 @@ public class BibDatabase {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BibDatabase.class);
     private static final Pattern RESOLVE_CONTENT_PATTERN = Pattern.compile(".*#[^#]+#.*");
+    private static final int SNAPSHOT_ATTEMPTS_WITHOUT_LOCK = 3;
+    private static final long MAXIMUM_SNAPSHOT_BACK_OFF_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(100);
     /**
      * State attributes
      */
@@ -65,10 +74,15 @@ public class BibDatabase {
     // All file contents below the last entry in the file
     private String epilog = "";
     private String sharedDatabaseID;
+    /**
+     * Counts the modifications of the database and its entries, so that snapshots can detect concurrent modifications
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
 
     public BibDatabase() {
         this.eventBus.register(duplicationChecker);
         this.registerListener(new KeyChangeListener(this));
+        this.registerListener(new ModificationCounter());
     }
 
     public BibDatabase(List<BibEntry> entries) {
@@ -217,7 +231,13 @@ public class BibDatabase {
         insertEntries(entries, EntryEventSource.LOCAL);
     }
 
-    private synchronized void insertEntries(List<BibEntry> newEntries, EntryEventSource eventSource) throws KeyCollisionException {
+    /**
+     * Inserts the given entries as one change of the entry list, given that their IDs are not already in use.
+     *
+     * @param newEntries  entries to insert
+     * @param eventSource Source the events are sent from
+     */
+    public synchronized void insertEntries(List<BibEntry> newEntries, EntryEventSource eventSource) throws KeyCollisionException {
         Objects.requireNonNull(newEntries);
 
         BibEntry firstEntry = null;
@@ -228,7 +248,8 @@ public class BibDatabase {
             }
 
             internalIDs.add(id);
-            entry.registerListener(this);
+            // Field changes of the entry are directly dispatched by the event bus of this database
+            entry.registerEventBus(eventBus);
 
             eventBus.post(new EntryAddedEvent(entry, eventSource));
 
@@ -268,6 +289,76 @@ public class BibDatabase {
         }
     }
 
+    /**
+     * Removes the given entries as one change of the entry list.
+     * The entries are removed based on their id {@link BibEntry#id}
+     *
+     * @param toBeDeleted Entries to delete
+     * @param eventSource Source the events are sent from
+     */
+    public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntryEventSource eventSource) {
+        Objects.requireNonNull(toBeDeleted);
+
+        Set<String> idsToBeDeleted = toBeDeleted.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        List<BibEntry> removedEntries = entries.stream()
+                                               .filter(entry -> idsToBeDeleted.contains(entry.getId()))
+                                               .collect(Collectors.toList());
+        if (!removedEntries.isEmpty()) {
+            // Entries are compared by content, hence they have to be removed by identity
+            Set<BibEntry> entriesToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+            entriesToRemove.addAll(removedEntries);
+            entries.removeAll(entriesToRemove);
+            for (BibEntry removedEntry : removedEntries) {
+                internalIDs.remove(removedEntry.getId());
+                eventBus.post(new EntryRemovedEvent(removedEntry, eventSource));
+            }
+        }
+    }
+
+    /**
+     * Sets the types and the fields of the given entries to the ones of the corresponding new entries. Instead of one
+     * {@link FieldChangedEvent} per changed field, one {@link EntriesChangedEvent} is posted for all changes.
+     *
+     * @param entriesToUpdate entries of this database
+     * @param newContents     entries whose types and fields are applied, in the same order as the entries to update
+     * @param eventSource     Source the event is sent from
+     */
+    public synchronized void updateEntries(List<BibEntry> entriesToUpdate, List<BibEntry> newContents, EntryEventSource eventSource) {
+        if (entriesToUpdate.size() != newContents.size()) {
+            throw new IllegalArgumentException("Each entry to update needs new contents");
+        }
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (int i = 0; i < entriesToUpdate.size(); i++) {
+            BibEntry entry = entriesToUpdate.get(i);
+            // The changes are reported at once below
+            entry.unregisterEventBus(eventBus);
+            try {
+                changes.addAll(updateEntry(entry, newContents.get(i), eventSource));
+            } finally {
+                entry.registerEventBus(eventBus);
+            }
+        }
+        if (!changes.isEmpty()) {
+            eventBus.post(new EntriesChangedEvent(changes, eventSource));
+        }
+    }
+
+    private static List<FieldChange> updateEntry(BibEntry entry, BibEntry newContent, EntryEventSource eventSource) {
+        List<FieldChange> changes = new ArrayList<>();
+        entry.setType(newContent.getType(), eventSource).ifPresent(changes::add);
+        for (Field field : newContent.getFields()) {
+            entry.setField(field, newContent.getField(field), eventSource).ifPresent(changes::add);
+        }
+
+        Set<Field> redundantFields = new HashSet<>(entry.getFields());
+        redundantFields.removeAll(newContent.getFields());
+        for (Field redundantField : redundantFields) {
+            entry.clearField(redundantField, eventSource).ifPresent(changes::add);
+        }
+        return changes;
+    }
+
     /**
      * Returns the database's preamble.
      * If the preamble text consists only of whitespace, then also an empty optional is returned.
@@ -285,6 +376,7 @@ public class BibDatabase {
      */
     public synchronized void setPreamble(String preamble) {
         this.preamble = preamble;
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -300,6 +392,7 @@ public class BibDatabase {
         }
 
         bibtexStrings.put(string.getId(), string);
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -310,6 +403,7 @@ public class BibDatabase {
     public void setStrings(Collection<BibtexString> stringsToAdd) {
         Map<String, BibtexString> strs = stringsToAdd.stream().collect(Collectors.toConcurrentMap(BibtexString::getId, (bibtexStr) -> bibtexStr));
         bibtexStrings = strs;
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -317,6 +411,7 @@ public class BibDatabase {
      */
     public void removeString(String id) {
         bibtexStrings.remove(id);
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -561,8 +656,61 @@ public class BibDatabase {
         return epilog;
     }
 
-    public void setEpilog(String epilog) {
+    public synchronized void setEpilog(String epilog) {
         this.epilog = epilog;
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Returns an immutable copy of the given entries of this database, together with its strings, preamble and epilog.
+     * All parts of the snapshot reflect the database at a single point in time: if the database is modified while
+     * taking the snapshot, it is taken again. After a few attempts, the database itself is locked while taking the
+     * snapshot and the attempts are delayed increasingly, so that edits of the entries pause in the meantime.
+     * <p>
+     * Only entries modified since the last snapshot are copied, see {@link BibEntry#getSnapshot()}. Thus, taking a
+     * snapshot is cheap and the snapshot can be serialized by another thread while the database is edited.
+     */
+    public BibDatabaseSnapshot createSnapshot(List<BibEntry> entriesToInclude) {
+        for (int attempt = 1; ; attempt++) {
+            Optional<BibDatabaseSnapshot> snapshot;
+            if (attempt <= SNAPSHOT_ATTEMPTS_WITHOUT_LOCK) {
+                snapshot = tryCreateSnapshot(entriesToInclude);
+            } else {
+                int backOffExponent = Math.min(attempt - SNAPSHOT_ATTEMPTS_WITHOUT_LOCK, 20);
+                LockSupport.parkNanos(Math.min(1000L << backOffExponent, MAXIMUM_SNAPSHOT_BACK_OFF_NANOSECONDS));
+                // Entries cannot be added or removed in the meantime
+                synchronized (this) {
+                    snapshot = tryCreateSnapshot(entriesToInclude);
+                }
+            }
+            if (snapshot.isPresent()) {
+                return snapshot.get();
+            }
+            LOGGER.debug("Database modified while taking snapshot, attempt " + attempt);
+        }
+    }
+
+    /**
+     * Takes a snapshot of the database, unless it is modified in the meantime
+     */
+    private Optional<BibDatabaseSnapshot> tryCreateSnapshot(List<BibEntry> entriesToInclude) {
+        long count = modificationCount.get();
+        List<BibEntry> entrySnapshots = new ArrayList<>(entriesToInclude.size());
+        for (BibEntry entry : entriesToInclude.toArray(new BibEntry[0])) {
+            entrySnapshots.add(entry.getSnapshot());
+        }
+        List<BibtexString> stringSnapshots = new ArrayList<>(bibtexStrings.size());
+        for (BibtexString string : bibtexStrings.values()) {
+            stringSnapshots.add(string.copyWithSerialization());
+        }
+        String currentPreamble = getPreamble().orElse(null);
+        String currentEpilog = epilog;
+
+        if (modificationCount.get() != count) {
+            return Optional.empty();
+        }
+        return Optional.of(new BibDatabaseSnapshot(Collections.unmodifiableList(entrySnapshots),
+                Collections.unmodifiableList(stringSnapshots), currentPreamble, currentEpilog, sharedDatabaseID));
     }
 
     /**
@@ -593,11 +741,6 @@ public class BibDatabase {
         }
     }
 
-    @Subscribe
-    private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
-    }
-
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByKey);
     }
@@ -631,4 +774,12 @@ public class BibDatabase {
     public DuplicationChecker getDuplicationChecker() {
         return duplicationChecker;
     }
+
+    private class ModificationCounter {
+
+        @Subscribe
+        public void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+            modificationCount.incrementAndGet();
+        }
+    }
 }
@@ -17,8 +17,10 @@ import org.jabref.model.database.shared.DatabaseSynchronizer;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupMembershipIndex;
 import org.jabref.model.metadata.FilePreferences;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.FullTextIndex;
 
 /**
  * Represents everything related to a BIB file. <p> The entries are stored in BibDatabase, the other data in MetaData
@@ -36,6 +38,8 @@ public class BibDatabaseContext {
     private DatabaseSynchronizer dbmsSynchronizer;
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
+    private FullTextIndex searchIndex;
+    private GroupMembershipIndex groupMembershipIndex;
 
     public BibDatabaseContext() {
         this(new Defaults());
@@ -144,8 +148,11 @@ public class BibDatabaseContext {
         return metaData;
     }
 
-    public void setMetaData(MetaData metaData) {
+    public synchronized void setMetaData(MetaData metaData) {
         this.metaData = Objects.requireNonNull(metaData);
+        if (groupMembershipIndex != null) {
+            metaData.registerListener(groupMembershipIndex);
+        }
     }
 
     public boolean isBiblatexMode() {
@@ -294,4 +301,27 @@ public class BibDatabaseContext {
         return database.getEntries();
     }
 
+    /**
+     * Returns the full-text index of the entries of this database. The index is built on first access and kept up to
+     * date afterwards.
+     */
+    public synchronized FullTextIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new FullTextIndex(database);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the index of the entries matched by the groups of this database. The index is created on first access
+     * and kept up to date afterwards.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(database);
+            metaData.registerListener(groupMembershipIndex);
+        }
+        return groupMembershipIndex;
+    }
+
 }
@@ -0,0 +1,55 @@
+package org.jabref.model.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+
+/**
+ * Immutable copy of the contents of a {@link BibDatabase} at a single point in time, see
+ * {@link BibDatabase#createSnapshot(List)}. A snapshot can be serialized by another thread without any locks while the
+ * database is edited.
+ */
+public class BibDatabaseSnapshot {
+
+    private final List<BibEntry> entries;
+    private final List<BibtexString> strings;
+    private final String preamble;
+    private final String epilog;
+    private final String sharedDatabaseID;
+
+    BibDatabaseSnapshot(List<BibEntry> entries, List<BibtexString> strings, String preamble, String epilog, String sharedDatabaseID) {
+        this.entries = entries;
+        this.strings = strings;
+        this.preamble = preamble;
+        this.epilog = epilog;
+        this.sharedDatabaseID = sharedDatabaseID;
+    }
+
+    /**
+     * Returns the snapshots of the entries, see {@link BibEntry#getSnapshot()}
+     */
+    public List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns copies of the strings of the database in no particular order
+     */
+    public List<BibtexString> getStrings() {
+        return strings;
+    }
+
+    public Optional<String> getPreamble() {
+        return Optional.ofNullable(preamble);
+    }
+
+    public String getEpilog() {
+        return epilog;
+    }
+
+    public Optional<String> getSharedDatabaseID() {
+        return Optional.ofNullable(sharedDatabaseID);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.event.EntryAddedEvent;
 import org.jabref.model.database.event.EntryRemovedEvent;
 import org.jabref.model.entry.BibEntry;
@@ -91,6 +93,16 @@ public class DuplicationChecker {
         }
     }
 
+    @Subscribe
+    public void listen(EntriesChangedEvent entriesChangedEvent) {
+        for (FieldChange change : entriesChangedEvent.getChanges()) {
+            if (change.getField().equals(InternalField.KEY_FIELD)) {
+                removeKeyFromSet(change.getOldValue());
+                addKeyToSet(change.getNewValue());
+            }
+        }
+    }
+
     @Subscribe
     public void listen(EntryRemovedEvent entryRemovedEvent) {
         Optional<String> citeKey = entryRemovedEvent.getBibEntry().getCiteKeyOptional();
@@ -0,0 +1,55 @@
+package org.jabref.model.database.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jabref.model.FieldChange;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * {@link EntriesChangedEvent} is fired once when several entries of a {@link org.jabref.model.database.BibDatabase}
+ * have been changed at once, see {@link org.jabref.model.database.BibDatabase#updateEntries(List, List, EntryEventSource)}.
+ * No {@link FieldChangedEvent} is fired for the single changes in this case.
+ */
+public class EntriesChangedEvent extends BibDatabaseContextChangedEvent {
+
+    private final List<FieldChange> changes;
+    private final EntryEventSource location;
+
+    /**
+     * @param changes  the changes of the fields, including the changes of the entry types
+     * @param location Location affected by this event
+     */
+    public EntriesChangedEvent(List<FieldChange> changes, EntryEventSource location) {
+        this.changes = Collections.unmodifiableList(Objects.requireNonNull(changes));
+        this.location = Objects.requireNonNull(location);
+    }
+
+    public List<FieldChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the changed entries in the order of their first change, each one once
+     */
+    public List<BibEntry> getBibEntries() {
+        Set<BibEntry> seenEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> entries = new ArrayList<>();
+        for (FieldChange change : changes) {
+            if (seenEntries.add(change.getEntry())) {
+                entries.add(change.getEntry());
+            }
+        }
+        return entries;
+    }
+
+    public EntryEventSource getEntryEventSource() {
+        return location;
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.model.entry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -11,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 import javafx.beans.Observable;
@@ -47,16 +49,26 @@ public class BibEntry implements Cloneable {
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private static final Pattern REMOVE_TRAILING_WHITESPACE = Pattern.compile("\\s+$");
+    private static final EventBus[] NO_EVENT_BUSES = new EventBus[0];
     private final SharedBibEntryData sharedBibEntryData;
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. Created on first use.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
     /**
-     * Cache that stores latex free versions of fields.
+     * Cache that stores latex free versions of fields. Created on first use.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
-    private final EventBus eventBus = new EventBus();
+    private volatile Map<Field, String> latexFreeFields;
+    /**
+     * Event buses the {@link FieldChangedEvent}s of this entry are posted to. Usually, this is only the event bus of
+     * the database containing the entry. Thus, all entries of a database share a single dispatch instead of each
+     * entry having an event bus of its own.
+     */
+    private volatile EventBus[] eventBuses = NO_EVENT_BUSES;
+    /**
+     * Event bus for listeners registered directly at this entry. Created on first registration.
+     */
+    private EventBus listenerEventBus;
     private String id;
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
@@ -69,6 +81,11 @@ public class BibEntry implements Cloneable {
      * Is set to false, if parts of the entry change. This causes the entry to be serialized based on the internal state (and not based on the old serialization)
      */
     private boolean changed;
+    /**
+     * Counts the modifications of this entry, so that its snapshot is only created again after it has been modified
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+    private volatile Snapshot snapshot;
 
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
@@ -276,9 +293,10 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
+        markModified();
     }
 
     /**
@@ -344,9 +362,10 @@ public class BibEntry implements Cloneable {
 
         this.type.setValue(newType);
         changed = true;
+        markModified();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        post(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -511,14 +530,17 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
+        // Listeners of the fields are notified during the change, thus they have to see a new modification count
+        markModified();
         fields.put(field, value.intern());
         invalidateFieldCache(field);
+        markModified();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            post(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            post(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -565,11 +587,13 @@ public class BibEntry implements Cloneable {
 
         changed = true;
 
+        markModified();
         fields.remove(field);
         invalidateFieldCache(field);
+        markModified();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        post(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -598,6 +622,47 @@ public class BibEntry implements Cloneable {
         return clone;
     }
 
+    /**
+     * Returns an immutable copy of this entry, which has the same ID. It can be read by other threads while this entry
+     * is modified, e.g., for saving it. The fields of the copy cannot be changed.
+     * <p>
+     * The copy is reused until this entry is modified, thus taking snapshots of unmodified entries is cheap.
+     */
+    public BibEntry getSnapshot() {
+        while (true) {
+            long count = modificationCount.get();
+            Snapshot currentSnapshot = snapshot;
+            if ((currentSnapshot != null) && (currentSnapshot.modificationCount == count)) {
+                return currentSnapshot.entry;
+            }
+
+            BibEntry copy = new BibEntry(id, type.getValue());
+            copy.fields = FXCollections.unmodifiableObservableMap(FXCollections.observableMap(Map.copyOf(fields)));
+            copy.parsedSerialization = parsedSerialization;
+            copy.commentsBeforeEntry = commentsBeforeEntry;
+            copy.changed = changed;
+            copy.snapshot = new Snapshot(copy.modificationCount.get(), copy);
+            // Copy again if this entry has been modified in the meantime
+            if (modificationCount.get() == count) {
+                snapshot = new Snapshot(count, copy);
+                return copy;
+            }
+        }
+    }
+
+    /**
+     * Returns a number which changes whenever this entry is modified. The number already changes before the listeners
+     * of the fields are notified, thus indexes can recognize an entry which has been modified after they processed
+     * its last {@link FieldChangedEvent}.
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
+    }
+
+    private void markModified() {
+        modificationCount.incrementAndGet();
+    }
+
     /**
      * This returns a canonical BibTeX serialization. Special characters such as "{" or "&" are NOT escaped, but written
      * as is
@@ -651,11 +716,13 @@ public class BibEntry implements Cloneable {
     public void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        markModified();
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
         // delete trailing whitespaces (between entry and text)
         this.commentsBeforeEntry = REMOVE_TRAILING_WHITESPACE.matcher(parsedComments).replaceFirst("");
+        markModified();
     }
 
     public boolean hasChanged() {
@@ -664,6 +731,7 @@ public class BibEntry implements Cloneable {
 
     public void setChanged(boolean changed) {
         this.changed = changed;
+        markModified();
     }
 
     public Optional<FieldChange> putKeywords(List<String> keywords, Character delimiter) {
@@ -775,19 +843,61 @@ public class BibEntry implements Cloneable {
         return Objects.hash(type.getValue(), fields);
     }
 
-    public void registerListener(Object object) {
-        this.eventBus.register(object);
+    /**
+     * Registers a listener (subscriber) for the {@link FieldChangedEvent}s of this entry.
+     * <p>
+     * Listeners interested in the changes of all entries of a database should rather register at the database, as
+     * this avoids creating an event bus for each single entry.
+     */
+    public synchronized void registerListener(Object object) {
+        if (listenerEventBus == null) {
+            listenerEventBus = new EventBus();
+            registerEventBus(listenerEventBus);
+        }
+        listenerEventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (listenerEventBus == null) {
+            LOGGER.debug("Problem unregistering: no listener registered");
+            return;
+        }
         try {
-            this.eventBus.unregister(object);
+            listenerEventBus.unregister(object);
         } catch (IllegalArgumentException e) {
             // occurs if the event source has not been registered, should not prevent shutdown
             LOGGER.debug("Problem unregistering", e);
         }
     }
 
+    /**
+     * Posts all {@link FieldChangedEvent}s of this entry to the given event bus. Used by the database to dispatch the
+     * events of all its entries through its own event bus.
+     */
+    public synchronized void registerEventBus(EventBus eventBus) {
+        Objects.requireNonNull(eventBus);
+        for (EventBus registeredEventBus : eventBuses) {
+            if (registeredEventBus == eventBus) {
+                return;
+            }
+        }
+        EventBus[] newEventBuses = Arrays.copyOf(eventBuses, eventBuses.length + 1);
+        newEventBuses[eventBuses.length] = eventBus;
+        eventBuses = newEventBuses;
+    }
+
+    public synchronized void unregisterEventBus(EventBus eventBus) {
+        eventBuses = Arrays.stream(eventBuses)
+                           .filter(registeredEventBus -> registeredEventBus != eventBus)
+                           .toArray(EventBus[]::new);
+    }
+
+    private void post(FieldChangedEvent event) {
+        for (EventBus registeredEventBus : eventBuses) {
+            registeredEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         return this;
@@ -810,6 +920,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -830,27 +943,38 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
+        Map<Field, String> latexFreeFieldsCache = latexFreeFields;
+        if (latexFreeFieldsCache != null) {
+            latexFreeFieldsCache.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
     }
 
     public Optional<String> getLatexFreeField(Field field) {
+        Map<Field, String> latexFreeFieldsCache = latexFreeFields;
+        if (latexFreeFieldsCache == null) {
+            latexFreeFieldsCache = new ConcurrentHashMap<>();
+            latexFreeFields = latexFreeFieldsCache;
+        }
+
         if (!hasField(field) && !InternalField.TYPE_HEADER.equals(field)) {
             return Optional.empty();
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        } else if (latexFreeFieldsCache.containsKey(field)) {
+            return Optional.ofNullable(latexFreeFieldsCache.get(field));
         } else if (InternalField.KEY_FIELD.equals(field)) {
             // the key field should not be converted
             Optional<String> citeKey = getCiteKeyOptional();
-            latexFreeFields.put(field, citeKey.get());
+            latexFreeFieldsCache.put(field, citeKey.get());
             return citeKey;
         } else if (InternalField.TYPE_HEADER.equals(field)) {
             String typeName = type.get().getDisplayName();
-            latexFreeFields.put(field, typeName);
+            latexFreeFieldsCache.put(field, typeName);
             return Optional.of(typeName);
         } else {
             String latexFreeField = LatexToUnicodeAdapter.format(getField(field).get()).intern();
-            latexFreeFields.put(field, latexFreeField);
+            latexFreeFieldsCache.put(field, latexFreeField);
             return Optional.of(latexFreeField);
         }
     }
@@ -922,4 +1046,14 @@ public class BibEntry implements Cloneable {
         Optional<String> getValueForField(Field field);
     }
 
+    private static class Snapshot {
+
+        private final long modificationCount;
+        private final BibEntry entry;
+
+        Snapshot(long modificationCount, BibEntry entry) {
+            this.modificationCount = modificationCount;
+            this.entry = entry;
+        }
+    }
 }
@@ -171,6 +171,17 @@ public class BibtexString implements Cloneable {
         return clone;
     }
 
+    /**
+     * Returns a copy of this string, which is serialized in the same way as this string. In contrast to
+     * {@link #clone()}, the parsed serialization is kept.
+     */
+    public BibtexString copyWithSerialization() {
+        BibtexString copy = (BibtexString) clone();
+        copy.parsedSerialization = parsedSerialization;
+        copy.hasChanged = hasChanged;
+        return copy;
+    }
+
     @Override
     public String toString() {
         return name + "=" + content;
@@ -173,6 +173,15 @@ public abstract class AbstractGroup implements SearchMatcher {
      */
     public abstract boolean isDynamic();
 
+    /**
+     * Returns whether it only depends on the entry itself whether the entry is contained in this group. Otherwise, the
+     * entries of this group might change although none of the entries has been changed, e.g., if the group refers to
+     * an external file.
+     */
+    public boolean dependsOnEntriesOnly() {
+        return true;
+    }
+
     /**
      * @return A deep copy of this object.
      */
@@ -0,0 +1,340 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.search.SearchMatcher;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track of the entries of a {@link BibDatabase} which are matched by the groups.
+ * <p>
+ * For each group, the index keeps a bit set of the entries contained in the group itself. The index listens to the
+ * {@link EntryAddedEvent}, {@link EntryChangedEvent} and {@link EntryRemovedEvent} of the database and checks only
+ * the reported entries again, which is deferred until the next request. The entries matched by a group node taking the
+ * hierarchical context into account (see {@link GroupTreeNode#getSearchMatcher()}) are derived from the bit sets of
+ * the involved groups.
+ * <p>
+ * Groups are compared by identity. Editing a group node replaces its group, hence the entries of the new group are
+ * determined on first request.
+ * <p>
+ * The listeners of the fields of an entry are notified before the {@link EntryChangedEvent} is posted. Therefore, the
+ * index remembers the {@link BibEntry#getModificationCount() modification count} of each entry when checking it, and
+ * a {@link #getMatcher(List, boolean) matcher} evaluates the groups directly for entries modified afterwards.
+ */
+public class GroupMembershipIndex {
+
+    private final Map<BibEntry, Integer> entryIds = new IdentityHashMap<>();
+    private final List<BibEntry> entries = new ArrayList<>();
+    private final Deque<Integer> freeEntryIds = new ArrayDeque<>();
+    // Entries which have been added or changed since they have been checked against the groups
+    private final BitSet changedEntries = new BitSet();
+    // Modification counts of the entries when they have been checked against the groups
+    private long[] checkedModificationCounts = new long[0];
+    // Weak keys are compared by identity, so that equal groups do not share their entries
+    private final Map<AbstractGroup, BitSet> groupEntries = new MapMaker().weakKeys().makeMap();
+    private long modificationCount;
+
+    // Entries matched by the nodes of the last requested group tree, see getMatchingGroups
+    private GroupTreeNode cachedRoot;
+    private List<GroupTreeNode> cachedNodes;
+    private List<BitSet> cachedNodeEntries;
+    private long cachedModificationCount;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        Objects.requireNonNull(database);
+        database.registerListener(this);
+        // Entries inserted in the meantime are reported by an event as well, adding them is idempotent
+        for (BibEntry entry : new ArrayList<>(database.getEntries())) {
+            addEntry(entry);
+        }
+    }
+
+    /**
+     * Returns the number of entries matched by the given group node, taking the hierarchical context into account.
+     * This is the same as {@link GroupTreeNode#calculateNumberOfMatches(BibDatabase)} of the indexed database.
+     */
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        return getMatchedEntryIds(node).cardinality();
+    }
+
+    /**
+     * Returns the entries matched by the given group node, taking the hierarchical context into account.
+     */
+    public synchronized List<BibEntry> getMatchedEntries(GroupTreeNode node) {
+        BitSet matched = getMatchedEntryIds(node);
+        List<BibEntry> matchedEntries = new ArrayList<>(matched.cardinality());
+        for (int id = matched.nextSetBit(0); id >= 0; id = matched.nextSetBit(id + 1)) {
+            matchedEntries.add(entries.get(id));
+        }
+        return matchedEntries;
+    }
+
+    /**
+     * Returns a matcher which tests whether an entry is matched by all (or any) of the given group nodes, taking the
+     * hierarchical context into account. The entries matched by the groups are determined on first use and again
+     * only after entries of the database have been changed. Hence, testing an entry is a single lookup in a bit set.
+     * <p>
+     * Changes of the given group nodes themselves are not taken into account, a new matcher has to be requested.
+     *
+     * @param requireAll whether an entry has to be matched by all groups (intersection) or only by one of them (union)
+     */
+    public SearchMatcher getMatcher(List<GroupTreeNode> nodes, boolean requireAll) {
+        return new GroupsMatcher(new ArrayList<>(nodes), requireAll);
+    }
+
+    /**
+     * Determines all groups in the subtree starting at the given node which contain the given entry, taking the
+     * hierarchical context into account. This is the same as {@link GroupTreeNode#getMatchingGroups(BibEntry)}.
+     * <p>
+     * The entries matched by the nodes of the tree are kept until entries of the database have been changed or a
+     * {@link GroupUpdatedEvent} has been received. Hence, the groups of an entry are determined by one lookup per
+     * group instead of matching the entry against each group. An entry modified since it has been checked against
+     * the groups is matched against each group.
+     */
+    public synchronized List<GroupTreeNode> getMatchingGroups(GroupTreeNode root, BibEntry entry) {
+        Integer id = entryIds.get(entry);
+        if (id == null) {
+            // Entry is not part of the database
+            return root.getMatchingGroups(entry);
+        }
+
+        if ((root != cachedRoot) || (cachedModificationCount != modificationCount)) {
+            cachedNodes = root.findChildrenSatisfying(node -> true);
+            cachedNodeEntries = new ArrayList<>(cachedNodes.size());
+            for (GroupTreeNode node : cachedNodes) {
+                cachedNodeEntries.add(getMatchedEntryIds(node));
+            }
+            cachedRoot = root;
+            cachedModificationCount = modificationCount;
+        }
+        if (entry.getModificationCount() != checkedModificationCounts[id]) {
+            // The index has not been notified about the change yet
+            return root.getMatchingGroups(entry);
+        }
+
+        List<GroupTreeNode> matchingGroups = new ArrayList<>();
+        for (int i = 0; i < cachedNodes.size(); i++) {
+            if (cachedNodeEntries.get(i).get(id)) {
+                matchingGroups.add(cachedNodes.get(i));
+            }
+        }
+        return matchingGroups;
+    }
+
+    @Subscribe
+    public synchronized void listen(GroupUpdatedEvent groupUpdatedEvent) {
+        // The nodes of the tree or their groups might have been changed
+        cachedRoot = null;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent entryAddedEvent) {
+        addEntry(entryAddedEvent.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent entryRemovedEvent) {
+        Integer id = entryIds.remove(entryRemovedEvent.getBibEntry());
+        if (id == null) {
+            return;
+        }
+
+        for (BitSet matched : groupEntries.values()) {
+            matched.clear(id);
+        }
+        changedEntries.clear(id);
+        entries.set(id, null);
+        freeEntryIds.push(id);
+        modificationCount++;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryChangedEvent entryChangedEvent) {
+        markChanged(entryChangedEvent.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent entriesChangedEvent) {
+        entriesChangedEvent.getBibEntries().forEach(this::markChanged);
+    }
+
+    private void markChanged(BibEntry entry) {
+        Integer id = entryIds.get(entry);
+        if (id != null) {
+            changedEntries.set(id);
+            modificationCount++;
+        }
+    }
+
+    private void addEntry(BibEntry entry) {
+        if (entryIds.containsKey(entry)) {
+            return;
+        }
+
+        int id;
+        if (freeEntryIds.isEmpty()) {
+            id = entries.size();
+            entries.add(entry);
+        } else {
+            id = freeEntryIds.pop();
+            entries.set(id, entry);
+        }
+        entryIds.put(entry, id);
+        if (id >= checkedModificationCounts.length) {
+            checkedModificationCounts = Arrays.copyOf(checkedModificationCounts, Math.max(16, 2 * (id + 1)));
+        }
+        checkedModificationCounts[id] = -1;
+        changedEntries.set(id);
+        modificationCount++;
+    }
+
+    /**
+     * Returns the IDs of the entries matched by the given group node, taking the hierarchical context into account.
+     * The returned bit set may be modified by the caller.
+     */
+    BitSet getMatchedEntryIds(GroupTreeNode node) {
+        checkChangedEntries();
+        return getMatchedEntryIds(node, node.getGroup().getHierarchicalContext());
+    }
+
+    /**
+     * Evaluates the hierarchy the same way as {@link GroupTreeNode#getSearchMatcher()} does, but using bit sets.
+     */
+    private BitSet getMatchedEntryIds(GroupTreeNode node, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        BitSet matched = (BitSet) getEntryIds(group).clone();
+
+        GroupHierarchyType context = group.getHierarchicalContext();
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                matched.or(getMatchedEntryIds(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot()
+                && (originalContext != GroupHierarchyType.INCLUDING)) {
+            //noinspection OptionalGetWithoutIsPresent
+            matched.and(getMatchedEntryIds(node.getParent().get(), originalContext));
+        }
+        return matched;
+    }
+
+    /**
+     * Returns the IDs of the entries contained in the given group itself. The returned bit set must not be modified.
+     */
+    private BitSet getEntryIds(AbstractGroup group) {
+        BitSet matched = groupEntries.get(group);
+        if (matched == null) {
+            matched = new BitSet(entries.size());
+            for (int id = 0; id < entries.size(); id++) {
+                BibEntry entry = entries.get(id);
+                if ((entry != null) && group.isMatch(entry)) {
+                    matched.set(id);
+                }
+            }
+            if (group.dependsOnEntriesOnly()) {
+                groupEntries.put(group, matched);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Checks the entries which have been added or changed against all known groups
+     */
+    private void checkChangedEntries() {
+        if (changedEntries.isEmpty()) {
+            return;
+        }
+
+        // Read before matching, so that a modification in the meantime is recognized by the matchers
+        for (int id = changedEntries.nextSetBit(0); id >= 0; id = changedEntries.nextSetBit(id + 1)) {
+            checkedModificationCounts[id] = entries.get(id).getModificationCount();
+        }
+        for (Map.Entry<AbstractGroup, BitSet> groupEntry : groupEntries.entrySet()) {
+            AbstractGroup group = groupEntry.getKey();
+            BitSet matched = groupEntry.getValue();
+            for (int id = changedEntries.nextSetBit(0); id >= 0; id = changedEntries.nextSetBit(id + 1)) {
+                matched.set(id, group.isMatch(entries.get(id)));
+            }
+        }
+        changedEntries.clear();
+    }
+
+    private class GroupsMatcher implements SearchMatcher {
+
+        private final List<GroupTreeNode> nodes;
+        private final boolean requireAll;
+        private BitSet matched;
+        private long matchedModificationCount;
+
+        GroupsMatcher(List<GroupTreeNode> nodes, boolean requireAll) {
+            this.nodes = nodes;
+            this.requireAll = requireAll;
+        }
+
+        @Override
+        public boolean isMatch(BibEntry entry) {
+            synchronized (GroupMembershipIndex.this) {
+                if ((matched == null) || (matchedModificationCount != modificationCount)) {
+                    checkChangedEntries();
+                    matched = getMatchedEntryIds();
+                    matchedModificationCount = modificationCount;
+                }
+                Integer id = entryIds.get(entry);
+                if (id == null) {
+                    return false;
+                }
+                if (entry.getModificationCount() != checkedModificationCounts[id]) {
+                    // The entry is being changed and the index has not been notified yet, e.g., when a filtered list
+                    // tests the entry again
+                    return isMatchedByNodes(entry);
+                }
+                return matched.get(id);
+            }
+        }
+
+        private boolean isMatchedByNodes(BibEntry entry) {
+            if (requireAll) {
+                return nodes.stream().allMatch(node -> node.getSearchMatcher().isMatch(entry));
+            } else {
+                return nodes.stream().anyMatch(node -> node.getSearchMatcher().isMatch(entry));
+            }
+        }
+
+        private BitSet getMatchedEntryIds() {
+            if (nodes.isEmpty()) {
+                BitSet all = new BitSet(entries.size());
+                if (requireAll) {
+                    entryIds.values().forEach(all::set);
+                }
+                return all;
+            }
+
+            BitSet result = GroupMembershipIndex.this.getMatchedEntryIds(nodes.get(0));
+            for (GroupTreeNode node : nodes.subList(1, nodes.size())) {
+                if (requireAll) {
+                    result.and(GroupMembershipIndex.this.getMatchedEntryIds(node));
+                } else {
+                    result.or(GroupMembershipIndex.this.getMatchedEntryIds(node));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -68,6 +68,12 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
         return false;
     }
 
+    @Override
+    public boolean dependsOnEntriesOnly() {
+        // the cited keys are read from the aux file, which might change at any time
+        return false;
+    }
+
     @Override
     public AbstractGroup deepCopy() {
         try {
@@ -115,7 +121,7 @@ public class TexGroup extends AbstractGroup implements FileUpdateListener {
 
     @Override
     public void fileUpdated() {
-        // Reset previous parse result
+        // Reset previous parse result, the unchanged nested AUX files are not read again (see DefaultAuxParser)
         keysUsedInAux = null;
     }
 
@@ -0,0 +1,356 @@
+package org.jabref.model.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.FieldChange;
+import org.jabref.model.database.event.EntriesChangedEvent;
+import org.jabref.model.database.event.EntryAddedEvent;
+import org.jabref.model.database.event.EntryRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted index over the LaTeX-free field contents of all entries of a {@link BibDatabase}.
+ * <p>
+ * The lower-cased field contents are split into tokens consisting of letters and digits only. For each token, the
+ * index keeps a sorted posting list of the entries containing it. The index is kept up to date by listening to the
+ * {@link EntryAddedEvent}, {@link EntryRemovedEvent} and {@link FieldChangedEvent} of the database.
+ * <p>
+ * The index only narrows down the entries which might match a query (see {@link #getCandidates(List)}). The
+ * candidates still have to be checked against the actual search rule. Entries which are not
+ * {@link #isUpToDate(BibEntry) up to date} have to be checked as well.
+ */
+public class FullTextIndex {
+
+    private final Map<BibEntry, Integer> documentIds = new IdentityHashMap<>();
+    private final List<BibEntry> documents = new ArrayList<>();
+    private final Deque<Integer> freeDocumentIds = new ArrayDeque<>();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // Modification counts of the documents when they have been indexed
+    private long[] indexedModificationCounts = new long[0];
+    private long modificationCount;
+
+    public FullTextIndex(BibDatabase database) {
+        Objects.requireNonNull(database);
+        database.registerListener(this);
+        // Entries inserted in the meantime are reported by an event as well, adding them is idempotent
+        for (BibEntry entry : new ArrayList<>(database.getEntries())) {
+            addEntry(entry);
+        }
+    }
+
+    /**
+     * Returns the entries which might contain all the given words, each one in any of its fields. This is a superset
+     * of the entries matched by a case-insensitive {@link org.jabref.model.search.rules.ContainBasedSearchRule}.
+     * <p>
+     * A word is split at all characters which are neither letters nor digits. The parts which are enclosed by such
+     * characters have to be a whole token of the entry, the others only have to be a prefix, suffix or part of one.
+     *
+     * @param words the words to search for, lower-cased using {@link Locale#ROOT}
+     * @return the set of candidates (compared by identity) or an empty Optional if the words do not restrict the
+     * entries at all
+     */
+    public synchronized Optional<Set<BibEntry>> getCandidates(List<String> words) {
+        BitSet result = null;
+        for (String word : words) {
+            for (Fragment fragment : getFragments(word)) {
+                BitSet fragmentDocuments = getDocuments(fragment);
+                if (result == null) {
+                    result = fragmentDocuments;
+                } else {
+                    result.and(fragmentDocuments);
+                }
+                if (result.isEmpty()) {
+                    return Optional.of(Collections.emptySet());
+                }
+            }
+        }
+
+        if (result == null) {
+            return Optional.empty();
+        }
+
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>(result.cardinality()));
+        result.stream().forEach(document -> candidates.add(documents.get(document)));
+        return Optional.of(Collections.unmodifiableSet(candidates));
+    }
+
+    /**
+     * Returns a number which changes whenever the content of the index changes. Can be used to check whether
+     * candidates computed earlier are still valid.
+     */
+    public synchronized long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Checks whether the index reflects the current content of the given entry. This is not the case for entries
+     * which are not part of the database, and while an entry is changed, because the listeners of its fields are
+     * notified before the index.
+     */
+    public synchronized boolean isUpToDate(BibEntry entry) {
+        Integer document = documentIds.get(entry);
+        return (document != null) && (indexedModificationCounts[document] == entry.getModificationCount());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryAddedEvent entryAddedEvent) {
+        addEntry(entryAddedEvent.getBibEntry());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntryRemovedEvent entryRemovedEvent) {
+        BibEntry entry = entryRemovedEvent.getBibEntry();
+        Integer document = documentIds.remove(entry);
+        if (document == null) {
+            return;
+        }
+
+        for (String token : getTokens(entry)) {
+            removePosting(token, document);
+        }
+        documents.set(document, null);
+        freeDocumentIds.push(document);
+        modificationCount++;
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent fieldChangedEvent) {
+        updateEntry(fieldChangedEvent.getBibEntry(), fieldChangedEvent.getField(), fieldChangedEvent.getOldValue());
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesChangedEvent entriesChangedEvent) {
+        for (FieldChange change : entriesChangedEvent.getChanges()) {
+            updateEntry(change.getEntry(), change.getField(), change.getOldValue());
+        }
+    }
+
+    private void updateEntry(BibEntry entry, Field field, String oldValue) {
+        Integer document = documentIds.get(entry);
+        if (document == null) {
+            // Entry is not part of the database (anymore)
+            return;
+        }
+
+        // Read before indexing, so that a modification in the meantime is recognized by isUpToDate
+        indexedModificationCounts[document] = entry.getModificationCount();
+        Set<String> currentTokens = getTokens(entry);
+        if (oldValue != null) {
+            for (String token : getTokens(getLatexFreeContent(field, oldValue))) {
+                // The token might still be present in another field
+                if (!currentTokens.contains(token)) {
+                    removePosting(token, document);
+                }
+            }
+        }
+        for (String token : currentTokens) {
+            addPosting(token, document);
+        }
+        modificationCount++;
+    }
+
+    private synchronized void addEntry(BibEntry entry) {
+        if (documentIds.containsKey(entry)) {
+            return;
+        }
+
+        int document;
+        if (freeDocumentIds.isEmpty()) {
+            document = documents.size();
+            documents.add(entry);
+        } else {
+            document = freeDocumentIds.pop();
+            documents.set(document, entry);
+        }
+        documentIds.put(entry, document);
+        if (document >= indexedModificationCounts.length) {
+            indexedModificationCounts = Arrays.copyOf(indexedModificationCounts, Math.max(16, 2 * (document + 1)));
+        }
+        indexedModificationCounts[document] = entry.getModificationCount();
+
+        for (String token : getTokens(entry)) {
+            addPosting(token, document);
+        }
+        modificationCount++;
+    }
+
+    private void addPosting(String token, int document) {
+        postings.computeIfAbsent(token, key -> new PostingList()).add(document);
+    }
+
+    private void removePosting(String token, int document) {
+        PostingList postingList = postings.get(token);
+        if (postingList == null) {
+            return;
+        }
+        postingList.remove(document);
+        if (postingList.isEmpty()) {
+            postings.remove(token);
+        }
+    }
+
+    private BitSet getDocuments(Fragment fragment) {
+        BitSet result = new BitSet(documents.size());
+        if (fragment.startsToken && fragment.endsToken) {
+            // Whole-word lookup
+            PostingList postingList = postings.get(fragment.text);
+            if (postingList != null) {
+                postingList.addTo(result);
+            }
+            return result;
+        }
+
+        Predicate<String> tokenMatcher;
+        if (fragment.startsToken) {
+            tokenMatcher = token -> token.startsWith(fragment.text);
+        } else if (fragment.endsToken) {
+            tokenMatcher = token -> token.endsWith(fragment.text);
+        } else {
+            tokenMatcher = token -> token.contains(fragment.text);
+        }
+        for (Map.Entry<String, PostingList> posting : postings.entrySet()) {
+            if (tokenMatcher.test(posting.getKey())) {
+                posting.getValue().addTo(result);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> getTokens(BibEntry entry) {
+        Set<String> tokens = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            entry.getLatexFreeField(field).ifPresent(content -> tokens.addAll(getTokens(content)));
+        }
+        return tokens;
+    }
+
+    private static List<String> getTokens(String content) {
+        List<String> tokens = new ArrayList<>();
+        for (Fragment fragment : getFragments(content.toLowerCase(Locale.ROOT))) {
+            tokens.add(fragment.text);
+        }
+        return tokens;
+    }
+
+    /**
+     * Converts the value of the given field the same way as {@link BibEntry#getLatexFreeField(Field)}
+     */
+    private static String getLatexFreeContent(Field field, String value) {
+        if (InternalField.KEY_FIELD.equals(field)) {
+            return value;
+        }
+        return LatexToUnicodeAdapter.format(value);
+    }
+
+    /**
+     * Splits the given text into maximal runs of letters and digits
+     */
+    private static List<Fragment> getFragments(String text) {
+        List<Fragment> fragments = new ArrayList<>();
+        int start = -1;
+        int index = 0;
+        while (index < text.length()) {
+            int codePoint = text.codePointAt(index);
+            if (Character.isLetterOrDigit(codePoint)) {
+                if (start < 0) {
+                    start = index;
+                }
+            } else if (start >= 0) {
+                fragments.add(new Fragment(text.substring(start, index), start > 0, true));
+                start = -1;
+            }
+            index += Character.charCount(codePoint);
+        }
+        if (start >= 0) {
+            fragments.add(new Fragment(text.substring(start), start > 0, false));
+        }
+        return fragments;
+    }
+
+    private static class Fragment {
+
+        private final String text;
+
+        /**
+         * Whether the fragment is preceded by a character which is neither a letter nor a digit
+         */
+        private final boolean startsToken;
+
+        /**
+         * Whether the fragment is followed by a character which is neither a letter nor a digit
+         */
+        private final boolean endsToken;
+
+        Fragment(String text, boolean startsToken, boolean endsToken) {
+            this.text = text;
+            this.startsToken = startsToken;
+            this.endsToken = endsToken;
+        }
+    }
+
+    /**
+     * Sorted list of document ids
+     */
+    private static class PostingList {
+
+        private int[] documents = new int[2];
+        private int size;
+
+        void add(int document) {
+            int index = Arrays.binarySearch(documents, 0, size, document);
+            if (index >= 0) {
+                return;
+            }
+
+            int insertionPoint = -index - 1;
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            System.arraycopy(documents, insertionPoint, documents, insertionPoint + 1, size - insertionPoint);
+            documents[insertionPoint] = document;
+            size++;
+        }
+
+        void remove(int document) {
+            int index = Arrays.binarySearch(documents, 0, size, document);
+            if (index < 0) {
+                return;
+            }
+
+            System.arraycopy(documents, index + 1, documents, index, size - index - 1);
+            size--;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(documents[i]);
+            }
+        }
+    }
+}
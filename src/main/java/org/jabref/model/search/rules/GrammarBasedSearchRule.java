@@ -1,17 +1,21 @@
 package org.jabref.model.search.rules;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.NotMatcher;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
 import org.jabref.search.SearchParser;
@@ -31,6 +35,9 @@ import org.slf4j.LoggerFactory;
  * The search query must be specified in an expression that is acceptable by the Search.g4 grammar.
  *
  * This class implements the "Advanced Search Mode" described in the help
+ *
+ * The parsed query is compiled once into an immutable tree of {@link SearchMatcher}s with precompiled patterns.
+ * Hence, {@link #applyRule(String, BibEntry)} can be called for many entries in parallel.
  */
 public class GrammarBasedSearchRule implements SearchRule {
 
@@ -40,6 +47,7 @@ public class GrammarBasedSearchRule implements SearchRule {
     private final boolean regExpSearch;
 
     private ParseTree tree;
+    private SearchMatcher matcher;
     private String query;
 
     public static class ThrowingErrorListener extends BaseErrorListener {
@@ -92,13 +100,14 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
+        matcher = new SearchMatcherBuilder(caseSensitiveSearch, regExpSearch).visit(tree);
         this.query = query;
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return matcher.isMatch(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -130,11 +139,23 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
-    public static class Comparator {
+    /**
+     * Compares the fields of an entry with a value. The patterns and the type of the requested field are determined
+     * once on construction, so that a comparator can be reused for all entries (also from several threads).
+     */
+    public static class Comparator implements SearchMatcher {
 
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
+        private final boolean isEntryTypeSearch;
+        private final boolean isKeywordSearch;
+        private final boolean isAnyFieldSearch;
+
+        /**
+         * Caches which field names match the field pattern
+         */
+        private final Map<Field, Boolean> matchingFields = new ConcurrentHashMap<>();
 
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
@@ -142,16 +163,25 @@ public class GrammarBasedSearchRule implements SearchRule {
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
             this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+
+            this.isEntryTypeSearch = fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+            this.isKeywordSearch = fieldPattern.matcher("anykeyword").matches();
+            this.isAnyFieldSearch = fieldPattern.matcher("anyfield").matches();
+        }
+
+        @Override
+        public boolean isMatch(BibEntry entry) {
+            return compare(entry);
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (isEntryTypeSearch) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (isKeywordSearch) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
@@ -159,9 +189,9 @@ public class GrammarBasedSearchRule implements SearchRule {
             Set<Field> fieldsKeys = entry.getFields();
 
             // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
+            if (!isAnyFieldSearch) {
                 // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
+                fieldsKeys = fieldsKeys.stream().filter(this::matchFieldKey).collect(Collectors.toSet());
             }
 
             for (Field field : fieldsKeys) {
@@ -177,8 +207,8 @@ public class GrammarBasedSearchRule implements SearchRule {
             return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        private boolean matchFieldKey(Field field) {
+            return matchingFields.computeIfAbsent(field, key -> fieldPattern.matcher(key.getName()).matches());
         }
 
         public boolean matchFieldValue(String content) {
@@ -197,32 +227,37 @@ public class GrammarBasedSearchRule implements SearchRule {
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a tree of {@link SearchMatcher}s
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchMatcherBuilder extends SearchBaseVisitor<SearchMatcher> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public SearchMatcherBuilder(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
         }
 
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
+        public SearchMatcher comparison(String field, ComparisonOperator operator, String value) {
+            try {
+                return new Comparator(field, value, operator, caseSensitive, regex);
+            } catch (PatternSyntaxException e) {
+                // An invalid regular expression lets the search of each entry fail (as soon as this comparison is
+                // reached), but not the whole query
+                return entry -> {
+                    throw e;
+                };
+            }
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public SearchMatcher visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public SearchMatcher visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
@@ -233,26 +268,30 @@ public class GrammarBasedSearchRule implements SearchRule {
             if (fieldDescriptor.isPresent()) {
                 return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
             } else {
-                return new ContainBasedSearchRule(caseSensitive).applyRule(right, entry);
+                ContainBasedSearchRule containBasedSearchRule = new ContainBasedSearchRule(caseSensitive);
+                String searchString = right;
+                return entry -> containBasedSearchRule.applyRule(searchString, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public SearchMatcher visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return new NotMatcher(visit(ctx.expression())); // negate
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public SearchMatcher visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public SearchMatcher visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            SearchMatcher left = visit(ctx.left);
+            SearchMatcher right = visit(ctx.right);
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                return entry -> left.isMatch(entry) && right.isMatch(entry); // and
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return entry -> left.isMatch(entry) || right.isMatch(entry); // or
             }
         }
     }
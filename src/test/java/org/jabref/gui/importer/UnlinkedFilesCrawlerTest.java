@@ -0,0 +1,192 @@
+package org.jabref.gui.importer;
+
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javafx.scene.control.CheckBoxTreeItem;
+import javafx.scene.control.TreeItem;
+
+import org.jabref.gui.externalfiles.FindUnlinkedFilesDialog.FileNodeWrapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnlinkedFilesCrawlerTest {
+
+    private static final FileFilter PDF_FILTER = file -> file.getName().endsWith(".pdf");
+
+    private Path directory;
+    private ForkJoinPool pool;
+    private List<Runnable> treeUpdates;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDirectory) {
+        directory = tempDirectory;
+        pool = new ForkJoinPool();
+        treeUpdates = new ArrayList<>();
+    }
+
+    @Test
+    void searchBuildsTreeOfFoundFiles() throws Exception {
+        Path first = createFile(directory.resolve("first.pdf"));
+        createFile(directory.resolve("notes.txt"));
+        Path second = createFile(directory.resolve("sub").resolve("second.pdf"));
+        Path third = createFile(directory.resolve("sub").resolve("deep").resolve("third.pdf"));
+        createFile(directory.resolve("other").resolve("notes.txt"));
+
+        CheckBoxTreeItem<FileNodeWrapper> root = createCrawler(PDF_FILTER).call();
+
+        Map<Path, Integer> expectedDirectories = new HashMap<>();
+        expectedDirectories.put(directory, 3);
+        expectedDirectories.put(directory.resolve("sub"), 2);
+        expectedDirectories.put(directory.resolve("sub").resolve("deep"), 1);
+        assertEquals(expectedDirectories, getDirectories(root));
+        assertEquals(Set.of(first, second, third), getFiles(root));
+        assertTrue(getAllItems(root).stream().allMatch(CheckBoxTreeItem::isSelected));
+    }
+
+    @Test
+    void searchFindsSameFilesAsSequentialWalk() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            Path subdirectory = directory.resolve("sub" + i);
+            for (int j = 0; j < i; j++) {
+                createFile(subdirectory.resolve("file" + j + ".pdf"));
+                createFile(subdirectory.resolve("file" + j + ".txt"));
+                createFile(subdirectory.resolve("deep" + j).resolve("file.pdf"));
+            }
+        }
+
+        CheckBoxTreeItem<FileNodeWrapper> root = createCrawler(PDF_FILTER).call();
+
+        Set<Path> expectedFiles;
+        try (Stream<Path> files = Files.walk(directory)) {
+            expectedFiles = files.filter(Files::isRegularFile)
+                                 .filter(file -> PDF_FILTER.accept(file.toFile()))
+                                 .collect(Collectors.toSet());
+        }
+        assertEquals(expectedFiles, getFiles(root));
+        assertEquals(expectedFiles.size(), root.getValue().fileCount);
+    }
+
+    @Test
+    void filesAddedOutOfOrderAreAssembledIntoOneTree() {
+        Path sub = directory.resolve("sub");
+        Path deep = sub.resolve("deep");
+        UnlinkedFilesTree tree = new UnlinkedFilesTree(directory);
+
+        tree.addFiles(List.of(deep.resolve("third.pdf")));
+        tree.addFiles(List.of(directory.resolve("first.pdf"), deep.resolve("fourth.pdf")));
+        tree.addFiles(List.of(sub.resolve("second.pdf")));
+
+        Map<Path, Integer> expectedDirectories = new HashMap<>();
+        expectedDirectories.put(directory, 4);
+        expectedDirectories.put(sub, 3);
+        expectedDirectories.put(deep, 2);
+        assertEquals(expectedDirectories, getDirectories(tree.getRoot()));
+        assertEquals(1, tree.getRoot().getChildren().stream().filter(item -> item.getValue().path.equals(sub)).count());
+        assertEquals(2, getItem(tree.getRoot(), deep).getChildren().size());
+    }
+
+    @Test
+    void cancelledSearchStopsPublishingAndShutsDownPool() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            createFile(directory.resolve("sub" + i).resolve("file.pdf"));
+        }
+        AtomicInteger acceptedFiles = new AtomicInteger();
+        UnlinkedFilesCrawler[] crawler = new UnlinkedFilesCrawler[1];
+        crawler[0] = createCrawler(file -> {
+            acceptedFiles.incrementAndGet();
+            crawler[0].cancel();
+            return true;
+        });
+
+        CheckBoxTreeItem<FileNodeWrapper> root = crawler[0].call();
+
+        assertTrue(acceptedFiles.get() > 0);
+        assertEquals(List.of(), treeUpdates);
+        assertEquals(List.of(), root.getChildren());
+        assertTrue(pool.isShutdown());
+    }
+
+    @Test
+    void searchCancelledBeforeStartFindsNothing() throws Exception {
+        createFile(directory.resolve("first.pdf"));
+        UnlinkedFilesCrawler crawler = createCrawler(PDF_FILTER);
+        crawler.cancel();
+
+        CheckBoxTreeItem<FileNodeWrapper> root = crawler.call();
+
+        assertEquals(List.of(), treeUpdates);
+        assertEquals(0, root.getValue().fileCount);
+        assertEquals(List.of(), root.getChildren());
+        assertTrue(pool.isShutdown());
+    }
+
+    private UnlinkedFilesCrawler createCrawler(FileFilter fileFilter) {
+        // The updates of the tree are recorded and run in the thread of the search instead of the JavaFX thread
+        return new UnlinkedFilesCrawler(directory, () -> fileFilter, update -> {
+            treeUpdates.add(update);
+            update.run();
+        }, pool);
+    }
+
+    private static Path createFile(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.createFile(file);
+    }
+
+    private static List<TreeItem<FileNodeWrapper>> getAllItems(TreeItem<FileNodeWrapper> item) {
+        List<TreeItem<FileNodeWrapper>> items = new ArrayList<>();
+        items.add(item);
+        for (TreeItem<FileNodeWrapper> child : item.getChildren()) {
+            items.addAll(getAllItems(child));
+        }
+        return items;
+    }
+
+    private static TreeItem<FileNodeWrapper> getItem(TreeItem<FileNodeWrapper> root, Path path) {
+        return getAllItems(root).stream()
+                                .filter(item -> item.getValue().path.equals(path))
+                                .findFirst()
+                                .orElseThrow();
+    }
+
+    /**
+     * Returns the paths of the directory nodes and the number of files shown for them
+     */
+    private static Map<Path, Integer> getDirectories(TreeItem<FileNodeWrapper> root) {
+        Map<Path, Integer> directories = new HashMap<>();
+        for (TreeItem<FileNodeWrapper> item : getAllItems(root)) {
+            if (!item.isLeaf() || (item == root)) {
+                directories.put(item.getValue().path, item.getValue().fileCount);
+            }
+        }
+        return directories;
+    }
+
+    private static Set<Path> getFiles(TreeItem<FileNodeWrapper> root) {
+        Set<Path> files = new HashSet<>();
+        for (TreeItem<FileNodeWrapper> item : getAllItems(root)) {
+            if (item.isLeaf() && (item != root)) {
+                files.add(item.getValue().path);
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,84 @@
+package org.jabref.logic.autosaveandbackup;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersistenceSchedulerTest {
+
+    private PersistenceScheduler scheduler;
+    private BibDatabaseContext context;
+    private BibEntry entry;
+    private Semaphore autosaves;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new PersistenceScheduler(Duration.ofMillis(100), Duration.ofSeconds(5));
+        context = new BibDatabaseContext();
+        entry = new BibEntry();
+        context.getDatabase().insertEntry(entry);
+        autosaves = new Semaphore(0);
+    }
+
+    @Test
+    void burstOfChangesIsSavedOnce() throws Exception {
+        scheduler.startAutosave(context, autosaves::release);
+
+        for (int i = 0; i < 5; i++) {
+            entry.setField(StandardField.TITLE, "Title " + i + " of the entry");
+        }
+
+        assertTrue(autosaves.tryAcquire(5, TimeUnit.SECONDS));
+        assertFalse(autosaves.tryAcquire(500, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void changeDuringSaveIsSavedAfterwards() throws Exception {
+        AtomicInteger numberOfSaves = new AtomicInteger();
+        scheduler.startAutosave(context, () -> {
+            if (numberOfSaves.incrementAndGet() == 1) {
+                entry.setField(StandardField.YEAR, "2020");
+            }
+            autosaves.release();
+        });
+
+        entry.setField(StandardField.TITLE, "Title of the entry");
+
+        assertTrue(autosaves.tryAcquire(2, 5, TimeUnit.SECONDS));
+        assertEquals(2, numberOfSaves.get());
+    }
+
+    @Test
+    void smallEditOfSameFieldAfterSaveIsSaved() throws Exception {
+        scheduler.startAutosave(context, autosaves::release);
+
+        entry.setField(StandardField.TITLE, "a");
+        assertTrue(autosaves.tryAcquire(5, TimeUnit.SECONDS));
+        entry.setField(StandardField.TITLE, "ab");
+
+        assertTrue(autosaves.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void noSaveAfterStop() throws Exception {
+        scheduler.startAutosave(context, autosaves::release);
+        scheduler.stopAutosave(context);
+
+        entry.setField(StandardField.TITLE, "Title of the entry");
+
+        assertFalse(autosaves.tryAcquire(500, TimeUnit.MILLISECONDS));
+        assertTrue(scheduler.getLastTimings(context).isEmpty());
+    }
+}
@@ -5,9 +5,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParserResult;
@@ -20,6 +23,7 @@ import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -159,4 +163,20 @@ class AuxParserTest {
                 auxResult.getResolvedKeysCount() + auxResult.getUnresolvedKeysCount());
         assertEquals(0, auxResult.getCrossRefEntriesCount());
     }
+
+    @Test
+    void changedNestedAuxIsReadAgain(@TempDir Path temporaryFolder) throws IOException {
+        Path auxFile = temporaryFolder.resolve("thesis.aux");
+        Path chapterFile = temporaryFolder.resolve("chapter.aux");
+        Files.writeString(auxFile, "\\citation{Darwin1888}\n\\@input{chapter.aux}\n");
+        Files.writeString(chapterFile, "\\citation{Einstein1920}\n");
+        AuxParser auxParser = new DefaultAuxParser(new BibDatabase());
+        assertEquals(Set.of("Darwin1888", "Einstein1920"), auxParser.parse(auxFile).getUniqueKeys());
+
+        FileTime lastModifiedTime = Files.getLastModifiedTime(chapterFile);
+        Files.writeString(chapterFile, "\\citation{Einstein1920,Newton1687}\n");
+        Files.setLastModifiedTime(chapterFile, FileTime.fromMillis(lastModifiedTime.toMillis() + 2000));
+
+        assertEquals(Set.of("Darwin1888", "Einstein1920", "Newton1687"), auxParser.parse(auxFile).getUniqueKeys());
+    }
 }
@@ -285,4 +285,25 @@ public class DuplicateCheckTest {
 
         assertFalse(duplicateChecker.isDuplicate(editionOne, editionTwo, BibDatabaseMode.BIBTEX));
     }
+
+    @Test
+    public void changedTitleIsTakenIntoAccountAfterComparison() {
+        BibEntry copy = (BibEntry) simpleArticle.clone();
+        assertTrue(duplicateChecker.isDuplicate(simpleArticle, copy, BibDatabaseMode.BIBTEX));
+
+        copy.setField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla");
+
+        assertFalse(duplicateChecker.isDuplicate(simpleArticle, copy, BibDatabaseMode.BIBTEX));
+    }
+
+    @Test
+    public void compareEntriesStrictlyCountsFieldsOfBothEntries() {
+        BibEntry other = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.PAGES, "1--2");
+
+        // Same author and title out of author, title, year and pages
+        assertEquals(0.5, DuplicateCheck.compareEntriesStrictly(simpleArticle, other), 0.01);
+    }
 }
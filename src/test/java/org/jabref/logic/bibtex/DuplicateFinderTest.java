@@ -0,0 +1,110 @@
+package org.jabref.logic.bibtex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DuplicateFinderTest {
+
+    private DuplicateFinder duplicateFinder;
+
+    @BeforeEach
+    void setUp() {
+        duplicateFinder = new DuplicateFinder(new DuplicateCheck(new BibEntryTypesManager()));
+    }
+
+    @Test
+    void findsEntriesWithSameDoi() {
+        BibEntry one = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/182");
+        BibEntry two = new BibEntry(StandardEntryType.Book).withField(StandardField.DOI, "10.1000/182");
+
+        assertEquals(List.of(List.of(one, two)), findDuplicates(List.of(one, new BibEntry(), two)));
+    }
+
+    @Test
+    void findsEntriesWithSimilarTitleAndDifferentYear() {
+        BibEntry one = createArticle("Single Author", "A serious paper about something", "2017");
+        BibEntry two = createArticle("Single Author", "A serious paper about somethin", "2018");
+
+        assertEquals(List.of(List.of(one, two)), findDuplicates(List.of(one, two)));
+    }
+
+    @Test
+    void entriesWithSameFirstAuthorAndYearShareBlock() {
+        BibEntry one = createArticle("Author, Single and Other, Author", "Completely different title", "2017");
+        BibEntry two = createArticle("Single Author and Author Other", "Title which is not similar at all", "2017");
+
+        assertTrue(DuplicateFinder.getBlockingKeys(one).stream().anyMatch(DuplicateFinder.getBlockingKeys(two)::contains));
+    }
+
+    @Test
+    void unrelatedEntriesDoNotShareBlocks() {
+        BibEntry one = createArticle("Single Author", "A serious paper about something", "2017");
+        BibEntry two = createArticle("Completely Different", "Holy Moly Uffdada und Trallalla", "1992");
+
+        assertFalse(DuplicateFinder.getBlockingKeys(one).stream().anyMatch(DuplicateFinder.getBlockingKeys(two)::contains));
+    }
+
+    @Test
+    void findsDuplicatesInLargeList() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            entries.add(createArticle("Author" + (i % 7) + ", First", "Study number " + i + " on topic " + (i % 13), String.valueOf(1990 + (i % 20))));
+        }
+        entries.add(createArticle("Author0, First", "Study number 42 on topic 3", "1992"));
+        entries.add(createArticle("Author3, First", "Study numbr 255 on topic 8", "2005"));
+
+        List<List<BibEntry>> duplicates = findDuplicates(entries);
+
+        List<String> pairs = toIndexPairs(entries, duplicates);
+        assertTrue(pairs.contains("42-300"));
+        assertTrue(pairs.contains("255-301"));
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        for (List<BibEntry> pair : duplicates) {
+            assertTrue(duplicateCheck.isDuplicate(pair.get(0), pair.get(1), BibDatabaseMode.BIBTEX));
+        }
+    }
+
+    private List<List<BibEntry>> findDuplicates(List<BibEntry> entries) {
+        List<List<BibEntry>> duplicates = Collections.synchronizedList(new ArrayList<>());
+        duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> duplicates.add(List.of(first, second)));
+        return duplicates;
+    }
+
+    private static List<String> toIndexPairs(List<BibEntry> entries, List<List<BibEntry>> pairs) {
+        return pairs.stream()
+                    .map(pair -> indexOf(entries, pair.get(0)) + "-" + indexOf(entries, pair.get(1)))
+                    .sorted()
+                    .collect(Collectors.toList());
+    }
+
+    private static int indexOf(List<BibEntry> entries, BibEntry entry) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i) == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static BibEntry createArticle(String author, String title, String year) {
+        return new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, author)
+                .withField(StandardField.TITLE, title)
+                .withField(StandardField.YEAR, year);
+    }
+}
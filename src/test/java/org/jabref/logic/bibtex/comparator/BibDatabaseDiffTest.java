@@ -1,13 +1,20 @@
 package org.jabref.logic.bibtex.comparator;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class BibDatabaseDiffTest {
 
@@ -19,4 +26,99 @@ public class BibDatabaseDiffTest {
         assertEquals(Collections.emptyList(), diff.getBibStringDifferences());
         assertEquals(Collections.emptyList(), diff.getEntryDifferences());
     }
+
+    @Test
+    public void unchangedEntriesAreNotReported() {
+        BibEntry one = createArticle("One", "First title", "2001");
+        BibEntry two = createArticle("Two", "Second title", "2002");
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(createContext(one, two), createContext((BibEntry) two.clone(), (BibEntry) one.clone()));
+
+        assertEquals(Collections.emptyList(), diff.getEntryDifferences());
+    }
+
+    @Test
+    public void changedEntryIsMatchedByCiteKey() {
+        BibEntry originalEntry = createArticle("Key", "Title", "2001");
+        BibEntry newEntry = createArticle("Key", "Completely different", "1999").withField(StandardField.AUTHOR, "Someone");
+
+        List<BibEntryDiff> differences = BibDatabaseDiff.compare(createContext(originalEntry), createContext(newEntry)).getEntryDifferences();
+
+        assertEquals(1, differences.size());
+        assertSame(originalEntry, differences.get(0).getOriginalEntry());
+        assertSame(newEntry, differences.get(0).getNewEntry());
+    }
+
+    @Test
+    public void entryWithChangedCiteKeyIsMatchedBySimilarity() {
+        BibEntry originalEntry = createArticle("OldKey", "Title", "2001");
+        BibEntry newEntry = createArticle("NewKey", "Title", "2001");
+
+        List<BibEntryDiff> differences = BibDatabaseDiff.compare(createContext(originalEntry), createContext(newEntry)).getEntryDifferences();
+
+        assertEquals(1, differences.size());
+        assertSame(originalEntry, differences.get(0).getOriginalEntry());
+        assertSame(newEntry, differences.get(0).getNewEntry());
+    }
+
+    @Test
+    public void duplicateCiteKeysAreMatchedBySimilarity() {
+        BibEntry originalOne = createArticle("Key", "First title", "2001");
+        BibEntry originalTwo = createArticle("Key", "Second title", "2002");
+        BibEntry newOne = createArticle("Key", "First title", "2011");
+        BibEntry newTwo = createArticle("Key", "Second title", "2012");
+
+        List<BibEntryDiff> differences = BibDatabaseDiff.compare(createContext(originalOne, originalTwo), createContext(newTwo, newOne)).getEntryDifferences();
+
+        assertEquals(2, differences.size());
+        assertSame(originalOne, differences.get(0).getOriginalEntry());
+        assertSame(newOne, differences.get(0).getNewEntry());
+        assertSame(originalTwo, differences.get(1).getOriginalEntry());
+        assertSame(newTwo, differences.get(1).getNewEntry());
+    }
+
+    @Test
+    public void removedAndAddedEntriesAreReported() {
+        BibEntry unchangedEntry = createArticle("Same", "Same title", "2000");
+        BibEntry removedEntry = createArticle("Removed", "Removed title", "2001");
+        BibEntry addedEntry = createArticle("Added", "Added title", "2002");
+
+        List<BibEntryDiff> differences = BibDatabaseDiff.compare(createContext(unchangedEntry, removedEntry), createContext((BibEntry) unchangedEntry.clone(), addedEntry)).getEntryDifferences();
+
+        assertEquals(2, differences.size());
+        assertSame(removedEntry, differences.get(0).getOriginalEntry());
+        assertNull(differences.get(0).getNewEntry());
+        assertNull(differences.get(1).getOriginalEntry());
+        assertSame(addedEntry, differences.get(1).getNewEntry());
+    }
+
+    @Test
+    public void entryWithSameSharedIdIsMatched() {
+        BibEntry originalEntry = createArticle("OldKey", "Old title", "2001");
+        originalEntry.getSharedBibEntryData().setSharedID(7);
+        BibEntry newEntry = createArticle("NewKey", "New title", "2002");
+        newEntry.getSharedBibEntryData().setSharedID(7);
+
+        List<BibEntryDiff> differences = BibDatabaseDiff.compare(createContext(originalEntry), createContext(newEntry)).getEntryDifferences();
+
+        assertEquals(1, differences.size());
+        assertSame(originalEntry, differences.get(0).getOriginalEntry());
+        assertSame(newEntry, differences.get(0).getNewEntry());
+    }
+
+    private static BibDatabaseContext createContext(BibEntry... entries) {
+        BibDatabase database = new BibDatabase();
+        for (BibEntry entry : entries) {
+            database.insertEntry(entry);
+        }
+        return new BibDatabaseContext(database);
+    }
+
+    private static BibEntry createArticle(String citeKey, String title, String year) {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setCiteKey(citeKey);
+        entry.setField(StandardField.TITLE, title);
+        entry.setField(StandardField.YEAR, year);
+        return entry;
+    }
 }
@@ -1,13 +1,17 @@
 package org.jabref.logic.bibtexkeypattern;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.bibtexkeypattern.GlobalBibtexKeyPattern;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.model.util.FileUpdateMonitor;
 
@@ -1087,4 +1091,62 @@ public class BibtexKeyGeneratorTest {
 
         assertEquals("Newton-2019", BibtexKeyGenerator.generateKey(entry, "[auth]-[year]"));
     }
+
+    @Test
+    public void generateKeyFollowsChangedKeyPatternOfEntryType() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        entry.setField(StandardField.YEAR, "2019");
+        GlobalBibtexKeyPattern keyPattern = new GlobalBibtexKeyPattern(Collections.emptyList());
+        keyPattern.setDefaultValue("[auth:lower][year]");
+        BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(keyPattern, new BibDatabase(),
+                new BibtexKeyPatternPreferences("", "", false, true, true, keyPattern, ','));
+        assertEquals("newton2019", keyGenerator.generateKey(entry));
+
+        keyPattern.addBibtexKeyPattern(StandardEntryType.Article, "[year]-[auth:upper]");
+
+        assertEquals("2019-NEWTON", keyGenerator.generateKey(entry));
+    }
+
+    @Test
+    public void generateAndSetKeysAddsLettersToEqualKeys() {
+        BibDatabase database = new BibDatabase();
+        BibEntry existing = new BibEntry().withField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        existing.setCiteKey("Newton");
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        BibEntry second = new BibEntry().withField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        BibEntry other = new BibEntry().withField(StandardField.AUTHOR, "James Maxwell");
+        database.insertEntries(existing, first, second, other);
+        GlobalBibtexKeyPattern keyPattern = new GlobalBibtexKeyPattern(Collections.emptyList());
+        keyPattern.setDefaultValue("[auth]");
+        BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(keyPattern, database,
+                new BibtexKeyPatternPreferences("", "", false, true, true, keyPattern, ','));
+
+        assertEquals(3, keyGenerator.generateAndSetKeys(List.of(first, second, other)).size());
+
+        assertEquals(Optional.of("Newtona"), first.getCiteKeyOptional());
+        assertEquals(Optional.of("Newtonb"), second.getCiteKeyOptional());
+        assertEquals(Optional.of("Maxwell"), other.getCiteKeyOptional());
+    }
+
+    @Test
+    public void generateAndSetKeysKeepsKeysThatAreGeneratedAgain() {
+        BibDatabase database = new BibDatabase();
+        BibEntry first = new BibEntry().withField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        first.setCiteKey("Newtonb");
+        BibEntry second = new BibEntry().withField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        second.setCiteKey("Newton");
+        BibEntry third = new BibEntry().withField(StandardField.AUTHOR, AUTHOR_STRING_FIRSTNAME_FULL_LASTNAME_FULL_COUNT_1);
+        database.insertEntries(first, second, third);
+        GlobalBibtexKeyPattern keyPattern = new GlobalBibtexKeyPattern(Collections.emptyList());
+        keyPattern.setDefaultValue("[auth]");
+        BibtexKeyGenerator keyGenerator = new BibtexKeyGenerator(keyPattern, database,
+                new BibtexKeyPatternPreferences("", "", false, true, true, keyPattern, ','));
+
+        assertEquals(1, keyGenerator.generateAndSetKeys(database.getEntries()).size());
+
+        assertEquals(Optional.of("Newtonb"), first.getCiteKeyOptional());
+        assertEquals(Optional.of("Newton"), second.getCiteKeyOptional());
+        assertEquals(Optional.of("Newtona"), third.getCiteKeyOptional());
+    }
 }
@@ -0,0 +1,111 @@
+package org.jabref.logic.exporter;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jabref.model.Defaults;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrderConfig;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SavedEntryPositionsTest {
+
+    private Path file;
+    private SavePreferences preferences;
+    private BibEntryTypesManager entryTypesManager;
+    private BibDatabase database;
+    private BibDatabaseContext context;
+    private SavedEntryPositions positions;
+    private BibEntry first;
+    private BibEntry second;
+    private BibEntry third;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) {
+        file = temporaryFolder.resolve("library.bib");
+        preferences = mock(SavePreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferences.getSaveOrder()).thenReturn(new SaveOrderConfig());
+        when(preferences.getEncoding()).thenReturn(StandardCharsets.UTF_8);
+        when(preferences.takeMetadataSaveOrderInAccount()).thenReturn(true);
+        entryTypesManager = new BibEntryTypesManager();
+
+        database = new BibDatabase();
+        context = new BibDatabaseContext(database, new MetaData(), new Defaults(BibDatabaseMode.BIBTEX));
+        first = createEntry("first", "Title of the first entry");
+        second = createEntry("second", "Title of the second entry");
+        third = createEntry("third", "Title of the third entry");
+        positions = SavedEntryPositions.of(database);
+    }
+
+    private BibEntry createEntry(String key, String title) {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setCiteKey(key);
+        entry.setField(StandardField.TITLE, title);
+        database.insertEntry(entry);
+        return entry;
+    }
+
+    private void save() throws Exception {
+        AtomicFileWriter fileWriter = new AtomicFileWriter(file, StandardCharsets.UTF_8);
+        new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager, positions).saveDatabase(context);
+    }
+
+    private String writeAll() throws Exception {
+        StringWriter stringWriter = new StringWriter();
+        new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager).saveDatabase(context);
+        return stringWriter.toString();
+    }
+
+    @Test
+    void saveAfterChangeOfEntryWritesSameContentAsFullWrite() throws Exception {
+        save();
+        second.setField(StandardField.TITLE, "Changed title of the second entry, which is longer now");
+
+        assertTrue(positions.getPositionOfUnchangedEntry(first).isPresent());
+        assertTrue(positions.getPositionOfUnchangedEntry(second).isEmpty());
+
+        save();
+
+        assertEquals(writeAll(), Files.readString(file, StandardCharsets.UTF_8));
+        assertTrue(positions.getPositionOfUnchangedEntry(second).isPresent());
+    }
+
+    @Test
+    void saveAfterRemovalOfEntryWritesSameContentAsFullWrite() throws Exception {
+        save();
+        database.removeEntry(second);
+        third.setField(StandardField.YEAR, "2020");
+
+        save();
+
+        assertEquals(writeAll(), Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void saveAfterExternalChangeDiscardsPositions() throws Exception {
+        save();
+        Files.writeString(file, "Changed by someone else", StandardCharsets.UTF_8);
+
+        save();
+
+        assertEquals(writeAll(), Files.readString(file, StandardCharsets.UTF_8));
+    }
+}
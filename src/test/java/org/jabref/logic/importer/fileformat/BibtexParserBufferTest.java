@@ -0,0 +1,86 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexParserBufferTest {
+
+    @Test
+    void readReturnsCharactersInOrder() throws IOException {
+        BibtexParserBuffer buffer = new BibtexParserBuffer(new StringReader("ab"));
+
+        assertEquals('a', buffer.read());
+        assertEquals('b', buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    void unreadCharacterIsReadAgain() throws IOException {
+        BibtexParserBuffer buffer = new BibtexParserBuffer(new StringReader("ab"));
+
+        buffer.read();
+        int character = buffer.read();
+        buffer.unread(character);
+
+        assertEquals('b', buffer.read());
+    }
+
+    @Test
+    void unreadCharacterIsNotPartOfDumpedText() throws IOException {
+        BibtexParserBuffer buffer = new BibtexParserBuffer(new StringReader("abc"));
+
+        buffer.read();
+        buffer.unread(buffer.read());
+
+        assertEquals("a", buffer.dumpText());
+        assertEquals('b', buffer.read());
+        assertEquals("b", buffer.dumpText());
+    }
+
+    @Test
+    void unreadEndOfFileReturnsEndOfFileCharacter() throws IOException {
+        BibtexParserBuffer buffer = new BibtexParserBuffer(new StringReader(""));
+
+        buffer.unread(buffer.read());
+
+        assertEquals(65535, buffer.read());
+        assertEquals(-1, buffer.read());
+    }
+
+    @Test
+    void unreadForeignCharacterIsReadButNotDumped() throws IOException {
+        BibtexParserBuffer buffer = new BibtexParserBuffer(new StringReader("ab"));
+
+        buffer.read();
+        buffer.unread('x');
+
+        assertEquals('x', buffer.read());
+        assertEquals('b', buffer.read());
+        assertEquals("ab", buffer.dumpText());
+    }
+
+    @Test
+    void dumpTextWorksAcrossManyRefills() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            content.append((char) ('a' + (i % 26)));
+        }
+        BibtexParserBuffer buffer = new BibtexParserBuffer(new StringReader(content.toString()));
+
+        StringBuilder dumped = new StringBuilder();
+        int read = 0;
+        while (buffer.read() != -1) {
+            read++;
+            if ((read % 3_000) == 0) {
+                dumped.append(buffer.dumpText());
+            }
+        }
+        dumped.append(buffer.dumpText());
+
+        assertEquals(content.toString(), dumped.toString());
+    }
+}
@@ -0,0 +1,137 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that parsing in parallel yields the same result as parsing sequentially
+ */
+class BibtexParserParallelTest {
+
+    private static final int NUMBER_OF_CHUNKS = 8;
+
+    private BibtexParser parser;
+
+    @BeforeEach
+    void setUp() {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        parser = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor());
+    }
+
+    @Test
+    void findChunkStartsSplitsAtEntriesOnly() {
+        String content = "@article{a,\n  abstract = {some text\n@misc{b, title = {inner}}\n}}\n@misc{c}\n@misc{d}\n";
+
+        List<Integer> chunkStarts = BibtexParser.findChunkStarts(content, content.length());
+
+        assertEquals(List.of(0, content.indexOf("@misc{c}"), content.indexOf("@misc{d}")), chunkStarts);
+    }
+
+    @Test
+    void findChunkStartsStopsAtUnbalancedBrackets() {
+        String content = "@misc{a}\n} unbalanced\n@misc{b}\n";
+
+        assertEquals(List.of(0), BibtexParser.findChunkStarts(content, content.length()));
+    }
+
+    @Test
+    void parallelParseOfLibraryEqualsSequentialParse() throws IOException {
+        String library = createLibrary();
+
+        assertTrue(BibtexParser.findChunkStarts(library, NUMBER_OF_CHUNKS).size() > 1);
+        assertSameResult(library);
+    }
+
+    @Test
+    void parallelParseWithCorruptedEntryEqualsSequentialParse() throws IOException {
+        String library = createLibrary() + "@article{corrupted, title = {missing bracket}\n" + createLibrary();
+
+        assertSameResult(library);
+    }
+
+    @Test
+    void parallelParseWithCommentsBetweenChunksEqualsSequentialParse() throws IOException {
+        StringBuilder library = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            library.append("@comment{plain comment ").append(i).append("}\n\n")
+                   .append("% line comment\n")
+                   .append("@misc{key").append(i).append(", note = {").append(i).append("}}\n\n");
+        }
+
+        assertSameResult(library.toString());
+    }
+
+    private void assertSameResult(String library) throws IOException {
+        ParserResult sequential = parser.parseSequentially(new StringReader(library));
+        ParserResult parallel = parser.parseInParallel(library, NUMBER_OF_CHUNKS);
+
+        BibDatabase expected = sequential.getDatabase();
+        BibDatabase actual = parallel.getDatabase();
+        assertEquals(expected.getEntries(), actual.getEntries());
+        assertEquals(getParsedSerializations(expected), getParsedSerializations(actual));
+        assertEquals(getStrings(expected), getStrings(actual));
+        assertEquals(expected.getPreamble(), actual.getPreamble());
+        assertEquals(expected.getEpilog(), actual.getEpilog());
+        assertEquals(expected.getSharedDatabaseID(), actual.getSharedDatabaseID());
+        assertEquals(sequential.getMetaData(), parallel.getMetaData());
+        assertEquals(sequential.getEntryTypes(), parallel.getEntryTypes());
+        assertEquals(sequential.warnings(), parallel.warnings());
+        assertEquals(sequential.getDuplicateKeys(), parallel.getDuplicateKeys());
+    }
+
+    private static List<String> getParsedSerializations(BibDatabase database) {
+        return database.getEntries().stream().map(BibEntry::getParsedSerialization).collect(Collectors.toList());
+    }
+
+    private static Set<String> getStrings(BibDatabase database) {
+        return database.getStringValues().stream()
+                       .map(string -> string.getName() + "=" + string.getContent() + "|" + string.getParsedSerialization())
+                       .collect(Collectors.toSet());
+    }
+
+    private static String createLibrary() {
+        StringBuilder library = new StringBuilder();
+        library.append("% Encoding: UTF-8\n\n");
+        library.append("@Preamble{\\newcommand{\\noop}[1]{}}\n\n");
+        library.append("@String{aaai = {AAAI Press}}\n\n");
+        for (int i = 0; i < 200; i++) {
+            if ((i % 10) == 0) {
+                library.append("% comment before entry ").append(i).append("\n");
+            }
+            if ((i % 50) == 0) {
+                library.append("@String{journal").append(i).append(" = {Journal ").append(i).append("}}\n\n");
+            }
+            library.append("@Article{key").append(i % 150).append(",\n")
+                   .append("  author    = {Firstname Lastname and Other Author").append(i).append("},\n")
+                   .append("  title     = {This is {my} title ").append(i).append("},\n")
+                   .append("  journal   = journal").append((i / 50) * 50).append(",\n")
+                   .append("  publisher = aaai # { and others},\n")
+                   .append("  abstract  = {A multi-line\n@abstract{with an at sign} ").append(i).append("},\n")
+                   .append("  year      = ").append(1900 + i).append(",\n")
+                   .append("}\n\n");
+        }
+        library.append("@Comment{jabref-meta: databaseType:bibtex;}\n\n");
+        library.append("@Comment{jabref-entrytype: Lecturenotes: req[author;title] opt[language;url]}\n\n");
+        library.append("some text after the last entry\n");
+        return library.toString();
+    }
+}
@@ -395,6 +395,17 @@ class BibtexParserTest {
         }
     }
 
+    @Test
+    void parseSetsVerbatimParsedSerializationForEntryWithMissingCommaAfterKey() throws IOException {
+        String entryText = "@article{test" + OS.NEWLINE + "  author = {Ed von Test}}";
+
+        ParserResult result = parser.parse(new StringReader(entryText));
+
+        BibEntry entry = result.getDatabase().getEntries().get(0);
+        assertEquals(Optional.of("Ed von Test"), entry.getField(StandardField.AUTHOR));
+        assertEquals(entryText, entry.getParsedSerialization());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         List<BibEntry> expected = new ArrayList<>();
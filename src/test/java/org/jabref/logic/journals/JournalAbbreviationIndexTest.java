@@ -0,0 +1,78 @@
+package org.jabref.logic.journals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.journals.AbbreviationLayer.NameType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalAbbreviationIndexTest {
+
+    private static final List<Abbreviation> ABBREVIATIONS = List.of(
+            new Abbreviation("Long Name", "L. N."),
+            new Abbreviation("Zeitschrift für Physik", "Z. Phys."),
+            new Abbreviation("Other Name", "L. N."));
+
+    @Test
+    void writtenIndexCanBeRead() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JournalAbbreviationIndex.write(ABBREVIATIONS, outputStream);
+
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals(ABBREVIATIONS, index.stream().collect(Collectors.toList()));
+        assertEquals("Z. Phys.", index.find(NameType.FULL_NAME, "zeitschrift für physik", any -> true).get().getAbbreviation());
+    }
+
+    @Test
+    void findReturnsAbbreviationAddedLast() {
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.of(ABBREVIATIONS);
+
+        assertEquals(Optional.of("Other Name"), index.find(NameType.ISO_ABBREVIATION, "l. n.", any -> true).map(Abbreviation::getName));
+        assertEquals(Optional.of("Long Name"), index.find(NameType.MEDLINE_ABBREVIATION, "l n", abbreviation -> abbreviation.getName().startsWith("Long")).map(Abbreviation::getName));
+        assertEquals(Optional.empty(), index.find(NameType.FULL_NAME, "unknown", any -> true));
+    }
+
+    @Test
+    void lastAbbreviationWithSameNameWins() {
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.of(List.of(new Abbreviation("Long Name", "L. N."), new Abbreviation("Long Name", "LA. N.")));
+
+        assertEquals(1, index.size());
+        assertFalse(index.find(NameType.ISO_ABBREVIATION, "l. n.", any -> true).isPresent());
+    }
+
+    @Test
+    void containsNameIsCaseSensitive() {
+        JournalAbbreviationIndex index = JournalAbbreviationIndex.of(ABBREVIATIONS);
+
+        assertTrue(index.containsName("Long Name"));
+        assertFalse(index.containsName("long name"));
+    }
+
+    @Test
+    void readRejectsOtherContent() {
+        assertThrows(IOException.class, () -> JournalAbbreviationIndex.read(new ByteArrayInputStream("Long Name = L. N.".getBytes())));
+    }
+
+    @Test
+    void builtInIndexMatchesParsedList() {
+        List<Abbreviation> parsedAbbreviations = JournalAbbreviationLoader.getBuiltInAbbreviations();
+
+        JournalAbbreviationIndex index = JournalAbbreviationLoader.getBuiltInIndex("/journals/journalList.txt");
+
+        assertEquals(parsedAbbreviations.size(), index.size());
+        for (Abbreviation abbreviation : parsedAbbreviations) {
+            assertTrue(index.containsName(abbreviation.getName()), abbreviation.toString());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.jabref.logic.journals;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,4 +67,75 @@ public class JournalAbbreviationRepositoryTest {
         assertEquals(1, repository.size());
         assertEquals("LA. N.", repository.getIsoAbbreviation("Long Name").orElse("WRONG"));
     }
+
+    @Test
+    public void overriddenAbbreviationIsNotFoundAnymore() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Long Name", "L. N."));
+        assertTrue(repository.isKnownName("L. N."));
+
+        repository.addEntry(new Abbreviation("Long Name", "LA. N."));
+        assertFalse(repository.isKnownName("L. N."));
+        assertTrue(repository.isKnownName("LA. N."));
+    }
+
+    @Test
+    public void lookupIgnoresCase() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(new Abbreviation("Long Name", "L. N."));
+
+        assertTrue(repository.isKnownName("long name"));
+        assertEquals("L N", repository.getMedlineAbbreviation(" l. n. ").orElse("WRONG"));
+        assertTrue(repository.isAbbreviatedName("l n"));
+    }
+
+    @Test
+    public void isAbbreviatedNameIsStrict() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(
+                new Abbreviation("Long Name", "L. N."),
+                new Abbreviation("Nature", "Nature"));
+
+        assertTrue(repository.isAbbreviatedName("L. N."));
+        assertFalse(repository.isAbbreviatedName("Long Name"));
+        assertFalse(repository.isAbbreviatedName("Nature"));
+    }
+
+    @Test
+    public void fullNameIsPreferredOverAbbreviationOfOtherJournal() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(
+                new Abbreviation("Physics", "Phys."),
+                new Abbreviation("Phys", "Ph."));
+
+        assertEquals("Ph.", repository.getIsoAbbreviation("Phys").orElse("WRONG"));
+    }
+
+    @Test
+    public void lastAddedAbbreviationWinsForSharedAbbreviation() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addEntry(new Abbreviation("Old Long Name", "L. N."));
+        repository.addEntry(new Abbreviation("New Long Name", "L. N."));
+
+        assertEquals("New Long Name", repository.getAbbreviation("L. N.").map(Abbreviation::getName).orElse("WRONG"));
+    }
+
+    @Test
+    public void addedAbbreviationOverridesAbbreviationOfIndex() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addIndex(JournalAbbreviationIndex.of(List.of(new Abbreviation("Long Name", "L. N."), new Abbreviation("Other Name", "O. N."))));
+        repository.addEntry(new Abbreviation("Long Name", "LA. N."));
+
+        assertEquals(2, repository.size());
+        assertFalse(repository.isKnownName("L. N."));
+        assertEquals("LA. N.", repository.getIsoAbbreviation("long name").orElse("WRONG"));
+        assertEquals("Other Name", repository.getNextAbbreviation("O N").orElse("WRONG"));
+    }
+
+    @Test
+    public void overriddenAbbreviationRevealsEarlierAbbreviationWithSameIso() {
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository();
+        repository.addIndex(JournalAbbreviationIndex.of(List.of(new Abbreviation("First Name", "F. N."), new Abbreviation("Second Name", "F. N."))));
+        repository.addEntry(new Abbreviation("Second Name", "S. N."));
+
+        assertEquals("First Name", repository.getAbbreviation("F. N.").map(Abbreviation::getName).orElse("WRONG"));
+        assertTrue(repository.isAbbreviatedName("F N"));
+    }
 }
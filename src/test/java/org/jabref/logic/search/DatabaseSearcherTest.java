@@ -4,6 +4,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -119,4 +120,57 @@ public class DatabaseSearcherTest {
 
         assertEquals(Collections.emptyList(), databaseSearcher.getMatches());
     }
+
+    @Test
+    public void testIndexedSearchKeepsOrderOfDatabase() {
+        BibEntry first = new BibEntry(StandardEntryType.Article);
+        first.setField(StandardField.AUTHOR, "Tonho Harrer");
+        BibEntry second = new BibEntry(StandardEntryType.Article);
+        second.setField(StandardField.AUTHOR, "Harrer");
+        second.setField(StandardField.TITLE, "Tonho");
+        database.insertEntry(first);
+        database.insertEntry(new BibEntry(StandardEntryType.Article));
+        database.insertEntry(second);
+
+        SearchQuery query = new SearchQuery("harrer tonho", false, false);
+        DatabaseSearcher databaseSearcher = new DatabaseSearcher(query, new BibDatabaseContext(database));
+
+        assertEquals(List.of(first, second), databaseSearcher.getMatches());
+    }
+
+    @Test
+    public void testIndexedSearchFindsChangedEntry() {
+        BibDatabaseContext databaseContext = new BibDatabaseContext(database);
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        database.insertEntry(entry);
+        new DatabaseSearcher(new SearchQuery("tonho", false, false), databaseContext).getMatches();
+
+        entry.setField(StandardField.AUTHOR, "tonho");
+
+        assertEquals(List.of(entry), new DatabaseSearcher(new SearchQuery("tonho", false, false), databaseContext).getMatches());
+    }
+
+    @Test
+    public void testIndexedSearchFallsBackForCaseSensitiveQuery() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.AUTHOR, "Tonho");
+        database.insertEntry(entry);
+
+        SearchQuery query = new SearchQuery("Tonho", true, false);
+        DatabaseSearcher databaseSearcher = new DatabaseSearcher(query, new BibDatabaseContext(database));
+
+        assertEquals(List.of(entry), databaseSearcher.getMatches());
+    }
+
+    @Test
+    public void testIndexedSearchWithGrammarBasedQuery() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.AUTHOR, "tonho");
+        database.insertEntry(entry);
+
+        SearchQuery query = new SearchQuery("author=tonho", false, false);
+        DatabaseSearcher databaseSearcher = new DatabaseSearcher(query, new BibDatabaseContext(database));
+
+        assertEquals(List.of(entry), databaseSearcher.getMatches());
+    }
 }
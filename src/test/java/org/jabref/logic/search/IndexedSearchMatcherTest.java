@@ -0,0 +1,53 @@
+package org.jabref.logic.search;
+
+import java.util.List;
+
+import javafx.collections.transformation.FilteredList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.FullTextIndex;
+import org.jabref.model.search.SearchMatcher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndexedSearchMatcherTest {
+
+    private BibDatabase database;
+    private BibEntry entry;
+    private FilteredList<BibEntry> entriesFiltered;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        entry = new BibEntry().withField(StandardField.TITLE, "Marine ecosystems");
+        database.insertEntry(entry);
+        database.insertEntry(new BibEntry().withField(StandardField.TITLE, "Alpine ecosystems"));
+
+        SearchMatcher matcher = new SearchQuery("marine", false, false).getMatcher(new FullTextIndex(database));
+        entriesFiltered = new FilteredList<>(database.getEntries(), matcher::isMatch);
+    }
+
+    @Test
+    void changedEntryLeavesFilteredList() {
+        assertEquals(List.of(entry), entriesFiltered);
+
+        entry.setField(StandardField.TITLE, "Freshwater ecosystems");
+
+        assertEquals(List.of(), entriesFiltered);
+    }
+
+    @Test
+    void undoneChangeShowsEntryAgain() {
+        entry.setField(StandardField.TITLE, "Freshwater ecosystems");
+
+        // The filtered list tests the entry before the index is notified about the change
+        entry.setField(StandardField.TITLE, "Marine ecosystems");
+
+        assertEquals(List.of(entry), entriesFiltered);
+    }
+}
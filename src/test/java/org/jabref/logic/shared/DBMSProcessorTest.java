@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
@@ -96,6 +97,32 @@ class DBMSProcessorTest {
         assertEquals(expectedFieldMap, actualFieldMap);
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testInsertEntries(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry existingEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(existingEntry);
+
+        List<BibEntry> expectedEntries = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            expectedEntries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.TITLE, "Title " + i)
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 20))));
+        }
+        List<BibEntry> entriesToInsert = new ArrayList<>(expectedEntries);
+        entriesToInsert.add(existingEntry); // does not insert, due to existing sharedID
+
+        dbmsProcessor.insertEntries(entriesToInsert);
+
+        expectedEntries.add(0, existingEntry);
+        List<BibEntry> actualEntries = dbmsProcessor.getSharedEntries();
+        assertEquals(expectedEntries, actualEntries);
+        for (int i = 0; i < expectedEntries.size(); i++) {
+            assertEquals(expectedEntries.get(i).getSharedBibEntryData().getSharedID(), actualEntries.get(i).getSharedBibEntryData().getSharedID());
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("getTestingDatabaseSystems")
     void testUpdateEntry(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
@@ -117,6 +144,25 @@ class DBMSProcessorTest {
         assertEquals(expectedEntry, actualEntryOptional.get());
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testUpdateEntryKeepsUnchangedFields(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry expectedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        dbmsProcessor.updateEntry(expectedEntry);
+
+        int fieldCount = 0;
+        try (ResultSet fieldResultSet = selectFrom("FIELD", dbmsConnection, dbmsProcessor)) {
+            while (fieldResultSet.next()) {
+                fieldCount++;
+            }
+        }
+        assertEquals(expectedEntry.getFields().size(), fieldCount);
+        assertEquals(expectedEntry, dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID()).get());
+    }
+
     @ParameterizedTest
     @MethodSource("getTestingDatabaseSystems")
     void testGetEntriesByIdList(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
@@ -135,6 +181,41 @@ class DBMSProcessorTest {
         assertEquals(secondEntry.getId(), sharedEntriesByIdList.get(1).getId());
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testGetEntriesByIdListRepeatedly(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            entries.add(getBibEntryExample());
+        }
+        dbmsProcessor.insertEntries(entries);
+        List<Integer> sharedIDs = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            sharedIDs.add(entry.getSharedBibEntryData().getSharedID());
+        }
+
+        // the lists of IDs are padded, so that the queries are prepared only once per length
+        assertEquals(3, dbmsProcessor.getSharedEntries(sharedIDs.subList(0, 3)).size());
+        assertEquals(2, dbmsProcessor.getSharedEntries(sharedIDs.subList(5, 7)).size());
+        assertEquals(12, dbmsProcessor.getSharedEntries(sharedIDs).size());
+        assertEquals(sharedIDs.get(9), dbmsProcessor.getSharedEntries(sharedIDs.subList(9, 10)).get(0).getSharedBibEntryData().getSharedID());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testQueryMetricsCountExecutions(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        dbmsProcessor.getQueryMetrics().reset();
+
+        dbmsProcessor.getSharedMetaData();
+        dbmsProcessor.getSharedMetaData();
+
+        Map<String, QueryMetrics.QueryStatistics> statistics = dbmsProcessor.getQueryMetrics().getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(2, statistics.get("SELECT * FROM " + escape("METADATA", dbmsProcessor)).getCount());
+    }
+
     @ParameterizedTest
     @MethodSource("getTestingDatabaseSystems")
     void testUpdateNewerEntry(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
@@ -236,6 +317,45 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testGetChangedSharedIDs(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExampleWithEmptyFields();
+        BibEntry thirdEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry, thirdEntry));
+        long insertSequence = dbmsProcessor.getCurrentChangeSequence();
+
+        secondEntry.setField(StandardField.YEAR, "2019");
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.removeEntry(thirdEntry);
+        long currentSequence = dbmsProcessor.getCurrentChangeSequence();
+
+        assertEquals(insertSequence + 2, currentSequence);
+        assertEquals(Set.of(secondEntry.getSharedBibEntryData().getSharedID(), thirdEntry.getSharedBibEntryData().getSharedID()),
+                dbmsProcessor.getChangedSharedIDs(insertSequence, currentSequence));
+        assertEquals(Set.of(firstEntry.getSharedBibEntryData().getSharedID(), secondEntry.getSharedBibEntryData().getSharedID(), thirdEntry.getSharedBibEntryData().getSharedID()),
+                dbmsProcessor.getChangedSharedIDs(0, currentSequence));
+        assertEquals(Set.of(), dbmsProcessor.getChangedSharedIDs(currentSequence, currentSequence));
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestingDatabaseSystems")
+    void testGetSharedIDVersionMappingOfGivenIDs(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws OfflineLockException, SQLException {
+        dbmsProcessor.setupSharedDatabase();
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(Arrays.asList(firstEntry, secondEntry));
+        dbmsProcessor.updateEntry(secondEntry);
+
+        Map<Integer, Integer> expectedIDVersionMap = new HashMap<>();
+        expectedIDVersionMap.put(secondEntry.getSharedBibEntryData().getSharedID(), 2);
+
+        // IDs of not existing entries are not contained
+        assertEquals(expectedIDVersionMap, dbmsProcessor.getSharedIDVersionMapping(Arrays.asList(secondEntry.getSharedBibEntryData().getSharedID(), 4711)));
+    }
+
     @ParameterizedTest
     @MethodSource("getTestingDatabaseSystems")
     void testGetSharedMetaData(DBMSType dbmsType, DBMSConnection dbmsConnection, DBMSProcessor dbmsProcessor) throws SQLException {
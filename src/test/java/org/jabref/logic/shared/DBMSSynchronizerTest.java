@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.formatter.casechanger.LowerCaseFormatter;
@@ -18,6 +19,8 @@ import org.jabref.model.cleanup.FieldFormatterCleanups;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.database.shared.DBMSType;
 import org.jabref.model.database.shared.DatabaseNotSupportedException;
 import org.jabref.model.entry.BibEntry;
@@ -29,6 +32,7 @@ import org.jabref.model.metadata.MetaData;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.testutils.category.DatabaseTest;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -187,6 +191,70 @@ public class DBMSSynchronizerTest {
         assertEquals(bibDatabase.getEntries(), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    public void testSynchronizeLocalDatabaseWithSeveralChanges() throws OfflineLockException, SQLException {
+        BibEntry updatedEntry = getBibEntryExample(1);
+        BibEntry removedEntry = getBibEntryExample(2);
+        BibEntry unchangedEntry = getBibEntryExample(3);
+        bibDatabase.insertEntries(updatedEntry, removedEntry, unchangedEntry);
+
+        BibEntry modifiedEntry = getBibEntryExample(1);
+        modifiedEntry.setField(StandardField.YEAR, "2019");
+        dbmsProcessor.updateEntry(modifiedEntry);
+        dbmsProcessor.removeEntry(removedEntry);
+        dbmsProcessor.insertEntry(getBibEntryExample(4));
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(dbmsProcessor.getSharedEntries(), bibDatabase.getEntries());
+        assertEquals(Optional.of("2019"), updatedEntry.getField(StandardField.YEAR));
+    }
+
+    @Test
+    public void testPullChangesAppliesLoggedChanges() throws OfflineLockException, SQLException {
+        BibEntry updatedEntry = getBibEntryExample(1);
+        BibEntry removedEntry = getBibEntryExample(2);
+        bibDatabase.insertEntries(updatedEntry, removedEntry);
+
+        // changes of another client
+        BibEntry modifiedEntry = getBibEntryExample(1);
+        modifiedEntry.setField(StandardField.YEAR, "2019");
+        dbmsProcessor.updateEntry(modifiedEntry);
+        dbmsProcessor.removeEntry(removedEntry);
+        dbmsProcessor.insertEntry(getBibEntryExample(3));
+
+        dbmsSynchronizer.pullChanges(dbmsProcessor.getCurrentChangeSequence());
+
+        assertEquals(dbmsProcessor.getSharedEntries(), bibDatabase.getEntries());
+        assertEquals(Optional.of("2019"), updatedEntry.getField(StandardField.YEAR));
+    }
+
+    @Test
+    public void testSynchronizeLocalDatabaseReportsUpdatesByOneEvent() throws OfflineLockException, SQLException {
+        List<BibEntry> localEntries = Arrays.asList(getBibEntryExample(1), getBibEntryExample(2), getBibEntryExample(3));
+        bibDatabase.insertEntries(localEntries);
+        for (int index = 1; index <= localEntries.size(); index++) {
+            BibEntry modifiedEntry = getBibEntryExample(index);
+            modifiedEntry.setType(StandardEntryType.Article);
+            modifiedEntry.setField(StandardField.YEAR, "2019");
+            modifiedEntry.setField(StandardField.TITLE, "The micro processor" + index);
+            dbmsProcessor.updateEntry(modifiedEntry);
+        }
+        List<BibDatabaseContextChangedEvent> events = new ArrayList<>();
+        bibDatabase.registerListener(new Object() {
+            @Subscribe
+            public void listen(BibDatabaseContextChangedEvent event) {
+                events.add(event);
+            }
+        });
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(dbmsProcessor.getSharedEntries(), bibDatabase.getEntries());
+        assertEquals(1, events.size());
+        assertEquals(localEntries, ((EntriesChangedEvent) events.get(0)).getBibEntries());
+    }
+
     @Test
     public void testApplyMetaData() {
         BibEntry bibEntry = getBibEntryExample(1);
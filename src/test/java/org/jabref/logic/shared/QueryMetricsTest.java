@@ -0,0 +1,53 @@
+package org.jabref.logic.shared;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryMetricsTest {
+
+    private QueryMetrics queryMetrics;
+
+    @BeforeEach
+    void setUp() {
+        queryMetrics = new QueryMetrics();
+    }
+
+    @Test
+    void recordAggregatesExecutionsOfSameQuery() {
+        queryMetrics.record("SELECT 1", 1_000);
+        queryMetrics.record("SELECT 1", 3_000);
+        queryMetrics.record("SELECT 2", 5_000);
+
+        QueryMetrics.QueryStatistics statistics = queryMetrics.getStatistics().get("SELECT 1");
+        assertEquals(2, statistics.getCount());
+        assertEquals(Duration.ofNanos(4_000), statistics.getTotalTime());
+        assertEquals(Duration.ofNanos(2_000), statistics.getMeanTime());
+        assertEquals(Duration.ofNanos(3_000), statistics.getMaxTime());
+        assertEquals(2, queryMetrics.getStatistics().size());
+    }
+
+    @Test
+    void measureRecordsFailedExecutions() {
+        assertThrows(SQLException.class, () -> queryMetrics.measure("SELECT 1", () -> {
+            throw new SQLException();
+        }));
+
+        assertEquals(1, queryMetrics.getStatistics().get("SELECT 1").getCount());
+    }
+
+    @Test
+    void resetRemovesAllStatistics() {
+        queryMetrics.record("SELECT 1", 1_000);
+
+        queryMetrics.reset();
+
+        assertTrue(queryMetrics.getStatistics().isEmpty());
+    }
+}
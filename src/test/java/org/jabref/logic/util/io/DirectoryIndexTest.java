@@ -0,0 +1,62 @@
+package org.jabref.logic.util.io;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryIndexTest {
+
+    private Path rootDir;
+    private Path subDir;
+    private Path pdfFile;
+    private Path subPdfFile;
+    private DirectoryIndex index;
+
+    @BeforeEach
+    void setUp(@TempDir Path temporaryFolder) throws Exception {
+        rootDir = temporaryFolder.resolve("root");
+        subDir = Files.createDirectories(rootDir.resolve("sub"));
+        pdfFile = Files.createFile(rootDir.resolve("HipKro03.pdf"));
+        subPdfFile = Files.createFile(subDir.resolve("HipKro03 - Hello.pdf"));
+        Files.createFile(subDir.resolve("Other.pdf"));
+        index = DirectoryIndex.of(rootDir).get();
+    }
+
+    @Test
+    void findFilesStartingWithReturnsFilesOfAllSubdirectories() {
+        List<Path> files = index.findFilesStartingWith("HipKro03");
+        files.sort(null);
+
+        assertEquals(List.of(rootDir.relativize(pdfFile), rootDir.relativize(subPdfFile)), files);
+    }
+
+    @Test
+    void getFilesReturnsDirectChildren() {
+        assertEquals(Optional.of(List.of(pdfFile)), index.getFiles(rootDir));
+        assertEquals(Optional.of(List.of(subDir)), index.getSubdirectories(rootDir));
+    }
+
+    @Test
+    void getFilesOfDirectoryOutsideIndexReturnsEmpty() {
+        assertEquals(Optional.empty(), index.getFiles(rootDir.getParent()));
+    }
+
+    @Test
+    void ofNonExistingDirectoryReturnsEmpty() {
+        assertTrue(DirectoryIndex.of(rootDir.resolve("missing")).isEmpty());
+    }
+
+    @Test
+    void ofSameDirectoryReturnsSameIndex() {
+        assertSame(index, DirectoryIndex.of(subDir.getParent()).get());
+    }
+}
@@ -0,0 +1,30 @@
+package org.jabref.logic.util.strings;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StringSimilarityTest {
+
+    private final StringSimilarity similarity = new StringSimilarity();
+
+    @ParameterizedTest
+    @CsvSource({
+            "'', '', 0",
+            "abc, abc, 0",
+            "abc, ABC, 0",
+            "kitten, sitting, 2",
+            "kitten, sitting, 3",
+            "finmarchicus, glacialissss, 4",
+            "calanus, calunus, 1",
+            "abc, abcdef, 2",
+            "abc, '', 3"
+    })
+    void isEditDistanceIgnoreCaseAtMostAgreesWithEditDistance(String a, String b, int maxDistance) {
+        boolean expected = similarity.editDistanceIgnoreCase(a, b) <= maxDistance;
+
+        assertEquals(expected, similarity.isEditDistanceIgnoreCaseAtMost(a, b, maxDistance));
+        assertEquals(expected, similarity.isEditDistanceIgnoreCaseAtMost(b, a, maxDistance));
+    }
+}
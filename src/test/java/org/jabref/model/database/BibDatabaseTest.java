@@ -10,19 +10,23 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.model.database.event.EntriesChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntryEventSource;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.event.TestEventListener;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -72,6 +76,21 @@ public class BibDatabaseTest {
         assertFalse(database.containsEntryWithId(entry.getId()));
     }
 
+    @Test
+    public void removeEntriesRemovesOnlyGivenEntries() {
+        BibEntry firstEntry = new BibEntry();
+        BibEntry secondEntry = new BibEntry();
+        BibEntry equalEntry = new BibEntry();
+        database.insertEntries(firstEntry, secondEntry, equalEntry);
+
+        database.removeEntries(Arrays.asList(firstEntry, secondEntry), EntryEventSource.LOCAL);
+
+        assertEquals(1, database.getEntries().size());
+        assertSame(equalEntry, database.getEntries().get(0));
+        assertFalse(database.containsEntryWithId(firstEntry.getId()));
+        assertTrue(database.containsEntryWithId(equalEntry.getId()));
+    }
+
     @Test
     public void insertNullEntryThrowsException() {
         assertThrows(NullPointerException.class, () -> database.insertEntry(null));
@@ -200,6 +219,16 @@ public class BibDatabaseTest {
         assertEquals(expectedEntry, actualEntry);
     }
 
+    @Test
+    public void removeEntriesPostsRemovedEntryEvents() {
+        BibEntry expectedEntry = new BibEntry();
+        TestEventListener tel = new TestEventListener();
+        database.insertEntry(expectedEntry);
+        database.registerListener(tel);
+        database.removeEntries(Collections.singletonList(expectedEntry), EntryEventSource.LOCAL);
+        assertEquals(expectedEntry, tel.getRemovedEntry());
+    }
+
     @Test
     public void changingEntryPostsChangeEntryEvent() {
         BibEntry entry = new BibEntry();
@@ -356,4 +385,77 @@ public class BibDatabaseTest {
         database.setPreamble("Oh yeah!");
         assertEquals(Optional.of("Oh yeah!"), database.getPreamble());
     }
+
+    @Test
+    public void createSnapshotIsNotChangedByLaterModifications() {
+        BibEntry entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "title");
+        database.insertEntry(entry);
+        database.addString(new BibtexString("name", "content"));
+        database.setPreamble("preamble");
+
+        BibDatabaseSnapshot snapshot = database.createSnapshot(database.getEntries());
+        entry.setField(StandardField.TITLE, "changed title");
+        database.getStringByName("name").get().setContent("changed content");
+        database.setPreamble("changed preamble");
+
+        assertEquals(Optional.of("title"), snapshot.getEntries().get(0).getField(StandardField.TITLE));
+        assertEquals("content", snapshot.getStrings().get(0).getContent());
+        assertEquals(Optional.of("preamble"), snapshot.getPreamble());
+    }
+
+    @Test
+    public void createSnapshotIsConsistentIfDatabaseIsModifiedDuringEachAttempt() {
+        BibEntry first = new BibEntry().withField(StandardField.TITLE, "0");
+        BibEntry changing = new BibEntry() {
+            private int numberOfSnapshots;
+
+            @Override
+            public BibEntry getSnapshot() {
+                // Changes the database after the first entry has been copied, more often than retried without lock
+                numberOfSnapshots++;
+                if (numberOfSnapshots <= 10) {
+                    first.setField(StandardField.TITLE, String.valueOf(numberOfSnapshots));
+                    database.setPreamble(String.valueOf(numberOfSnapshots));
+                }
+                return super.getSnapshot();
+            }
+        };
+        database.insertEntries(first, changing);
+
+        BibDatabaseSnapshot snapshot = database.createSnapshot(List.of(first, changing));
+
+        assertEquals(Optional.of("10"), snapshot.getEntries().get(0).getField(StandardField.TITLE));
+        assertEquals(Optional.of("10"), snapshot.getPreamble());
+    }
+
+    @Test
+    public void updateEntriesPostsOneEventForAllChanges() {
+        BibEntry first = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "second");
+        database.insertEntries(first, second);
+        List<EntriesChangedEvent> events = new ArrayList<>();
+        database.registerListener(new Object() {
+            @Subscribe
+            public void listen(EntriesChangedEvent event) {
+                events.add(event);
+            }
+        });
+        TestEventListener listener = new TestEventListener();
+        database.registerListener(listener);
+
+        database.updateEntries(List.of(first, second), List.of(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2019"),
+                new BibEntry(StandardEntryType.Book).withField(StandardField.TITLE, "changed second")),
+                EntryEventSource.SHARED);
+
+        assertEquals(1, events.size());
+        assertEquals(List.of(first, second), events.get(0).getBibEntries());
+        assertEquals(4, events.get(0).getChanges().size());
+        assertNull(listener.getChangedEntry());
+        assertEquals(StandardEntryType.Article, first.getType());
+        assertEquals(Optional.of("2019"), first.getField(StandardField.YEAR));
+        assertEquals(Optional.empty(), first.getField(StandardField.TITLE));
+        assertEquals(Optional.of("changed second"), second.getField(StandardField.TITLE));
+    }
 }
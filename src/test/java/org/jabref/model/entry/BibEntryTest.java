@@ -1,21 +1,28 @@
 package org.jabref.model.entry;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class BibEntryTest {
 
@@ -138,4 +145,81 @@ public class BibEntryTest {
 
         assertEquals(new KeywordList(new Keyword("kw"), new Keyword("kw2"), new Keyword("kw3")), actual);
     }
+
+    @Test
+    public void registeredListenerReceivesFieldChange() {
+        FieldChangeCollector collector = new FieldChangeCollector();
+        entry.registerListener(collector);
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(1, collector.events.size());
+        assertEquals(StandardField.TITLE, collector.events.get(0).getField());
+    }
+
+    @Test
+    public void unregisteredListenerDoesNotReceiveFieldChange() {
+        FieldChangeCollector collector = new FieldChangeCollector();
+        entry.registerListener(collector);
+        entry.unregisterListener(collector);
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(0, collector.events.size());
+    }
+
+    @Test
+    public void eventBusRegisteredTwiceReceivesFieldChangeOnce() {
+        EventBus eventBus = new EventBus();
+        FieldChangeCollector collector = new FieldChangeCollector();
+        eventBus.register(collector);
+        entry.registerEventBus(eventBus);
+        entry.registerEventBus(eventBus);
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(1, collector.events.size());
+    }
+
+    @Test
+    public void databaseRelaysFieldChangeOfContainedEntry() {
+        BibDatabase database = new BibDatabase();
+        FieldChangeCollector collector = new FieldChangeCollector();
+        database.registerListener(collector);
+        database.insertEntry(entry);
+
+        entry.setField(StandardField.TITLE, "title");
+
+        assertEquals(1, collector.events.size());
+    }
+
+    @Test
+    public void getSnapshotIsReusedUntilEntryIsModified() {
+        entry.setField(StandardField.TITLE, "title");
+        BibEntry snapshot = entry.getSnapshot();
+
+        assertSame(snapshot, entry.getSnapshot());
+
+        entry.setField(StandardField.TITLE, "changed title");
+
+        assertNotSame(snapshot, entry.getSnapshot());
+        assertEquals(Optional.of("title"), snapshot.getField(StandardField.TITLE));
+        assertEquals(entry.getId(), snapshot.getId());
+    }
+
+    @Test
+    public void snapshotCannotBeModified() {
+        BibEntry snapshot = entry.getSnapshot();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.setField(StandardField.TITLE, "title"));
+    }
+
+    private static class FieldChangeCollector {
+        private final List<FieldChangedEvent> events = new ArrayList<>();
+
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            events.add(event);
+        }
+    }
 }
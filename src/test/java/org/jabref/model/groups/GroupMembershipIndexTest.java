@@ -0,0 +1,194 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.transformation.FilteredList;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryEventSource;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchMatcher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private GroupTreeNode root;
+    private BibEntry first;
+    private BibEntry second;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        first = new BibEntry().withField(StandardField.KEYWORDS, "A, B");
+        second = new BibEntry().withField(StandardField.KEYWORDS, "B");
+        database.insertEntry(first);
+        database.insertEntry(second);
+        index = new GroupMembershipIndex(database);
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+    }
+
+    private static AbstractGroup getKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+
+    @Test
+    void numberOfMatchesOfIndependentGroup() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("B", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(2, index.getNumberOfMatches(node));
+        assertEquals(2, index.getNumberOfMatches(root));
+    }
+
+    @Test
+    void numberOfMatchesFollowsAddedChangedAndRemovedEntries() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        assertEquals(1, index.getNumberOfMatches(node));
+
+        BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        database.insertEntry(third);
+        assertEquals(2, index.getNumberOfMatches(node));
+
+        second.setField(StandardField.KEYWORDS, "A, C");
+        assertEquals(3, index.getNumberOfMatches(node));
+
+        database.removeEntry(first);
+        assertEquals(List.of(second, third), index.getMatchedEntries(node));
+    }
+
+    @Test
+    void numberOfMatchesFollowsUpdatedEntries() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        assertEquals(1, index.getNumberOfMatches(node));
+
+        database.updateEntries(List.of(first, second), List.of(
+                new BibEntry().withField(StandardField.KEYWORDS, "B"),
+                new BibEntry().withField(StandardField.KEYWORDS, "A")),
+                EntryEventSource.SHARED);
+
+        assertEquals(List.of(second), index.getMatchedEntries(node));
+    }
+
+    @Test
+    void removedEntryIdIsReused() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        assertEquals(1, index.getNumberOfMatches(node));
+
+        database.removeEntry(first);
+        BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "C");
+        database.insertEntry(third);
+
+        assertEquals(0, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    void refiningGroupIsIntersectedWithParent() {
+        GroupTreeNode parent = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode node = parent.addSubgroup(getKeywordGroup("B", GroupHierarchyType.REFINING));
+
+        assertEquals(List.of(first), index.getMatchedEntries(node));
+        assertEquals(node.calculateNumberOfMatches(database), index.getNumberOfMatches(node));
+    }
+
+    @Test
+    void includingGroupIsUnitedWithChildren() {
+        GroupTreeNode parent = root.addSubgroup(new ExplicitGroup("Explicit", GroupHierarchyType.INCLUDING, ','));
+        parent.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(List.of(first), index.getMatchedEntries(parent));
+        assertEquals(parent.calculateNumberOfMatches(database), index.getNumberOfMatches(parent));
+    }
+
+    @Test
+    void replacedGroupIsEvaluatedAgain() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        assertEquals(1, index.getNumberOfMatches(node));
+
+        node.setGroup(getKeywordGroup("B", GroupHierarchyType.INDEPENDENT), false, false, database.getEntries());
+
+        assertEquals(2, index.getNumberOfMatches(node));
+    }
+
+    @Test
+    void matcherCombinesGroups() {
+        GroupTreeNode groupA = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode groupB = root.addSubgroup(getKeywordGroup("B", GroupHierarchyType.INDEPENDENT));
+
+        SearchMatcher intersection = index.getMatcher(List.of(groupA, groupB), true);
+        SearchMatcher union = index.getMatcher(List.of(groupA, groupB), false);
+
+        assertTrue(intersection.isMatch(first));
+        assertFalse(intersection.isMatch(second));
+        assertTrue(union.isMatch(first));
+        assertTrue(union.isMatch(second));
+    }
+
+    @Test
+    void matcherFollowsChangedEntries() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        SearchMatcher matcher = index.getMatcher(List.of(node), true);
+        assertFalse(matcher.isMatch(second));
+
+        second.setField(StandardField.KEYWORDS, "A");
+        BibEntry third = new BibEntry().withField(StandardField.KEYWORDS, "A");
+        database.insertEntry(third);
+
+        assertTrue(matcher.isMatch(second));
+        assertTrue(matcher.isMatch(third));
+        assertFalse(matcher.isMatch(new BibEntry().withField(StandardField.KEYWORDS, "A")));
+    }
+
+    @Test
+    void entryChangedOutOfGroupLeavesFilteredList() {
+        GroupTreeNode node = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        SearchMatcher matcher = index.getMatcher(List.of(node), false);
+        FilteredList<BibEntry> entriesFiltered = new FilteredList<>(database.getEntries(), matcher::isMatch);
+        assertEquals(List.of(first), entriesFiltered);
+
+        // The filtered list tests the entry before the index is notified about the change
+        first.setField(StandardField.KEYWORDS, "B");
+        assertEquals(List.of(), entriesFiltered);
+
+        first.setField(StandardField.KEYWORDS, "A");
+        assertEquals(List.of(first), entriesFiltered);
+    }
+
+    @Test
+    void matchingGroupsFollowChangedEntriesAndGroups() {
+        GroupTreeNode groupA = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode groupB = root.addSubgroup(getKeywordGroup("B", GroupHierarchyType.INDEPENDENT));
+        assertEquals(root.getMatchingGroups(second), index.getMatchingGroups(root, second));
+
+        second.setField(StandardField.KEYWORDS, "A");
+        assertEquals(List.of(root, groupA), index.getMatchingGroups(root, second));
+
+        groupB.setGroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT), false, false, database.getEntries());
+        index.listen(new GroupUpdatedEvent(new MetaData()));
+        assertEquals(List.of(root, groupA, groupB), index.getMatchingGroups(root, second));
+    }
+
+    @Test
+    void matchingGroupsOfEntryWhileItIsChanged() {
+        GroupTreeNode groupA = root.addSubgroup(getKeywordGroup("A", GroupHierarchyType.INDEPENDENT));
+        assertEquals(List.of(root), index.getMatchingGroups(root, second));
+        List<List<GroupTreeNode>> matchingGroups = new ArrayList<>();
+        second.getFieldsObservable().addListener((InvalidationListener) observable ->
+                matchingGroups.add(index.getMatchingGroups(root, second)));
+
+        second.setField(StandardField.KEYWORDS, "A");
+
+        assertEquals(List.of(List.of(root, groupA)), matchingGroups);
+    }
+}
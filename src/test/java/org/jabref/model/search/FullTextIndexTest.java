@@ -0,0 +1,136 @@
+package org.jabref.model.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FullTextIndexTest {
+
+    private BibDatabase database;
+    private FullTextIndex index;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        entry = new BibEntry();
+        entry.setField(StandardField.TITLE, "Marine {\\\"O}kosysteme");
+        entry.setField(StandardField.AUTHOR, "Shields, Mary-Ann");
+        database.insertEntry(entry);
+        index = new FullTextIndex(database);
+    }
+
+    @Test
+    void findsEntryByPartOfToken() {
+        assertEquals(Optional.of(Set.of(entry)), index.getCandidates(List.of("arin")));
+    }
+
+    @Test
+    void findsEntryByLatexFreeContent() {
+        assertEquals(Optional.of(Set.of(entry)), index.getCandidates(List.of("ökosys")));
+    }
+
+    @Test
+    void findsEntryByWordsInDifferentFields() {
+        assertEquals(Optional.of(Set.of(entry)), index.getCandidates(List.of("marine", "shields")));
+    }
+
+    @Test
+    void findsEntryByWordSpanningSeveralTokens() {
+        assertEquals(Optional.of(Set.of(entry)), index.getCandidates(List.of("ds, mary-a")));
+    }
+
+    @Test
+    void enclosedTokenHasToMatchWholeToken() {
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates(List.of("s, mar-ann")));
+    }
+
+    @Test
+    void noCandidatesIfOneWordIsMissing() {
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates(List.of("marine", "unknown")));
+    }
+
+    @Test
+    void wordsWithoutLettersOrDigitsDoNotRestrictEntries() {
+        assertEquals(Optional.empty(), index.getCandidates(List.of("-")));
+    }
+
+    @Test
+    void addedEntryIsIndexed() {
+        BibEntry otherEntry = new BibEntry();
+        otherEntry.setField(StandardField.TITLE, "Marine biology");
+        database.insertEntry(otherEntry);
+
+        assertEquals(Optional.of(Set.of(entry, otherEntry)), index.getCandidates(List.of("marine")));
+    }
+
+    @Test
+    void removedEntryIsNotFound() {
+        database.removeEntry(entry);
+
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates(List.of("marine")));
+    }
+
+    @Test
+    void changedFieldIsReindexed() {
+        entry.setField(StandardField.TITLE, "Deep sea");
+
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates(List.of("marine")));
+        assertEquals(Optional.of(Set.of(entry)), index.getCandidates(List.of("deep")));
+    }
+
+    @Test
+    void tokenOfOtherFieldIsKeptIfFieldIsCleared() {
+        entry.setField(StandardField.NOTE, "Shields");
+        entry.clearField(StandardField.AUTHOR);
+
+        assertEquals(Optional.of(Set.of(entry)), index.getCandidates(List.of("shields")));
+        assertEquals(Optional.of(Collections.emptySet()), index.getCandidates(List.of("mary")));
+    }
+
+    @Test
+    void candidatesAreComparedByIdentity() {
+        BibEntry equalEntry = (BibEntry) entry.clone();
+
+        Set<BibEntry> candidates = index.getCandidates(List.of("marine")).get();
+
+        assertTrue(candidates.contains(entry));
+        assertFalse(candidates.contains(equalEntry));
+    }
+
+    @Test
+    void modificationCountChangesOnFieldChange() {
+        long modificationCount = index.getModificationCount();
+
+        entry.setField(StandardField.YEAR, "2001");
+
+        assertNotEquals(modificationCount, index.getModificationCount());
+    }
+
+    @Test
+    void entryIsNotUpToDateWhileItIsChanged() {
+        List<Boolean> upToDate = new ArrayList<>();
+        entry.getFieldsObservable().addListener((InvalidationListener) observable -> upToDate.add(index.isUpToDate(entry)));
+
+        entry.setField(StandardField.YEAR, "2001");
+
+        assertEquals(List.of(false), upToDate);
+        assertTrue(index.isUpToDate(entry));
+    }
+}
@@ -0,0 +1,84 @@
+package org.jabref.model.search.rules;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GrammarBasedSearchRuleTest {
+
+    @Test
+    void applyRuleMatchesCompiledQuery() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+        String query = "author = shields and (title = marine or not year = 2001)";
+        assertTrue(searchRule.validateSearchStrings(query));
+
+        assertTrue(searchRule.applyRule(query, makeEntry("Shields", "Marine", "2001")));
+        assertTrue(searchRule.applyRule(query, makeEntry("Shields", "Forest", "2002")));
+        assertFalse(searchRule.applyRule(query, makeEntry("Shields", "Forest", "2001")));
+        assertFalse(searchRule.applyRule(query, makeEntry("Miller", "Marine", "2001")));
+    }
+
+    @Test
+    void applyRuleSearchesEntryType() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+        String query = "entrytype = article";
+        assertTrue(searchRule.validateSearchStrings(query));
+
+        assertTrue(searchRule.applyRule(query, makeEntry("Shields", "Marine", "2001")));
+        assertFalse(searchRule.applyRule(query, new BibEntry(StandardEntryType.Book)));
+    }
+
+    @Test
+    void applyRuleWithRegularExpressionForField() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, true);
+        String query = "ti.*|ye.* == \"20[0-9]+\"";
+        assertTrue(searchRule.validateSearchStrings(query));
+
+        assertTrue(searchRule.applyRule(query, makeEntry("Shields", "Marine", "2001")));
+        assertFalse(searchRule.applyRule(query, makeEntry("2001", "Marine", "1999")));
+    }
+
+    @Test
+    void invalidRegularExpressionOnlyFailsItsComparison() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, true);
+        String query = "author = shields or title = \"[\"";
+        assertTrue(searchRule.validateSearchStrings(query));
+
+        assertTrue(searchRule.applyRule(query, makeEntry("Shields", "Marine", "2001")));
+        assertFalse(searchRule.applyRule(query, makeEntry("Miller", "Marine", "2001")));
+    }
+
+    @Test
+    void applyRuleInParallelMatchesSequentialResult() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+        String query = "title = \"title 1\" and not year = 2000";
+        assertTrue(searchRule.validateSearchStrings(query));
+        List<BibEntry> entries = IntStream.range(0, 1000)
+                                          .mapToObj(i -> makeEntry("Author " + i, "Title " + i, String.valueOf(2000 + (i % 2))))
+                                          .collect(Collectors.toList());
+
+        List<BibEntry> sequential = entries.stream().filter(entry -> searchRule.applyRule(query, entry)).collect(Collectors.toList());
+        List<BibEntry> parallel = entries.parallelStream().filter(entry -> searchRule.applyRule(query, entry)).collect(Collectors.toList());
+
+        assertEquals(sequential, parallel);
+        assertEquals(56, sequential.size());
+    }
+
+    private static BibEntry makeEntry(String author, String title, String year) {
+        BibEntry entry = new BibEntry(StandardEntryType.Article);
+        entry.setField(StandardField.AUTHOR, author);
+        entry.setField(StandardField.TITLE, title);
+        entry.setField(StandardField.YEAR, year);
+        return entry;
+    }
+}